@@ -26,7 +26,10 @@
 package net.runelite.cache;
 
 import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import net.runelite.cache.region.Location;
 import net.runelite.cache.region.Position;
 import net.runelite.cache.region.Region;
@@ -35,12 +38,34 @@ import net.runelite.cache.util.KeyProvider;
 import net.runelite.cache.util.XteaKeyManager;
 import org.apache.commons.cli.*;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 /**
  * Collision map dumper
@@ -50,8 +75,18 @@ import java.util.Collection;
  * and replace "mapsquare" with "region" and "key" with "keys".
  * Compile the client with "mvn install -f pom.xml -DskipTests -U".
  * Run "java net.runelite.cache.CollisionMapDumper --cachedir ../cache --xteapath ../keys.json --outputdir ../output"
+ * <p>
+ * Add "--zip" to write the shortest path plugin's collision-map.zip directly, and "--incremental" to only
+ * rebuild the regions whose map data changed since the zip in the output directory was written.
  */
 public class CollisionMapDumper {
+    private static final String ZIP_NAME = "collision-map.zip";
+    private static final String FINGERPRINTS_NAME = "collision-map.crc";
+    // zip entry times are stored as local DOS time, so use a local time to get the same bytes in every time zone
+    private static final long ZIP_ENTRY_TIME = LocalDateTime.of(1980, 1, 1, 0, 0)
+            .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+    private final Store store;
     private final RegionLoader regionLoader;
     private final ObjectManager objectManager;
 
@@ -60,6 +95,7 @@ public class CollisionMapDumper {
     }
 
     public CollisionMapDumper(Store store, RegionLoader regionLoader) {
+        this.store = store;
         this.regionLoader = regionLoader;
         this.objectManager = new ObjectManager(store);
     }
@@ -69,6 +105,8 @@ public class CollisionMapDumper {
         options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
         options.addOption(Option.builder().longOpt("xteapath").hasArg().required().build());
         options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+        options.addOption(Option.builder().longOpt("zip").desc("write " + ZIP_NAME + " instead of one file per region").build());
+        options.addOption(Option.builder().longOpt("incremental").desc("reuse unchanged regions of an existing " + ZIP_NAME).build());
 
         CommandLineParser parser = new DefaultParser();
         CommandLine cmd;
@@ -93,7 +131,7 @@ public class CollisionMapDumper {
         File outDir = new File(outputDirectory);
         outDir.mkdirs();
 
-        try (Store store = new Store(base)) {
+        try (Store store = new Store(new DiskStorage(base, true))) {
             store.load();
 
             CollisionMapDumper dumper = new CollisionMapDumper(store, xteaKeyManager);
@@ -101,18 +139,64 @@ public class CollisionMapDumper {
 
             Collection<Region> regions = dumper.regionLoader.getRegions();
 
-            int n = 0;
-            int total = regions.size();
+            if (!cmd.hasOption("zip")) {
+                AtomicInteger n = new AtomicInteger();
+                dumper.makeCollisionMaps(regions).forEach((name, buf) -> {
+                    try (FileOutputStream out = new FileOutputStream(new File(outDir, name))) {
+                        out.write(buf, 0, buf.length);
+                        System.out.println("Exporting region " + name + " (" + n.incrementAndGet() + " / " + regions.size() + ")");
+                    } catch (IOException e) {
+                        System.out.println("Unable to write compressed output bytes for " + name + ". " + e);
+                    }
+                });
+                return;
+            }
+
+            File zipFile = new File(outDir, ZIP_NAME);
+            File fingerprintsFile = new File(outDir, FINGERPRINTS_NAME);
 
+            Map<String, Long> fingerprints = new TreeMap<>();
             for (Region region : regions) {
-                dumper.makeCollisionMap(region, outputDirectory, ++n, total);
+                fingerprints.put(name(region), dumper.fingerprint(region));
+            }
+
+            // a region without collision has no zip entry, so reuse is decided by the fingerprints alone
+            Set<String> unchanged = new HashSet<>();
+            Map<String, byte[]> previous = new HashMap<>();
+            if (cmd.hasOption("incremental") && zipFile.exists() && fingerprintsFile.exists()) {
+                Map<String, Long> previousFingerprints = readFingerprints(fingerprintsFile);
+                Map<String, byte[]> previousMaps = readZip(zipFile);
+                fingerprints.forEach((name, fingerprint) -> {
+                    if (fingerprint.equals(previousFingerprints.get(name))) {
+                        unchanged.add(name);
+                        byte[] map = previousMaps.get(name);
+                        if (map != null) {
+                            previous.put(name, map);
+                        }
+                    }
+                });
             }
+
+            List<Region> changed = new ArrayList<>();
+            for (Region region : regions) {
+                if (!unchanged.contains(name(region))) {
+                    changed.add(region);
+                }
+            }
+            System.out.println("Building " + changed.size() + " of " + regions.size() + " regions");
+
+            SortedMap<String, byte[]> maps = new TreeMap<>(previous);
+            maps.putAll(dumper.makeCollisionMaps(changed));
+
+            writeZip(zipFile, maps);
+            writeFingerprints(fingerprintsFile, fingerprints);
+            System.out.println("Wrote " + maps.size() + " regions to " + zipFile);
         }
     }
 
     public CollisionMapDumper load() throws IOException {
         objectManager.load();
-        regionLoader.loadRegions();
+        regionLoader.loadRegions(true);
         regionLoader.calculateBounds();
 
         return this;
@@ -122,7 +206,113 @@ public class CollisionMapDumper {
         return objectManager.getObject(id);
     }
 
-    private void makeCollisionMap(Region region, String outputDirectory, int n, int total) {
+    /**
+     * Builds the collision maps of the given regions on the common fork join pool.
+     *
+     * @return the compressed collision map of each region by region name, regions without collision data are left out
+     */
+    public SortedMap<String, byte[]> makeCollisionMaps(Collection<Region> regions) {
+        SortedMap<String, byte[]> maps = new ConcurrentSkipListMap<>();
+        regions.parallelStream().forEach(region -> {
+            byte[] buf = makeCollisionMap(region);
+            if (buf.length > 0) {
+                maps.put(name(region), buf);
+            }
+        });
+        return maps;
+    }
+
+    /**
+     * Hashes everything the collision map of a region is built from: the map and location archives of the region
+     * and its neighbours, the decoded locations (which are missing without XTEA keys), the object definitions and
+     * the exclusions.
+     */
+    public long fingerprint(Region region) {
+        Index maps = store.getIndex(IndexType.MAPS);
+        Archive objects = store.getIndex(IndexType.CONFIGS).getArchive(ConfigType.OBJECT.getId());
+
+        // object crc, id and tile flag per exclusion, then up to three ints per neighbouring region
+        ByteBuffer buf = ByteBuffer.allocate(Integer.BYTES + (Integer.BYTES + 1) * Exclusion.values().length + 9 * 3 * Integer.BYTES);
+        buf.putInt(objects.getCrc());
+        for (Exclusion exclusion : Exclusion.values()) {
+            buf.putInt(exclusion.id);
+            buf.put((byte) (exclusion.tile ? 1 : 0));
+        }
+
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                int rx = region.getRegionX() + dx;
+                int ry = region.getRegionY() + dy;
+                Region neighbor = regionLoader.findRegionForRegionCoordinates(rx, ry);
+                if (neighbor == null) {
+                    buf.putInt(-1);
+                    continue;
+                }
+
+                Archive map = maps.findArchiveByName("m" + rx + "_" + ry);
+                Archive land = maps.findArchiveByName("l" + rx + "_" + ry);
+                buf.putInt(map == null ? 0 : map.getCrc());
+                buf.putInt(land == null ? 0 : land.getCrc());
+                buf.putInt(neighbor.getLocations().size());
+            }
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), 0, buf.position());
+        return crc.getValue();
+    }
+
+    private static String name(Region region) {
+        return region.getRegionX() + "_" + region.getRegionY();
+    }
+
+    /**
+     * Writes the collision maps in the format {@code SplitFlagMap.fromResources} reads. Entries are written in name
+     * order with a fixed time, so the same maps always produce the same zip.
+     */
+    public static void writeZip(File file, SortedMap<String, byte[]> maps) throws IOException {
+        File tmp = new File(file.getPath() + ".tmp");
+        try (ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            for (Map.Entry<String, byte[]> entry : maps.entrySet()) {
+                ZipEntry zipEntry = new ZipEntry(entry.getKey());
+                zipEntry.setTime(ZIP_ENTRY_TIME);
+                out.putNextEntry(zipEntry);
+                out.write(entry.getValue());
+                out.closeEntry();
+            }
+        }
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Map<String, byte[]> readZip(File file) throws IOException {
+        Map<String, byte[]> maps = new HashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                maps.put(entry.getName(), in.readAllBytes());
+            }
+        }
+        return maps;
+    }
+
+    private static Map<String, Long> readFingerprints(File file) throws IOException {
+        Map<String, Long> fingerprints = new HashMap<>();
+        for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+            String[] parts = line.split(" ");
+            if (parts.length == 2) {
+                fingerprints.put(parts[0], Long.parseLong(parts[1], 16));
+            }
+        }
+        return fingerprints;
+    }
+
+    private static void writeFingerprints(File file, Map<String, Long> fingerprints) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        fingerprints.forEach((name, fingerprint) -> sb.append(name).append(' ').append(Long.toHexString(fingerprint)).append('\n'));
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] makeCollisionMap(Region region) {
         int baseX = region.getBaseX();
         int baseY = region.getBaseY();
 
@@ -138,17 +328,7 @@ public class CollisionMapDumper {
         addNeighborCollisions(flagMap, region, 1, 0);
         addNeighborCollisions(flagMap, region, 1, 1);
 
-        String name = region.getRegionX() + "_" + region.getRegionY();
-
-        byte[] buf = flagMap.toBytes();
-        if (buf.length > 0) {
-            try (FileOutputStream out = new FileOutputStream(outputDirectory + "/" + name)) {
-                out.write(buf, 0, buf.length);
-                System.out.println("Exporting region " + name + " (" + n + " / " + total + ")");
-            } catch (IOException e) {
-                System.out.println("Unable to write compressed output bytes for " + name + ". " + e);
-            }
-        }
+        return flagMap.toBytes();
     }
 
     private void addNeighborCollisions(FlagMap flagMap, Region region, int dx, int dy) {
@@ -28,24 +28,25 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.exporters.ItemExporter;
 import net.runelite.cache.definitions.loaders.ItemLoader;
 import net.runelite.cache.definitions.providers.ItemProvider;
 import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.IndexedArchiveFiles;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionStore;
 import net.runelite.cache.util.IDClass;
 
 public class ItemManager implements ItemProvider
 {
 	private final Store store;
-	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private final ItemLoader loader = new ItemLoader();
+	private DefinitionStore<ItemDefinition> items;
+	private volatile boolean linked;
 
 	public ItemManager(Store store)
 	{
@@ -54,28 +55,53 @@ public class ItemManager implements ItemProvider
 
 	public void load() throws IOException
 	{
-		ItemLoader loader = new ItemLoader();
+		loadLazy();
+		items.decodeAll();
+	}
 
+	/**
+	 * Indexes the item archive without decoding it. Each definition is decoded the first time it is looked up.
+	 */
+	public void loadLazy() throws IOException
+	{
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.ITEM.getId());
 
 		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		IndexedArchiveFiles files = archive.getIndexedFiles(archiveData, null);
+		items = new DefinitionStore<>(files, this::decode);
+	}
 
-		for (FSFile f : files.getFiles())
+	/**
+	 * Links noted, bought and placeholder items to their templates. After loading lazily this only links the
+	 * items decoded so far, the rest are linked as they are decoded.
+	 */
+	public void link()
+	{
+		if (items == null)
 		{
-			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
-			items.put(f.getFileId(), def);
+			return;
+		}
+
+		// set before the snapshot, so an item decoded concurrently is linked at least once. Linking only copies
+		// from the templates, so linking an item twice is harmless
+		linked = true;
+		List<ItemDefinition> decoded = items.getDecoded();
+		for (ItemDefinition oc : decoded)
+		{
+			link(oc);
 		}
 	}
 
-	public void link()
+	private ItemDefinition decode(int id, byte[] data)
 	{
-		for (ItemDefinition oc : items.values())
+		ItemDefinition def = loader.load(id, data);
+		if (linked)
 		{
-			link(oc);
+			link(def);
 		}
+		return def;
 	}
 
 	private void link(ItemDefinition item)
@@ -96,19 +122,19 @@ public class ItemManager implements ItemProvider
 
 	public Collection<ItemDefinition> getItems()
 	{
-		return Collections.unmodifiableCollection(items.values());
+		return items == null ? Collections.emptyList() : items.getAll();
 	}
 
 	public ItemDefinition getItem(int itemId)
 	{
-		return items.get(itemId);
+		return items == null ? null : items.get(itemId);
 	}
 
 	public void export(File out) throws IOException
 	{
 		out.mkdirs();
 
-		for (ItemDefinition def : items.values())
+		for (ItemDefinition def : getItems())
 		{
 			ItemExporter exporter = new ItemExporter(def);
 
@@ -123,7 +149,7 @@ public class ItemManager implements ItemProvider
 		try (IDClass ids = IDClass.create(java, "ItemID");
 			IDClass nulls = IDClass.create(java, "NullItemID"))
 		{
-			for (ItemDefinition def : items.values())
+			for (ItemDefinition def : getItems())
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
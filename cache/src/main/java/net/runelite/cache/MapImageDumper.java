@@ -30,11 +30,14 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
@@ -56,6 +59,7 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import net.runelite.cache.item.RSTextureProvider;
 import net.runelite.cache.models.JagexColor;
 import net.runelite.cache.region.Location;
@@ -160,6 +164,7 @@ public class MapImageDumper
 		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("xteapath").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("tilesize").hasArg().desc("write each plane as PNG tiles of this many pixels").build());
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -177,6 +182,7 @@ public class MapImageDumper
 		final String cacheDirectory = cmd.getOptionValue("cachedir");
 		final String xteaJSONPath = cmd.getOptionValue("xteapath");
 		final String outputDirectory = cmd.getOptionValue("outputdir");
+		final int tileSize = cmd.hasOption("tilesize") ? Integer.parseInt(cmd.getOptionValue("tilesize")) : 0;
 
 		XteaKeyManager xteaKeyManager = new XteaKeyManager();
 		try (FileInputStream fin = new FileInputStream(xteaJSONPath))
@@ -188,7 +194,7 @@ public class MapImageDumper
 		File outDir = new File(outputDirectory);
 		outDir.mkdirs();
 
-		try (Store store = new Store(base))
+		try (Store store = new Store(new DiskStorage(base, true)))
 		{
 			store.load();
 
@@ -197,6 +203,16 @@ public class MapImageDumper
 
 			for (int i = 0; i < Region.Z; ++i)
 			{
+				if (tileSize > 0)
+				{
+					File tileDir = new File(outDir, "img-" + i);
+					tileDir.mkdirs();
+					int tiles = dumper.drawMapTiles(i, tileSize, (tileX, tileY, tile) ->
+						ImageIO.write(tile, "png", new File(tileDir, tileX + "_" + tileY + ".png")));
+					log.info("Wrote {} tiles to {}", tiles, tileDir);
+					continue;
+				}
+
 				BufferedImage image = dumper.drawMap(i);
 
 				File imageFile = new File(outDir, "img-" + i + ".png");
@@ -269,6 +285,137 @@ public class MapImageDumper
 		return image;
 	}
 
+	/**
+	 * Renders a plane as square tiles of {@code tileSize} pixels instead of one image. Tiles are rendered in
+	 * parallel and handed to {@code consumer} as soon as they are done, so only the tiles currently being
+	 * rendered are held in memory. Tile (0, 0) is the top left of the image {@link #drawMap(int)} would
+	 * produce, and tiles without any region are skipped.
+	 *
+	 * @param tileSize tile size in pixels, a multiple of the pixel size of a region
+	 * @return the number of tiles rendered
+	 */
+	public int drawMapTiles(int z, int tileSize, TileConsumer consumer) throws IOException
+	{
+		final int regionSize = Region.X * MAP_SCALE;
+		if (tileSize <= 0 || tileSize % regionSize != 0)
+		{
+			throw new IllegalArgumentException("tile size must be a multiple of " + regionSize);
+		}
+
+		if (TILE_SHAPE_2D == null)
+		{
+			generateTileShapes();
+		}
+
+		final int minX = regionLoader.getLowestX().getBaseX();
+		final int maxX = regionLoader.getHighestX().getBaseX() + Region.X;
+		final int minY = regionLoader.getLowestY().getBaseY();
+		final int maxY = regionLoader.getHighestY().getBaseY() + Region.Y;
+		final int tilesX = ((maxX - minX) * MAP_SCALE + tileSize - 1) / tileSize;
+		final int tilesY = ((maxY - minY) * MAP_SCALE + tileSize - 1) / tileSize;
+
+		log.info("Map tiles: {} x {} tiles of {}px", tilesX, tilesY, tileSize);
+
+		final List<Region> regions = new ArrayList<>(regionLoader.getRegions());
+		final AtomicInteger rendered = new AtomicInteger();
+		try
+		{
+			IntStream.range(0, tilesX * tilesY).parallel().forEach(i ->
+			{
+				int tileX = i % tilesX;
+				int tileY = i / tilesX;
+				BufferedImage tile = drawMapTile(regions, z, tileSize, tileX, tileY);
+				if (tile == null)
+				{
+					return;
+				}
+
+				try
+				{
+					consumer.accept(tileX, tileY, tile);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+				rendered.incrementAndGet();
+			});
+		}
+		catch (UncheckedIOException ex)
+		{
+			throw ex.getCause();
+		}
+		return rendered.get();
+	}
+
+	private BufferedImage drawMapTile(List<Region> regions, int z, int tileSize, int tileX, int tileY)
+	{
+		// tile origin in map squares, relative to the origin of the full image
+		final int originX = tileX * tileSize / MAP_SCALE;
+		final int originY = tileY * tileSize / MAP_SCALE;
+		final int size = tileSize / MAP_SCALE;
+
+		// regions inside the tile, and regions next to it whose objects and icons can reach into it
+		List<Region> inside = new ArrayList<>();
+		List<Region> nearby = new ArrayList<>();
+		for (Region region : regions)
+		{
+			int drawBaseX = drawBaseX(region, originX);
+			int drawBaseY = drawBaseY(region, originY);
+			if (drawBaseX >= 0 && drawBaseX < size && drawBaseY >= 0 && drawBaseY < size)
+			{
+				inside.add(region);
+			}
+			if (drawBaseX >= -Region.X && drawBaseX < size + Region.X && drawBaseY >= -Region.Y && drawBaseY < size + Region.Y)
+			{
+				nearby.add(region);
+			}
+		}
+
+		if (inside.isEmpty())
+		{
+			return null;
+		}
+
+		BufferedImage image = new BufferedImage(tileSize, tileSize, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+		for (Region region : inside)
+		{
+			drawMap(image, drawBaseX(region, originX), drawBaseY(region, originY), z, region);
+		}
+		for (Region region : nearby)
+		{
+			drawObjects(image, drawBaseX(region, originX), drawBaseY(region, originY), region, z);
+		}
+		for (Region region : nearby)
+		{
+			drawMapIcons(image, drawBaseX(region, originX), drawBaseY(region, originY), region, z);
+		}
+		drawMapLabels(image, z, originX, originY);
+
+		return image;
+	}
+
+	private int drawBaseX(Region region, int originX)
+	{
+		return region.getBaseX() - regionLoader.getLowestX().getBaseX() - originX;
+	}
+
+	private int drawBaseY(Region region, int originY)
+	{
+		// top most y is 0, but the top most region has the greatest y, so invert
+		return regionLoader.getHighestY().getBaseY() - region.getBaseY() - originY;
+	}
+
+	@FunctionalInterface
+	public interface TileConsumer
+	{
+		/**
+		 * Called from the rendering threads, possibly concurrently.
+		 */
+		void accept(int tileX, int tileY, BufferedImage tile) throws IOException;
+	}
+
 	private void drawNeighborObjects(BufferedImage image, int rx, int ry, int dx, int dy, int z)
 	{
 		Region neighbor = regionLoader.findRegionForRegionCoordinates(rx + dx, ry + dy);
@@ -1582,6 +1729,11 @@ public class MapImageDumper
 	}
 
 	private void drawMapLabels(BufferedImage image, int z)
+	{
+		drawMapLabels(image, z, 0, 0);
+	}
+
+	private void drawMapLabels(BufferedImage image, int z, int originX, int originY)
 	{
 		if (!renderLabels)
 		{
@@ -1615,8 +1767,8 @@ public class MapImageDumper
 					SpriteDefinition sprite = sprites.findSpriteByArchiveName(fontSize.getName(), c);
 					if (sprite.getWidth() != 0 && sprite.getHeight() != 0)
 					{
-						int drawX = worldPosition.getX() - regionLoader.getLowestX().getBaseX();
-						int drawY = regionLoader.getHighestY().getBaseY() - worldPosition.getY() + Region.Y - 2;
+						int drawX = worldPosition.getX() - regionLoader.getLowestX().getBaseX() - originX;
+						int drawY = regionLoader.getHighestY().getBaseY() - worldPosition.getY() + Region.Y - 2 - originY;
 						blitGlyph(image,
 							(drawX * MAP_SCALE) + advance - (stringWidth / 2),
 							(drawY * MAP_SCALE) + ascent - (font.getAscent() / 2),
@@ -1767,7 +1919,7 @@ public class MapImageDumper
 
 	private void loadRegions() throws IOException
 	{
-		regionLoader.loadRegions();
+		regionLoader.loadRegions(true);
 		regionLoader.calculateBounds();
 
 		log.debug("North most region: {}", regionLoader.getLowestY().getBaseY());
@@ -1842,7 +1994,10 @@ public class MapImageDumper
 
 	private void blitIcon(BufferedImage dst, int x, int y, SpriteDefinition sprite, float scale)
 	{
-		sprite.normalize(); //Sprites are required to be normalized to have small sprites draw correctly
+		synchronized (sprite)
+		{
+			sprite.normalize(); //Sprites are required to be normalized to have small sprites draw correctly
+		}
 		x += sprite.getOffsetX();
 		y += sprite.getOffsetY();
 		int displayHeight = (int) (sprite.getHeight() * scale);
@@ -1904,24 +2059,31 @@ public class MapImageDumper
 
 	private void blitGlyph(BufferedImage dst, int x, int y, int color, SpriteDefinition glyph)
 	{
+		// glyphs are shared between labels and tiles rendering in parallel, so color a copy
 		int[] pixels = glyph.getPixels();
+		int[] colorPixels = new int[pixels.length];
 		int[] shadowPixels = new int[pixels.length];
 		for (int i = 0; i < pixels.length; ++i)
 		{
 			if (pixels[i] != 0)
 			{
-				pixels[i] = color;
+				colorPixels[i] = color;
 				shadowPixels[i] = 0xFF000000;
 			}
 		}
-		SpriteDefinition shadow = new SpriteDefinition();
-		shadow.setPixels(shadowPixels);
-		shadow.setOffsetX(glyph.getOffsetX());
-		shadow.setOffsetY(glyph.getOffsetY());
-		shadow.setWidth(glyph.getWidth());
-		shadow.setHeight(glyph.getHeight());
 
-		blitGlyphIcon(dst, x + 1, y + 1, shadow);
-		blitGlyphIcon(dst, x, y, glyph);
+		blitGlyphIcon(dst, x + 1, y + 1, copyGlyph(glyph, shadowPixels));
+		blitGlyphIcon(dst, x, y, copyGlyph(glyph, colorPixels));
+	}
+
+	private static SpriteDefinition copyGlyph(SpriteDefinition glyph, int[] pixels)
+	{
+		SpriteDefinition copy = new SpriteDefinition();
+		copy.setPixels(pixels);
+		copy.setOffsetX(glyph.getOffsetX());
+		copy.setOffsetY(glyph.getOffsetY());
+		copy.setWidth(glyph.getWidth());
+		copy.setHeight(glyph.getHeight());
+		return copy;
 	}
 }
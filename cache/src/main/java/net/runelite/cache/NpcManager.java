@@ -28,23 +28,21 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.NpcDefinition;
 import net.runelite.cache.definitions.exporters.NpcExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
 import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.IndexedArchiveFiles;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionStore;
 import net.runelite.cache.util.IDClass;
 
 public class NpcManager
 {
 	private final Store store;
-	private final Map<Integer, NpcDefinition> npcs = new HashMap<>();
+	private DefinitionStore<NpcDefinition> npcs;
 
 	public NpcManager(Store store)
 	{
@@ -52,6 +50,15 @@ public class NpcManager
 	}
 
 	public void load() throws IOException
+	{
+		loadLazy();
+		npcs.decodeAll();
+	}
+
+	/**
+	 * Indexes the npc archive without decoding it. Each definition is decoded the first time it is looked up.
+	 */
+	public void loadLazy() throws IOException
 	{
 		NpcLoader loader = new NpcLoader();
 
@@ -62,30 +69,25 @@ public class NpcManager
 		loader.configureForRevision(archive.getRevision());
 
 		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
-
-		for (FSFile f : files.getFiles())
-		{
-			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
-			npcs.put(f.getFileId(), npc);
-		}
+		IndexedArchiveFiles files = archive.getIndexedFiles(archiveData, null);
+		npcs = new DefinitionStore<>(files, loader::load);
 	}
 
 	public Collection<NpcDefinition> getNpcs()
 	{
-		return Collections.unmodifiableCollection(npcs.values());
+		return npcs == null ? Collections.emptyList() : npcs.getAll();
 	}
 
 	public NpcDefinition get(int npcId)
 	{
-		return npcs.get(npcId);
+		return npcs == null ? null : npcs.get(npcId);
 	}
 
 	public void dump(File out) throws IOException
 	{
 		out.mkdirs();
 
-		for (NpcDefinition def : npcs.values())
+		for (NpcDefinition def : getNpcs())
 		{
 			NpcExporter exporter = new NpcExporter(def);
 
@@ -100,7 +102,7 @@ public class NpcManager
 		try (IDClass ids = IDClass.create(java, "NpcID");
 			IDClass nulls = IDClass.create(java, "NullNpcID"))
 		{
-			for (NpcDefinition def : npcs.values())
+			for (NpcDefinition def : getNpcs())
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
@@ -28,23 +28,21 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.definitions.exporters.ObjectExporter;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
 import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.IndexedArchiveFiles;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionStore;
 import net.runelite.cache.util.IDClass;
 
 public class ObjectManager
 {
 	private final Store store;
-	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private DefinitionStore<ObjectDefinition> objects;
 
 	public ObjectManager(Store store)
 	{
@@ -52,6 +50,15 @@ public class ObjectManager
 	}
 
 	public void load() throws IOException
+	{
+		loadLazy();
+		objects.decodeAll();
+	}
+
+	/**
+	 * Indexes the object archive without decoding it. Each definition is decoded the first time it is looked up.
+	 */
+	public void loadLazy() throws IOException
 	{
 		ObjectLoader loader = new ObjectLoader();
 
@@ -62,30 +69,25 @@ public class ObjectManager
 		loader.configureForRevision(archive.getRevision());
 
 		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
-
-		for (FSFile f : files.getFiles())
-		{
-			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
-			objects.put(f.getFileId(), def);
-		}
+		IndexedArchiveFiles files = archive.getIndexedFiles(archiveData, null);
+		objects = new DefinitionStore<>(files, loader::load);
 	}
 
 	public Collection<ObjectDefinition> getObjects()
 	{
-		return Collections.unmodifiableCollection(objects.values());
+		return objects == null ? Collections.emptyList() : objects.getAll();
 	}
 
 	public ObjectDefinition getObject(int id)
 	{
-		return objects.get(id);
+		return objects == null ? null : objects.get(id);
 	}
 
 	public void dump(File out) throws IOException
 	{
 		out.mkdirs();
 
-		for (ObjectDefinition def : objects.values())
+		for (ObjectDefinition def : getObjects())
 		{
 			ObjectExporter exporter = new ObjectExporter(def);
 
@@ -100,7 +102,7 @@ public class ObjectManager
 		try (IDClass ids = IDClass.create(java, "ObjectID");
 			IDClass nulls = IDClass.create(java, "NullObjectID"))
 		{
-			for (ObjectDefinition def : objects.values())
+			for (ObjectDefinition def : getObjects())
 			{
 				if ("null".equals(def.getName()))
 				{
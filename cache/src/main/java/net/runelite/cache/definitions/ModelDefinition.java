@@ -577,6 +577,43 @@ public class ModelDefinition
 		faceTextureUCoordinates = faceTextureVCoordinates = null;
 	}
 
+	/**
+	 * Copies the model so it can be resized, moved, recolored and retextured without changing this one. The
+	 * arrays those modify are copied, the rest are shared, and normals and texture coordinates are recomputed.
+	 */
+	public ModelDefinition copy()
+	{
+		ModelDefinition copy = new ModelDefinition();
+		copy.id = id;
+		copy.vertexCount = vertexCount;
+		copy.vertexX = vertexX == null ? null : vertexX.clone();
+		copy.vertexY = vertexY == null ? null : vertexY.clone();
+		copy.vertexZ = vertexZ == null ? null : vertexZ.clone();
+		copy.faceCount = faceCount;
+		copy.faceIndices1 = faceIndices1;
+		copy.faceIndices2 = faceIndices2;
+		copy.faceIndices3 = faceIndices3;
+		copy.faceTransparencies = faceTransparencies;
+		copy.faceColors = faceColors == null ? null : faceColors.clone();
+		copy.faceRenderPriorities = faceRenderPriorities;
+		copy.faceRenderTypes = faceRenderTypes;
+		copy.numTextureFaces = numTextureFaces;
+		copy.texIndices1 = texIndices1;
+		copy.texIndices2 = texIndices2;
+		copy.texIndices3 = texIndices3;
+		copy.texturePrimaryColors = texturePrimaryColors;
+		copy.faceTextures = faceTextures == null ? null : faceTextures.clone();
+		copy.faceZOffsets = faceZOffsets;
+		copy.textureCoords = textureCoords;
+		copy.textureRenderTypes = textureRenderTypes;
+		copy.packedVertexGroups = packedVertexGroups;
+		copy.packedTransparencyVertexGroups = packedTransparencyVertexGroups;
+		copy.priority = priority;
+		copy.animayaGroups = animayaGroups;
+		copy.animayaScales = animayaScales;
+		return copy;
+	}
+
 	public void resize(int var1, int var2, int var3)
 	{
 		for (int var4 = 0; var4 < this.vertexCount; ++var4)
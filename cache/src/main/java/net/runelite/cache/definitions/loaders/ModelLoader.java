@@ -2,39 +2,72 @@ package net.runelite.cache.definitions.loaders;
 
 import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.io.InputStream;
+import net.runelite.cache.models.ModelArena;
+import net.runelite.cache.models.ModelView;
 
 public class ModelLoader
 {
 	public ModelDefinition load(int modelId, byte[] b)
+	{
+		ModelDefinition def = decode(modelId, b, null);
+
+		def.computeNormals();
+		def.computeTextureUVCoordinates();
+		def.computeAnimationTables();
+
+		return def;
+	}
+
+	/**
+	 * Decodes a model into the buffers of {@code arena}, computing its normals and bounds along the way.
+	 * The returned view is only valid until the next model is decoded into the same arena.
+	 */
+	public ModelView load(int modelId, byte[] b, ModelArena arena)
+	{
+		return arena.view(decode(modelId, b, arena));
+	}
+
+	private ModelDefinition decode(int modelId, byte[] b, ModelArena arena)
 	{
 		ModelDefinition def = new ModelDefinition();
 		def.id = modelId;
 
 		if (b[b.length - 1] == -3 && b[b.length - 2] == -1)
 		{
-			decodeType3(def, b);
+			decodeType3(def, b, arena);
 		}
 		else if (b[b.length - 1] == -2 && b[b.length - 2] == -1)
 		{
-			decodeType2(def, b);
+			decodeType2(def, b, arena);
 		}
 		else if (b[b.length - 1] == -1 && b[b.length - 2] == -1)
 		{
-			decodeType1(def, b);
+			decodeType1(def, b, arena);
 		}
 		else
 		{
-			decodeOldFormat(def, b);
+			decodeOldFormat(def, b, arena);
 		}
 
-		def.computeNormals();
-		def.computeTextureUVCoordinates();
-		def.computeAnimationTables();
-
 		return def;
 	}
 
-	void decodeType3(ModelDefinition def, byte[] var1)
+	private static int[] ints(ModelArena arena, int slot, int length)
+	{
+		return arena == null ? new int[length] : arena.ints(slot, length);
+	}
+
+	private static byte[] bytes(ModelArena arena, int slot, int length)
+	{
+		return arena == null ? new byte[length] : arena.bytes(slot, length);
+	}
+
+	private static short[] shorts(ModelArena arena, int slot, int length)
+	{
+		return arena == null ? new short[length] : arena.shorts(slot, length);
+	}
+
+	void decodeType3(ModelDefinition def, byte[] var1, ModelArena arena)
 	{
 		InputStream var2 = new InputStream(var1);
 		InputStream var3 = new InputStream(var1);
@@ -66,7 +99,7 @@ public class ModelLoader
 		int var28;
 		if (var11 > 0)
 		{
-			def.textureRenderTypes = new byte[var11];
+			def.textureRenderTypes = bytes(arena, ModelArena.TEXTURE_RENDER_TYPES, var11);
 			var2.setOffset(0);
 
 			for (var28 = 0; var28 < var11; ++var28)
@@ -151,25 +184,25 @@ public class ModelLoader
 		def.vertexCount = var9;
 		def.faceCount = var10;
 		def.numTextureFaces = var11;
-		def.vertexX = new int[var9];
-		def.vertexY = new int[var9];
-		def.vertexZ = new int[var9];
-		def.faceIndices1 = new int[var10];
-		def.faceIndices2 = new int[var10];
-		def.faceIndices3 = new int[var10];
+		def.vertexX = ints(arena, ModelArena.VERTEX_X, var9);
+		def.vertexY = ints(arena, ModelArena.VERTEX_Y, var9);
+		def.vertexZ = ints(arena, ModelArena.VERTEX_Z, var9);
+		def.faceIndices1 = ints(arena, ModelArena.FACE_INDICES_1, var10);
+		def.faceIndices2 = ints(arena, ModelArena.FACE_INDICES_2, var10);
+		def.faceIndices3 = ints(arena, ModelArena.FACE_INDICES_3, var10);
 		if (var17 == 1)
 		{
-			def.packedVertexGroups = new int[var9];
+			def.packedVertexGroups = ints(arena, ModelArena.PACKED_VERTEX_GROUPS, var9);
 		}
 
 		if (var12 == 1)
 		{
-			def.faceRenderTypes = new byte[var10];
+			def.faceRenderTypes = bytes(arena, ModelArena.FACE_RENDER_TYPES, var10);
 		}
 
 		if (var13 == 255)
 		{
-			def.faceRenderPriorities = new byte[var10];
+			def.faceRenderPriorities = bytes(arena, ModelArena.FACE_RENDER_PRIORITIES, var10);
 		}
 		else
 		{
@@ -178,22 +211,22 @@ public class ModelLoader
 
 		if (var14 == 1)
 		{
-			def.faceTransparencies = new byte[var10];
+			def.faceTransparencies = bytes(arena, ModelArena.FACE_TRANSPARENCIES, var10);
 		}
 
 		if (var15 == 1)
 		{
-			def.packedTransparencyVertexGroups = new int[var10];
+			def.packedTransparencyVertexGroups = ints(arena, ModelArena.PACKED_TRANSPARENCY_VERTEX_GROUPS, var10);
 		}
 
 		if (var16 == 1)
 		{
-			def.faceTextures = new short[var10];
+			def.faceTextures = shorts(arena, ModelArena.FACE_TEXTURES, var10);
 		}
 
 		if (var16 == 1 && var11 > 0)
 		{
-			def.textureCoords = new byte[var10];
+			def.textureCoords = bytes(arena, ModelArena.TEXTURE_COORDS, var10);
 		}
 
 		if (var18 == 1)
@@ -202,12 +235,12 @@ public class ModelLoader
 			def.animayaScales = new int[var9][];
 		}
 
-		def.faceColors = new short[var10];
+		def.faceColors = shorts(arena, ModelArena.FACE_COLORS, var10);
 		if (var11 > 0)
 		{
-			def.texIndices1 = new short[var11];
-			def.texIndices2 = new short[var11];
-			def.texIndices3 = new short[var11];
+			def.texIndices1 = shorts(arena, ModelArena.TEX_INDICES_1, var11);
+			def.texIndices2 = shorts(arena, ModelArena.TEX_INDICES_2, var11);
+			def.texIndices3 = shorts(arena, ModelArena.TEX_INDICES_3, var11);
 		}
 
 		var2.setOffset(var11);
@@ -401,7 +434,7 @@ public class ModelLoader
 		boolean hasOffsets = var2.readUnsignedByte() == 1;
 		if (hasOffsets)
 		{
-			def.faceZOffsets = new byte[var10];
+			def.faceZOffsets = bytes(arena, ModelArena.FACE_Z_OFFSETS, var10);
 
 			for (int i = 0; i < var10; ++i)
 			{
@@ -410,7 +443,7 @@ public class ModelLoader
 		}
 	}
 
-	void decodeType2(ModelDefinition def, byte[] var1)
+	void decodeType2(ModelDefinition def, byte[] var1, ModelArena arena)
 	{
 		boolean var2 = false;
 		boolean var3 = false;
@@ -479,35 +512,35 @@ public class ModelLoader
 		def.vertexCount = var9;
 		def.faceCount = var10;
 		def.numTextureFaces = var11;
-		def.vertexX = new int[var9];
-		def.vertexY = new int[var9];
-		def.vertexZ = new int[var9];
-		def.faceIndices1 = new int[var10];
-		def.faceIndices2 = new int[var10];
-		def.faceIndices3 = new int[var10];
+		def.vertexX = ints(arena, ModelArena.VERTEX_X, var9);
+		def.vertexY = ints(arena, ModelArena.VERTEX_Y, var9);
+		def.vertexZ = ints(arena, ModelArena.VERTEX_Z, var9);
+		def.faceIndices1 = ints(arena, ModelArena.FACE_INDICES_1, var10);
+		def.faceIndices2 = ints(arena, ModelArena.FACE_INDICES_2, var10);
+		def.faceIndices3 = ints(arena, ModelArena.FACE_INDICES_3, var10);
 		if (var11 > 0)
 		{
-			def.textureRenderTypes = new byte[var11];
-			def.texIndices1 = new short[var11];
-			def.texIndices2 = new short[var11];
-			def.texIndices3 = new short[var11];
+			def.textureRenderTypes = bytes(arena, ModelArena.TEXTURE_RENDER_TYPES, var11);
+			def.texIndices1 = shorts(arena, ModelArena.TEX_INDICES_1, var11);
+			def.texIndices2 = shorts(arena, ModelArena.TEX_INDICES_2, var11);
+			def.texIndices3 = shorts(arena, ModelArena.TEX_INDICES_3, var11);
 		}
 
 		if (var16 == 1)
 		{
-			def.packedVertexGroups = new int[var9];
+			def.packedVertexGroups = ints(arena, ModelArena.PACKED_VERTEX_GROUPS, var9);
 		}
 
 		if (var12 == 1)
 		{
-			def.faceRenderTypes = new byte[var10];
-			def.textureCoords = new byte[var10];
-			def.faceTextures = new short[var10];
+			def.faceRenderTypes = bytes(arena, ModelArena.FACE_RENDER_TYPES, var10);
+			def.textureCoords = bytes(arena, ModelArena.TEXTURE_COORDS, var10);
+			def.faceTextures = shorts(arena, ModelArena.FACE_TEXTURES, var10);
 		}
 
 		if (var13 == 255)
 		{
-			def.faceRenderPriorities = new byte[var10];
+			def.faceRenderPriorities = bytes(arena, ModelArena.FACE_RENDER_PRIORITIES, var10);
 		}
 		else
 		{
@@ -516,12 +549,12 @@ public class ModelLoader
 
 		if (var14 == 1)
 		{
-			def.faceTransparencies = new byte[var10];
+			def.faceTransparencies = bytes(arena, ModelArena.FACE_TRANSPARENCIES, var10);
 		}
 
 		if (var15 == 1)
 		{
-			def.packedTransparencyVertexGroups = new int[var10];
+			def.packedTransparencyVertexGroups = ints(arena, ModelArena.PACKED_TRANSPARENCY_VERTEX_GROUPS, var10);
 		}
 
 		if (var17 == 1)
@@ -530,7 +563,7 @@ public class ModelLoader
 			def.animayaScales = new int[var9][];
 		}
 
-		def.faceColors = new short[var10];
+		def.faceColors = shorts(arena, ModelArena.FACE_COLORS, var10);
 		var4.setOffset(var23);
 		var5.setOffset(var34);
 		var6.setOffset(var35);
@@ -719,7 +752,7 @@ public class ModelLoader
 		boolean hasOffsets = var4.readUnsignedByte() == 1;
 		if (hasOffsets)
 		{
-			def.faceZOffsets = new byte[var10];
+			def.faceZOffsets = bytes(arena, ModelArena.FACE_Z_OFFSETS, var10);
 
 			for (var45 = 0; var45 < var10; ++var45)
 			{
@@ -765,7 +798,7 @@ public class ModelLoader
 
 	}
 
-	void decodeType1(ModelDefinition def, byte[] var1)
+	void decodeType1(ModelDefinition def, byte[] var1, ModelArena arena)
 	{
 		InputStream var2 = new InputStream(var1);
 		InputStream var3 = new InputStream(var1);
@@ -795,7 +828,7 @@ public class ModelLoader
 		int var26;
 		if (var11 > 0)
 		{
-			def.textureRenderTypes = new byte[var11];
+			def.textureRenderTypes = bytes(arena, ModelArena.TEXTURE_RENDER_TYPES, var11);
 			var2.setOffset(0);
 
 			for (var26 = 0; var26 < var11; ++var26)
@@ -884,25 +917,25 @@ public class ModelLoader
 		def.vertexCount = var9;
 		def.faceCount = var10;
 		def.numTextureFaces = var11;
-		def.vertexX = new int[var9];
-		def.vertexY = new int[var9];
-		def.vertexZ = new int[var9];
-		def.faceIndices1 = new int[var10];
-		def.faceIndices2 = new int[var10];
-		def.faceIndices3 = new int[var10];
+		def.vertexX = ints(arena, ModelArena.VERTEX_X, var9);
+		def.vertexY = ints(arena, ModelArena.VERTEX_Y, var9);
+		def.vertexZ = ints(arena, ModelArena.VERTEX_Z, var9);
+		def.faceIndices1 = ints(arena, ModelArena.FACE_INDICES_1, var10);
+		def.faceIndices2 = ints(arena, ModelArena.FACE_INDICES_2, var10);
+		def.faceIndices3 = ints(arena, ModelArena.FACE_INDICES_3, var10);
 		if (var17 == 1)
 		{
-			def.packedVertexGroups = new int[var9];
+			def.packedVertexGroups = ints(arena, ModelArena.PACKED_VERTEX_GROUPS, var9);
 		}
 
 		if (var12 == 1)
 		{
-			def.faceRenderTypes = new byte[var10];
+			def.faceRenderTypes = bytes(arena, ModelArena.FACE_RENDER_TYPES, var10);
 		}
 
 		if (var13 == 255)
 		{
-			def.faceRenderPriorities = new byte[var10];
+			def.faceRenderPriorities = bytes(arena, ModelArena.FACE_RENDER_PRIORITIES, var10);
 		}
 		else
 		{
@@ -911,30 +944,30 @@ public class ModelLoader
 
 		if (var14 == 1)
 		{
-			def.faceTransparencies = new byte[var10];
+			def.faceTransparencies = bytes(arena, ModelArena.FACE_TRANSPARENCIES, var10);
 		}
 
 		if (var15 == 1)
 		{
-			def.packedTransparencyVertexGroups = new int[var10];
+			def.packedTransparencyVertexGroups = ints(arena, ModelArena.PACKED_TRANSPARENCY_VERTEX_GROUPS, var10);
 		}
 
 		if (var16 == 1)
 		{
-			def.faceTextures = new short[var10];
+			def.faceTextures = shorts(arena, ModelArena.FACE_TEXTURES, var10);
 		}
 
 		if (var16 == 1 && var11 > 0)
 		{
-			def.textureCoords = new byte[var10];
+			def.textureCoords = bytes(arena, ModelArena.TEXTURE_COORDS, var10);
 		}
 
-		def.faceColors = new short[var10];
+		def.faceColors = shorts(arena, ModelArena.FACE_COLORS, var10);
 		if (var11 > 0)
 		{
-			def.texIndices1 = new short[var11];
-			def.texIndices2 = new short[var11];
-			def.texIndices3 = new short[var11];
+			def.texIndices1 = shorts(arena, ModelArena.TEX_INDICES_1, var11);
+			def.texIndices2 = shorts(arena, ModelArena.TEX_INDICES_2, var11);
+			def.texIndices3 = shorts(arena, ModelArena.TEX_INDICES_3, var11);
 		}
 
 		var2.setOffset(var11);
@@ -1111,7 +1144,7 @@ public class ModelLoader
 
 	}
 
-	void decodeOldFormat(ModelDefinition def, byte[] inputData)
+	void decodeOldFormat(ModelDefinition def, byte[] inputData, ModelArena arena)
 	{
 		boolean usesFaceRenderTypes = false;
 		boolean usesFaceTextures = false;
@@ -1181,35 +1214,35 @@ public class ModelLoader
 		def.vertexCount = vertexCount;
 		def.faceCount = faceCount;
 		def.numTextureFaces = textureCount;
-		def.vertexX = new int[vertexCount];
-		def.vertexY = new int[vertexCount];
-		def.vertexZ = new int[vertexCount];
-		def.faceIndices1 = new int[faceCount];
-		def.faceIndices2 = new int[faceCount];
-		def.faceIndices3 = new int[faceCount];
+		def.vertexX = ints(arena, ModelArena.VERTEX_X, vertexCount);
+		def.vertexY = ints(arena, ModelArena.VERTEX_Y, vertexCount);
+		def.vertexZ = ints(arena, ModelArena.VERTEX_Z, vertexCount);
+		def.faceIndices1 = ints(arena, ModelArena.FACE_INDICES_1, faceCount);
+		def.faceIndices2 = ints(arena, ModelArena.FACE_INDICES_2, faceCount);
+		def.faceIndices3 = ints(arena, ModelArena.FACE_INDICES_3, faceCount);
 		if (textureCount > 0)
 		{
-			def.textureRenderTypes = new byte[textureCount];
-			def.texIndices1 = new short[textureCount];
-			def.texIndices2 = new short[textureCount];
-			def.texIndices3 = new short[textureCount];
+			def.textureRenderTypes = bytes(arena, ModelArena.TEXTURE_RENDER_TYPES, textureCount);
+			def.texIndices1 = shorts(arena, ModelArena.TEX_INDICES_1, textureCount);
+			def.texIndices2 = shorts(arena, ModelArena.TEX_INDICES_2, textureCount);
+			def.texIndices3 = shorts(arena, ModelArena.TEX_INDICES_3, textureCount);
 		}
 
 		if (hasPackedVertexGroups == 1)
 		{
-			def.packedVertexGroups = new int[vertexCount];
+			def.packedVertexGroups = ints(arena, ModelArena.PACKED_VERTEX_GROUPS, vertexCount);
 		}
 
 		if (isTextured == 1)
 		{
-			def.faceRenderTypes = new byte[faceCount];
-			def.textureCoords = new byte[faceCount];
-			def.faceTextures = new short[faceCount];
+			def.faceRenderTypes = bytes(arena, ModelArena.FACE_RENDER_TYPES, faceCount);
+			def.textureCoords = bytes(arena, ModelArena.TEXTURE_COORDS, faceCount);
+			def.faceTextures = shorts(arena, ModelArena.FACE_TEXTURES, faceCount);
 		}
 
 		if (faceRenderPriority == 255)
 		{
-			def.faceRenderPriorities = new byte[faceCount];
+			def.faceRenderPriorities = bytes(arena, ModelArena.FACE_RENDER_PRIORITIES, faceCount);
 		}
 		else
 		{
@@ -1218,15 +1251,15 @@ public class ModelLoader
 
 		if (hasFaceTransparencies == 1)
 		{
-			def.faceTransparencies = new byte[faceCount];
+			def.faceTransparencies = bytes(arena, ModelArena.FACE_TRANSPARENCIES, faceCount);
 		}
 
 		if (hasPackedTransparencyVertexGroups == 1)
 		{
-			def.packedTransparencyVertexGroups = new int[faceCount];
+			def.packedTransparencyVertexGroups = ints(arena, ModelArena.PACKED_TRANSPARENCY_VERTEX_GROUPS, faceCount);
 		}
 
-		def.faceColors = new short[faceCount];
+		def.faceColors = shorts(arena, ModelArena.FACE_COLORS, faceCount);
 		stream1.setOffset(offsetOfVertexFlags);
 		stream2.setOffset(offsetOfVertexXData);
 		stream3.setOffset(offsetOfVertexYData);
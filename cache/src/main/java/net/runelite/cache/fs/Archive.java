@@ -43,7 +43,6 @@ public class Archive
 	@Getter
 	private final int archiveId;
 	@Getter
-	@Setter
 	private int nameHash;
 	@Getter
 	@Setter
@@ -70,6 +69,15 @@ public class Archive
 		this.archiveId = id;
 	}
 
+	public void setNameHash(int nameHash)
+	{
+		if (this.nameHash != nameHash)
+		{
+			this.nameHash = nameHash;
+			index.invalidateNames();
+		}
+	}
+
 	public byte[] decompress(byte[] data) throws IOException
 	{
 		return decompress(data, null);
@@ -135,4 +143,18 @@ public class Archive
 		files.loadContents(decompressedData);
 		return files;
 	}
+
+	/**
+	 * Like {@link #getFiles(byte[], int[])}, but the files are only located in the decompressed data, and
+	 * copied out one at a time on request.
+	 */
+	public IndexedArchiveFiles getIndexedFiles(byte[] data, int[] keys) throws IOException
+	{
+		byte[] decompressedData = decompress(data, keys);
+		if (decompressedData == null)
+		{
+			return null;
+		}
+		return new IndexedArchiveFiles(fileData, decompressedData);
+	}
 }
@@ -27,8 +27,8 @@ package net.runelite.cache.fs;
 import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.util.Arrays;
 import net.runelite.cache.fs.jagex.CompressionType;
-import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 import net.runelite.cache.util.BZip2;
 import net.runelite.cache.util.Crc32;
@@ -37,7 +37,11 @@ import net.runelite.cache.util.Xtea;
 
 public class Container
 {
+	// decrypted copies of encrypted data, reused so a load does not allocate one per archive
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[0]);
+
 	public byte[] data;
+	public int length; // length of data in use, which is only less than data.length for caller supplied buffers
 	public int compression; // compression
 	public int revision;
 	public int crc; // crc of compressed data
@@ -84,6 +88,7 @@ public class Container
 		}
 
 		this.data = stream.flip();
+		this.length = this.data.length;
 
 		Crc32 crc32 = new Crc32();
 		crc32.update(this.data, 0, this.data.length - (revision != -1 ? 2 : 0));
@@ -92,103 +97,155 @@ public class Container
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
 	{
-		InputStream stream = new InputStream(b);
+		return decompress(b, keys, null, false);
+	}
+
+	/**
+	 * Decompresses into a caller supplied buffer, so one buffer can be reused for many archives. If keys are
+	 * given, the encrypted part of {@code b} is decrypted in place, and {@code b} must not be used afterwards.
+	 *
+	 * @param out buffer of at least {@link #getDecompressedLength(byte[], int[])} bytes
+	 * @return the container, whose data is {@code out} and whose length is the number of bytes written to it
+	 */
+	public static Container decompress(byte[] b, int[] keys, byte[] out) throws IOException
+	{
+		return decompress(b, keys, out, true);
+	}
+
+	/**
+	 * @return the length of the data in the container once decompressed
+	 */
+	public static int getDecompressedLength(byte[] b, int[] keys)
+	{
+		int compression = b[0] & 0xFF;
+		int compressedLength = getInt(b, 1);
+		if (compression == CompressionType.NONE)
+		{
+			return compressedLength;
+		}
 
-		int compression = stream.readUnsignedByte();
-		int compressedLength = stream.readInt();
+		if (keys == null || compressedLength + 4 < 8)
+		{
+			return getInt(b, 5);
+		}
+
+		// the length is in the first encrypted block
+		byte[] block = Arrays.copyOfRange(b, 5, 13);
+		new Xtea(keys).decrypt(block, 0, 8);
+		return getInt(block, 0);
+	}
+
+	private static Container decompress(byte[] b, int[] keys, byte[] out, boolean inPlace) throws IOException
+	{
+		int compression = b[0] & 0xFF;
+		int compressedLength = getInt(b, 1);
 		if (compressedLength < 0)
 		{
 			throw new RuntimeException("Invalid data");
 		}
 
-		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
-
-		byte[] data;
-		int revision = -1;
+		int encryptedLength;
 		switch (compression)
 		{
 			case CompressionType.NONE:
-			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
-
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				data = decryptedData;
-
+				encryptedLength = compressedLength;
 				break;
-			}
 			case CompressionType.BZ2:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
+			case CompressionType.GZ:
+				// the decompressed length is in front of the compressed data
+				encryptedLength = compressedLength + 4;
+				break;
+			default:
+				throw new RuntimeException("Unknown decompression type");
+		}
 
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
+		int end = 5 + encryptedLength;
+		if (end > b.length)
+		{
+			throw new IOException("Container is truncated, expected " + end + " bytes was " + b.length);
+		}
 
-				stream = new InputStream(decryptedData);
+		Crc32 crc32 = new Crc32();
+		crc32.update(b, 0, end); // compression + length + data
 
-				int decompressedLength = stream.readInt();
-				data = BZip2.decompress(stream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
+		int revision = -1;
+		if (b.length - end >= 2)
+		{
+			revision = (b[end] & 0xFF) << 8 | (b[end + 1] & 0xFF);
+		}
 
-				break;
+		byte[] data;
+		int length;
+		if (compression == CompressionType.NONE)
+		{
+			data = buffer(out, compressedLength);
+			System.arraycopy(b, 5, data, 0, compressedLength);
+			if (keys != null)
+			{
+				new Xtea(keys).decrypt(data, 0, compressedLength);
 			}
-			case CompressionType.GZ:
+			length = compressedLength;
+		}
+		else
+		{
+			byte[] encrypted = b;
+			int offset = 5;
+			if (keys != null)
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
+				if (!inPlace)
 				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
+					encrypted = SCRATCH.get();
+					if (encrypted.length < encryptedLength)
+					{
+						encrypted = new byte[encryptedLength];
+						SCRATCH.set(encrypted);
+					}
+					System.arraycopy(b, 5, encrypted, 0, encryptedLength);
+					offset = 0;
 				}
+				new Xtea(keys).decrypt(encrypted, offset, encryptedLength);
+			}
 
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = GZip.decompress(stream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
+			length = getInt(encrypted, offset);
+			if (length < 0)
+			{
+				throw new RuntimeException("Invalid data");
+			}
+			data = buffer(out, length);
 
-				break;
+			if (compression == CompressionType.BZ2)
+			{
+				BZip2.decompress(encrypted, offset + 4, compressedLength, data, 0, length);
+			}
+			else
+			{
+				GZip.decompress(encrypted, offset + 4, compressedLength, data, 0, length);
 			}
-			default:
-				throw new RuntimeException("Unknown decompression type");
 		}
 
 		Container container = new Container(compression, revision);
 		container.data = data;
+		container.length = length;
 		container.crc = crc32.getHash();
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
+	private static byte[] buffer(byte[] out, int length)
 	{
-		if (keys == null)
+		if (out == null)
 		{
-			return data;
+			return new byte[length];
+		}
+		if (out.length < length)
+		{
+			throw new IllegalArgumentException("Buffer too small, need " + length + " bytes but was " + out.length);
 		}
+		return out;
+	}
 
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
+	private static int getInt(byte[] b, int i)
+	{
+		return ((b[i] & 0xFF) << 24) | ((b[i + 1] & 0xFF) << 16) | ((b[i + 2] & 0xFF) << 8) | (b[i + 3] & 0xFF);
 	}
 
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025, Microbot
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.util.Arrays;
+import net.runelite.cache.index.FileData;
+
+/**
+ * The files of a decompressed archive, located but not copied out.
+ * <p>
+ * {@link ArchiveFiles} splits an archive into one array per file up front. This only reads the chunk table and
+ * records where every file lies in the archive data, so a file is copied out when it is asked for.
+ */
+public class IndexedArchiveFiles
+{
+	private final byte[] data;
+	private final int[] fileIds;
+	// per file position, the offset and size of each chunk of the file
+	private final int[][] offsets;
+	private final int[][] sizes;
+	// file id to file position, -1 if there is no such file
+	private final int[] positions;
+
+	IndexedArchiveFiles(FileData[] fileData, byte[] data)
+	{
+		int filesCount = fileData.length;
+		this.data = data;
+		this.fileIds = new int[filesCount];
+
+		int maxId = -1;
+		for (int i = 0; i < filesCount; ++i)
+		{
+			fileIds[i] = fileData[i].getId();
+			maxId = Math.max(maxId, fileIds[i]);
+		}
+
+		positions = new int[maxId + 1];
+		Arrays.fill(positions, -1);
+		for (int i = 0; i < filesCount; ++i)
+		{
+			positions[fileIds[i]] = i;
+		}
+
+		if (filesCount == 1)
+		{
+			offsets = new int[][]{{0}};
+			sizes = new int[][]{{data.length}};
+			return;
+		}
+
+		int chunks = data[data.length - 1] & 0xFF;
+		offsets = new int[filesCount][chunks];
+		sizes = new int[filesCount][chunks];
+
+		// same layout as ArchiveFiles.loadContents, the file data followed by one delta coded size per file per chunk
+		int table = data.length - 1 - chunks * filesCount * 4;
+		int offset = 0;
+		for (int chunk = 0; chunk < chunks; ++chunk)
+		{
+			int chunkSize = 0;
+			for (int i = 0; i < filesCount; ++i)
+			{
+				chunkSize += readInt(data, table);
+				table += 4;
+
+				offsets[i][chunk] = offset;
+				sizes[i][chunk] = chunkSize;
+				offset += chunkSize;
+			}
+		}
+	}
+
+	private static int readInt(byte[] b, int i)
+	{
+		return ((b[i] & 0xFF) << 24) | ((b[i + 1] & 0xFF) << 16) | ((b[i + 2] & 0xFF) << 8) | (b[i + 3] & 0xFF);
+	}
+
+	public int getFileCount()
+	{
+		return fileIds.length;
+	}
+
+	/**
+	 * @return the file ids, in archive order. The array must not be modified.
+	 */
+	public int[] getFileIds()
+	{
+		return fileIds;
+	}
+
+	/**
+	 * @return the highest file id, or -1 if the archive is empty
+	 */
+	public int getMaxFileId()
+	{
+		return positions.length - 1;
+	}
+
+	public boolean hasFile(int fileId)
+	{
+		return fileId >= 0 && fileId < positions.length && positions[fileId] != -1;
+	}
+
+	/**
+	 * Copies the contents of a file out of the archive.
+	 *
+	 * @return the contents, or null if there is no such file
+	 */
+	public byte[] getContents(int fileId)
+	{
+		if (!hasFile(fileId))
+		{
+			return null;
+		}
+
+		int position = positions[fileId];
+		int[] fileOffsets = offsets[position];
+		int[] fileSizes = sizes[position];
+		if (fileOffsets.length == 1)
+		{
+			return Arrays.copyOfRange(data, fileOffsets[0], fileOffsets[0] + fileSizes[0]);
+		}
+
+		int size = 0;
+		for (int chunkSize : fileSizes)
+		{
+			size += chunkSize;
+		}
+
+		byte[] contents = new byte[size];
+		int pos = 0;
+		for (int chunk = 0; chunk < fileOffsets.length; ++chunk)
+		{
+			System.arraycopy(data, fileOffsets[chunk], contents, pos, fileSizes[chunk]);
+			pos += fileSizes[chunk];
+		}
+		return contents;
+	}
+}
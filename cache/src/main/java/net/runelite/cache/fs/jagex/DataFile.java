@@ -30,6 +30,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,12 +39,53 @@ public class DataFile implements Closeable
 	private static final Logger logger = LoggerFactory.getLogger(DataFile.class);
 
 	private static final int SECTOR_SIZE = 520;
+	// sectors never straddle two mappings, and each mapping stays below the 2GB limit of a ByteBuffer
+	private static final long MAPPING_SIZE = (long) SECTOR_SIZE * (1 << 20);
 
 	private final RandomAccessFile dat;
+	private final ByteBuffer[] mappings;
+	private final long mappedLength;
 
 	public DataFile(File file) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
+		this.mappings = null;
+		this.mappedLength = 0L;
+	}
+
+	/**
+	 * Opens a data file. A read only data file is memory mapped and can be read from many threads at
+	 * once, it must not be modified by anything else while it is open.
+	 */
+	public DataFile(File file, boolean readOnly) throws IOException
+	{
+		if (!readOnly)
+		{
+			this.dat = new RandomAccessFile(file, "rw");
+			this.mappings = null;
+			this.mappedLength = 0L;
+			return;
+		}
+
+		this.dat = new RandomAccessFile(file, "r");
+		try
+		{
+			FileChannel channel = dat.getChannel();
+			long length = channel.size();
+			ByteBuffer[] mappings = new ByteBuffer[(int) ((length + MAPPING_SIZE - 1) / MAPPING_SIZE)];
+			for (int i = 0; i < mappings.length; ++i)
+			{
+				long position = i * MAPPING_SIZE;
+				mappings[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAPPING_SIZE, length - position));
+			}
+			this.mappings = mappings;
+			this.mappedLength = length;
+		}
+		catch (IOException ex)
+		{
+			dat.close();
+			throw ex;
+		}
 	}
 
 	@Override
@@ -54,9 +96,23 @@ public class DataFile implements Closeable
 
 	public void clear() throws IOException
 	{
+		checkWritable();
 		dat.setLength(0L);
 	}
 
+	public boolean isReadOnly()
+	{
+		return mappings != null;
+	}
+
+	private void checkWritable() throws IOException
+	{
+		if (mappings != null)
+		{
+			throw new IOException("data file is read only");
+		}
+	}
+
 	/**
 	 *
 	 * @param indexId expected index of archive of contents being read
@@ -66,7 +122,106 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		if (mappings != null)
+		{
+			return readMapped(indexId, archiveId, sector, size);
+		}
+
+		synchronized (this)
+		{
+			return readFile(indexId, archiveId, sector, size);
+		}
+	}
+
+	/**
+	 * Walks the sector chain of an archive in the mapped file. Only absolute reads are done on shared buffers,
+	 * so this needs no locking, and the data is copied straight into the returned array.
+	 */
+	private byte[] readMapped(int indexId, int archiveId, int sector, int size)
+	{
+		final long sectors = mappedLength / SECTOR_SIZE;
+		if (sector <= 0L || sectors < (long) sector)
+		{
+			logger.warn("bad read, dat length {}, requested sector {}", mappedLength, sector);
+			return null;
+		}
+
+		final byte[] data = new byte[size];
+		final int headerSize = archiveId > 0xFFFF ? 10 : 8;
+
+		for (int part = 0, readBytesCount = 0, nextSector;
+			size > readBytesCount;
+			sector = nextSector)
+		{
+			if (sector == 0)
+			{
+				logger.warn("Unexpected end of file");
+				return null;
+			}
+
+			long position = (long) sector * SECTOR_SIZE;
+			ByteBuffer mapping = mappings[(int) (position / MAPPING_SIZE)];
+			int offset = (int) (position % MAPPING_SIZE);
+
+			int dataBlockSize = Math.min(size - readBytesCount, SECTOR_SIZE - headerSize);
+			if (offset + headerSize + dataBlockSize > mapping.limit())
+			{
+				logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+				return null;
+			}
+
+			int currentIndex;
+			int currentPart;
+			int currentArchive;
+			if (headerSize == 10)
+			{
+				currentArchive = mapping.getInt(offset);
+				currentPart = mapping.getShort(offset + 4) & 0xFFFF;
+				nextSector = ((mapping.get(offset + 6) & 0xFF) << 16)
+					| ((mapping.get(offset + 7) & 0xFF) << 8)
+					| (mapping.get(offset + 8) & 0xFF);
+				currentIndex = mapping.get(offset + 9) & 0xFF;
+			}
+			else
+			{
+				currentArchive = mapping.getShort(offset) & 0xFFFF;
+				currentPart = mapping.getShort(offset + 2) & 0xFFFF;
+				nextSector = ((mapping.get(offset + 4) & 0xFF) << 16)
+					| ((mapping.get(offset + 5) & 0xFF) << 8)
+					| (mapping.get(offset + 6) & 0xFF);
+				currentIndex = mapping.get(offset + 7) & 0xFF;
+			}
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				logger.warn("data mismatch {} != {}, {} != {}, {} != {}",
+					archiveId, currentArchive,
+					part, currentPart,
+					indexId, currentIndex);
+				return null;
+			}
+
+			if (nextSector < 0 || sectors < (long) nextSector)
+			{
+				logger.warn("Invalid next sector");
+				return null;
+			}
+
+			// the position of a duplicate is private to this thread
+			ByteBuffer view = mapping.duplicate();
+			view.position(offset + headerSize);
+			view.get(data, readBytesCount, dataBlockSize);
+			readBytesCount += dataBlockSize;
+
+			++part;
+		}
+
+		return data;
+	}
+
+	private byte[] readFile(int indexId, int archiveId, int sector, int size) throws IOException
 	{
 		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
 		{
@@ -171,6 +326,8 @@ public class DataFile implements Closeable
 
 	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
+		checkWritable();
+
 		int sector;
 		int startSector;
 
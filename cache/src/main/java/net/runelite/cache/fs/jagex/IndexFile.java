@@ -29,6 +29,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.slf4j.Logger;
@@ -45,6 +47,7 @@ public class IndexFile implements Closeable
 	private final int indexFileId;
 	private final File file;
 	private final RandomAccessFile idx;
+	private final ByteBuffer mapping;
 	private final byte[] buffer = new byte[INDEX_ENTRY_LEN];
 
 	public IndexFile(int indexFileId, File file) throws FileNotFoundException
@@ -52,21 +55,71 @@ public class IndexFile implements Closeable
 		this.indexFileId = indexFileId;
 		this.file = file;
 		this.idx = new RandomAccessFile(file, "rw");
+		this.mapping = null;
+	}
+
+	/**
+	 * Opens an index file. A read only index file is memory mapped and can be read from many threads at
+	 * once, it must not be modified by anything else while it is open.
+	 */
+	public IndexFile(int indexFileId, File file, boolean readOnly) throws IOException
+	{
+		this.indexFileId = indexFileId;
+		this.file = file;
+		if (!readOnly)
+		{
+			this.idx = new RandomAccessFile(file, "rw");
+			this.mapping = null;
+			return;
+		}
+
+		if (!file.exists())
+		{
+			// a writable index file would be created empty
+			this.idx = null;
+			this.mapping = ByteBuffer.allocate(0);
+			return;
+		}
+
+		this.idx = new RandomAccessFile(file, "r");
+		try
+		{
+			FileChannel channel = idx.getChannel();
+			this.mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+		}
+		catch (IOException ex)
+		{
+			idx.close();
+			throw ex;
+		}
 	}
 
 	@Override
 	public void close() throws IOException
 	{
-		idx.close();
+		if (idx != null)
+		{
+			idx.close();
+		}
 	}
 
 	public void clear() throws IOException
 	{
+		checkWritable();
 		idx.setLength(0L);
 	}
 
+	private void checkWritable() throws IOException
+	{
+		if (mapping != null)
+		{
+			throw new IOException("index file " + indexFileId + " is read only");
+		}
+	}
+
 	public synchronized void write(IndexEntry entry) throws IOException
 	{
+		checkWritable();
 		idx.seek(entry.getId() * INDEX_ENTRY_LEN);
 
 		buffer[0] = (byte) (entry.getLength() >> 16);
@@ -80,18 +133,38 @@ public class IndexFile implements Closeable
 		idx.write(buffer);
 	}
 
-	public synchronized IndexEntry read(int id) throws IOException
+	public IndexEntry read(int id) throws IOException
 	{
-		idx.seek(id * INDEX_ENTRY_LEN);
-		int i = idx.read(buffer);
-		if (i != INDEX_ENTRY_LEN)
+		int length;
+		int sector;
+		if (mapping != null)
 		{
-			logger.debug("short read for id {} on index {}: {}", id, indexFileId, i);
-			return null;
+			int position = id * INDEX_ENTRY_LEN;
+			if (id < 0 || position > mapping.limit() - INDEX_ENTRY_LEN)
+			{
+				logger.debug("short read for id {} on index {}", id, indexFileId);
+				return null;
+			}
+
+			length = ((mapping.get(position) & 0xFF) << 16) | ((mapping.get(position + 1) & 0xFF) << 8) | (mapping.get(position + 2) & 0xFF);
+			sector = ((mapping.get(position + 3) & 0xFF) << 16) | ((mapping.get(position + 4) & 0xFF) << 8) | (mapping.get(position + 5) & 0xFF);
+		}
+		else
+		{
+			synchronized (this)
+			{
+				idx.seek(id * INDEX_ENTRY_LEN);
+				int i = idx.read(buffer);
+				if (i != INDEX_ENTRY_LEN)
+				{
+					logger.debug("short read for id {} on index {}: {}", id, indexFileId, i);
+					return null;
+				}
+
+				length = ((buffer[0] & 0xFF) << 16) | ((buffer[1] & 0xFF) << 8) | (buffer[2] & 0xFF);
+				sector = ((buffer[3] & 0xFF) << 16) | ((buffer[4] & 0xFF) << 8) | (buffer[5] & 0xFF);
+			}
 		}
-
-		int length = ((buffer[0] & 0xFF) << 16) | ((buffer[1] & 0xFF) << 8) | (buffer[2] & 0xFF);
-		int sector = ((buffer[3] & 0xFF) << 16) | ((buffer[4] & 0xFF) << 8) | (buffer[5] & 0xFF);
 
 		if (length <= 0 || sector <= 0)
 		{
@@ -102,8 +175,16 @@ public class IndexFile implements Closeable
 		return new IndexEntry(this, id, sector, length);
 	}
 
-	public synchronized int getIndexCount() throws IOException
+	public int getIndexCount() throws IOException
 	{
-		return (int) (idx.length() / INDEX_ENTRY_LEN);
+		if (mapping != null)
+		{
+			return mapping.limit() / INDEX_ENTRY_LEN;
+		}
+
+		synchronized (this)
+		{
+			return (int) (idx.length() / INDEX_ENTRY_LEN);
+		}
 	}
 }
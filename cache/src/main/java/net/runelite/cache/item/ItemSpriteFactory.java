@@ -26,6 +26,14 @@ package net.runelite.cache.item;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.definitions.providers.ItemProvider;
@@ -36,20 +44,91 @@ import net.runelite.cache.models.FaceNormal;
 import net.runelite.cache.models.JagexColor;
 import net.runelite.cache.models.VertexNormal;
 
+/**
+ * Renders inventory sprites of items.
+ * <p>
+ * An instance can render from several threads at once. Every thread gets its own rasterizer, with the scratch
+ * buffers reused between sprites, while textures and model definitions are loaded once and shared.
+ */
+@Slf4j
 public class ItemSpriteFactory
 {
+	private final ItemProvider itemProvider;
+	private final ModelProvider modelProvider;
+	private final RSTextureProvider textureProvider;
+	private final Map<Integer, ModelDefinition> models = new ConcurrentHashMap<>();
+	private final ThreadLocal<Graphics3D> rasterizers = ThreadLocal.withInitial(this::createRasterizer);
+
+	public ItemSpriteFactory(ItemProvider itemProvider, ModelProvider modelProvider,
+		SpriteProvider spriteProvider, TextureProvider textureProvider)
+	{
+		this.itemProvider = itemProvider;
+		this.modelProvider = modelProvider;
+		this.textureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		this.textureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
+	}
+
 	public static BufferedImage createSprite(ItemProvider itemProvider, ModelProvider modelProvider,
 		SpriteProvider spriteProvider, TextureProvider textureProvider,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
-		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-			itemId, quantity, border, shadowColor, noted);
+		return new ItemSpriteFactory(itemProvider, modelProvider, spriteProvider, textureProvider)
+			.createSprite(itemId, quantity, border, shadowColor, noted);
+	}
+
+	public BufferedImage createSprite(int itemId, int quantity, int border, int shadowColor, boolean noted) throws IOException
+	{
+		SpritePixels spritePixels = createSpritePixels(rasterizers.get(), itemId, quantity, border, shadowColor, noted);
 		return spritePixels == null ? null : spritePixels.toBufferedImage();
 	}
 
-	private static SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
-		SpriteProvider spriteProvider, TextureProvider textureProvider,
+	/**
+	 * Renders the sprites of many items on the given executor.
+	 *
+	 * @return the sprites by item id, in the order of {@code itemIds}. Items without a model or which fail to
+	 * render are left out.
+	 */
+	public Map<Integer, BufferedImage> createSprites(int[] itemIds, int quantity, int border, int shadowColor,
+		boolean noted, Executor executor)
+	{
+		List<CompletableFuture<BufferedImage>> futures = new ArrayList<>(itemIds.length);
+		for (int itemId : itemIds)
+		{
+			futures.add(CompletableFuture.supplyAsync(() ->
+			{
+				try
+				{
+					return createSprite(itemId, quantity, border, shadowColor, noted);
+				}
+				catch (Exception ex)
+				{
+					log.warn("error rendering item {}", itemId, ex);
+					return null;
+				}
+			}, executor));
+		}
+
+		Map<Integer, BufferedImage> sprites = new LinkedHashMap<>();
+		for (int i = 0; i < itemIds.length; ++i)
+		{
+			BufferedImage sprite = futures.get(i).join();
+			if (sprite != null)
+			{
+				sprites.put(itemIds[i], sprite);
+			}
+		}
+		return sprites;
+	}
+
+	private Graphics3D createRasterizer()
+	{
+		Graphics3D graphics = new Graphics3D(textureProvider);
+		graphics.setBrightness(JagexColor.BRIGHTNESS_MAX);
+		return graphics;
+	}
+
+	private SpritePixels createSpritePixels(Graphics3D graphics,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
@@ -73,7 +152,7 @@ public class ItemSpriteFactory
 			}
 		}
 
-		Model itemModel = getModel(modelProvider, item);
+		Model itemModel = getModel(item);
 		if (itemModel == null)
 		{
 			return null;
@@ -82,8 +161,7 @@ public class ItemSpriteFactory
 		SpritePixels auxSpritePixels = null;
 		if (item.notedTemplate != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-				item.notedID, 10, 1, 0, true);
+			auxSpritePixels = createSpritePixels(graphics, item.notedID, 10, 1, 0, true);
 			if (auxSpritePixels == null)
 			{
 				return null;
@@ -91,8 +169,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.boughtTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-				item.boughtId, quantity, border, 0, false);
+			auxSpritePixels = createSpritePixels(graphics, item.boughtId, quantity, border, 0, false);
 			if (auxSpritePixels == null)
 			{
 				return null;
@@ -100,20 +177,14 @@ public class ItemSpriteFactory
 		}
 		else if (item.placeholderTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-				item.placeholderId, quantity, 0, 0, false);
+			auxSpritePixels = createSpritePixels(graphics, item.placeholderId, quantity, 0, 0, false);
 			if (auxSpritePixels == null)
 			{
 				return null;
 			}
 		}
 
-		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
-		rsTextureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
-
 		SpritePixels spritePixels = new SpritePixels(36, 32);
-		Graphics3D graphics = new Graphics3D(rsTextureProvider);
-		graphics.setBrightness(JagexColor.BRIGHTNESS_MAX);
 		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
 		graphics.reset();
 		graphics.setRasterClipping();
@@ -180,15 +251,22 @@ public class ItemSpriteFactory
 		return spritePixels;
 	}
 
-	private static Model getModel(ModelProvider modelProvider, ItemDefinition item) throws IOException
+	private Model getModel(ItemDefinition item) throws IOException
 	{
-		Model itemModel;
-		ModelDefinition inventoryModel = modelProvider.provide(item.inventoryModel);
+		ModelDefinition inventoryModel = models.get(item.inventoryModel);
 		if (inventoryModel == null)
 		{
-			return null;
+			inventoryModel = modelProvider.provide(item.inventoryModel);
+			if (inventoryModel == null)
+			{
+				return null;
+			}
+			models.putIfAbsent(item.inventoryModel, inventoryModel);
 		}
 
+		// the cached definition is shared by every item and thread using the model
+		inventoryModel = inventoryModel.copy();
+
 		if (item.resizeX != 128 || item.resizeY != 128 || item.resizeZ != 128)
 		{
 			inventoryModel.resize(item.resizeX, item.resizeY, item.resizeZ);
@@ -210,8 +288,7 @@ public class ItemSpriteFactory
 			}
 		}
 
-		itemModel = light(inventoryModel, item.ambient + 64, item.contrast + 768, -50, -10, -50);
-		return itemModel;
+		return light(inventoryModel, item.ambient + 64, item.contrast + 768, -50, -10, -50);
 	}
 
 	private static Model light(ModelDefinition def, int ambient, int contrast, int x, int y, int z)
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2025, Microbot
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.util.Arrays;
+import net.runelite.cache.definitions.ModelDefinition;
+
+/**
+ * Reusable buffers for decoding models with {@link net.runelite.cache.definitions.loaders.ModelLoader#load(int, byte[], ModelArena)}.
+ * <p>
+ * Every model array has its own slot, which grows to the largest model seen so far and is cleared and handed out
+ * again for the next model. The arrays are usually longer than the model, so they must only be read up to the
+ * vertex, face or texture face count. An arena is not thread safe, use one per thread.
+ */
+public final class ModelArena
+{
+	public static final int VERTEX_X = 0;
+	public static final int VERTEX_Y = 1;
+	public static final int VERTEX_Z = 2;
+	public static final int FACE_INDICES_1 = 3;
+	public static final int FACE_INDICES_2 = 4;
+	public static final int FACE_INDICES_3 = 5;
+	public static final int PACKED_VERTEX_GROUPS = 6;
+	public static final int PACKED_TRANSPARENCY_VERTEX_GROUPS = 7;
+	public static final int FACE_RENDER_TYPES = 8;
+	public static final int FACE_RENDER_PRIORITIES = 9;
+	public static final int FACE_TRANSPARENCIES = 10;
+	public static final int TEXTURE_COORDS = 11;
+	public static final int TEXTURE_RENDER_TYPES = 12;
+	public static final int FACE_Z_OFFSETS = 13;
+	public static final int FACE_TEXTURES = 14;
+	public static final int FACE_COLORS = 15;
+	public static final int TEX_INDICES_1 = 16;
+	public static final int TEX_INDICES_2 = 17;
+	public static final int TEX_INDICES_3 = 18;
+
+	private static final int VERTEX_NORMAL_X = 19;
+	private static final int VERTEX_NORMAL_Y = 20;
+	private static final int VERTEX_NORMAL_Z = 21;
+	private static final int VERTEX_NORMAL_MAGNITUDE = 22;
+	private static final int FACE_NORMAL_X = 23;
+	private static final int FACE_NORMAL_Y = 24;
+	private static final int FACE_NORMAL_Z = 25;
+
+	private static final int SLOTS = 26;
+
+	private final int[][] ints = new int[SLOTS][];
+	private final byte[][] bytes = new byte[SLOTS][];
+	private final short[][] shorts = new short[SLOTS][];
+
+	/**
+	 * @return the int buffer of {@code slot}, at least {@code length} long and zeroed up to {@code length}
+	 */
+	public int[] ints(int slot, int length)
+	{
+		int[] buf = ints[slot];
+		if (buf == null || buf.length < length)
+		{
+			return ints[slot] = new int[capacity(buf == null ? 0 : buf.length, length)];
+		}
+		Arrays.fill(buf, 0, length, 0);
+		return buf;
+	}
+
+	/**
+	 * @return the byte buffer of {@code slot}, at least {@code length} long and zeroed up to {@code length}
+	 */
+	public byte[] bytes(int slot, int length)
+	{
+		byte[] buf = bytes[slot];
+		if (buf == null || buf.length < length)
+		{
+			return bytes[slot] = new byte[capacity(buf == null ? 0 : buf.length, length)];
+		}
+		Arrays.fill(buf, 0, length, (byte) 0);
+		return buf;
+	}
+
+	/**
+	 * @return the short buffer of {@code slot}, at least {@code length} long and zeroed up to {@code length}
+	 */
+	public short[] shorts(int slot, int length)
+	{
+		short[] buf = shorts[slot];
+		if (buf == null || buf.length < length)
+		{
+			return shorts[slot] = new short[capacity(buf == null ? 0 : buf.length, length)];
+		}
+		Arrays.fill(buf, 0, length, (short) 0);
+		return buf;
+	}
+
+	/**
+	 * Computes the normals and bounds of a model decoded into this arena and wraps it in a view.
+	 * <p>
+	 * The normals are the same as {@link ModelDefinition#computeNormals()}, but kept in flat arrays: vertex normals
+	 * accumulate the faces with render type 0, and the face normal is stored for every face.
+	 */
+	public ModelView view(ModelDefinition def)
+	{
+		final int vertexCount = def.vertexCount;
+		final int faceCount = def.faceCount;
+		final int[] vertexX = def.vertexX;
+		final int[] vertexY = def.vertexY;
+		final int[] vertexZ = def.vertexZ;
+
+		int minX = 0, minY = 0, minZ = 0;
+		int maxX = 0, maxY = 0, maxZ = 0;
+		long maxXZ = 0;
+		if (vertexCount > 0)
+		{
+			minX = maxX = vertexX[0];
+			minY = maxY = vertexY[0];
+			minZ = maxZ = vertexZ[0];
+		}
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			int x = vertexX[i];
+			int y = vertexY[i];
+			int z = vertexZ[i];
+			minX = Math.min(minX, x);
+			maxX = Math.max(maxX, x);
+			minY = Math.min(minY, y);
+			maxY = Math.max(maxY, y);
+			minZ = Math.min(minZ, z);
+			maxZ = Math.max(maxZ, z);
+			maxXZ = Math.max(maxXZ, (long) x * x + (long) z * z);
+		}
+		int radius = (int) Math.ceil(Math.sqrt(maxXZ));
+
+		final int[] normalX = ints(VERTEX_NORMAL_X, vertexCount);
+		final int[] normalY = ints(VERTEX_NORMAL_Y, vertexCount);
+		final int[] normalZ = ints(VERTEX_NORMAL_Z, vertexCount);
+		final int[] magnitude = ints(VERTEX_NORMAL_MAGNITUDE, vertexCount);
+		final int[] faceNormalX = ints(FACE_NORMAL_X, faceCount);
+		final int[] faceNormalY = ints(FACE_NORMAL_Y, faceCount);
+		final int[] faceNormalZ = ints(FACE_NORMAL_Z, faceCount);
+		final byte[] renderTypes = def.faceRenderTypes;
+
+		for (int i = 0; i < faceCount; ++i)
+		{
+			int a = def.faceIndices1[i];
+			int b = def.faceIndices2[i];
+			int c = def.faceIndices3[i];
+
+			int xA = vertexX[b] - vertexX[a];
+			int yA = vertexY[b] - vertexY[a];
+			int zA = vertexZ[b] - vertexZ[a];
+			int xB = vertexX[c] - vertexX[a];
+			int yB = vertexY[c] - vertexY[a];
+			int zB = vertexZ[c] - vertexZ[a];
+
+			int nx = yA * zB - yB * zA;
+			int ny = zA * xB - zB * xA;
+			int nz = xA * yB - xB * yA;
+
+			while (nx > 8192 || ny > 8192 || nz > 8192 || nx < -8192 || ny < -8192 || nz < -8192)
+			{
+				nx >>= 1;
+				ny >>= 1;
+				nz >>= 1;
+			}
+
+			int length = (int) Math.sqrt((double) (nx * nx + ny * ny + nz * nz));
+			if (length <= 0)
+			{
+				length = 1;
+			}
+
+			nx = nx * 256 / length;
+			ny = ny * 256 / length;
+			nz = nz * 256 / length;
+
+			faceNormalX[i] = nx;
+			faceNormalY[i] = ny;
+			faceNormalZ[i] = nz;
+
+			if (renderTypes == null || renderTypes[i] == 0)
+			{
+				normalX[a] += nx;
+				normalY[a] += ny;
+				normalZ[a] += nz;
+				++magnitude[a];
+
+				normalX[b] += nx;
+				normalY[b] += ny;
+				normalZ[b] += nz;
+				++magnitude[b];
+
+				normalX[c] += nx;
+				normalY[c] += ny;
+				normalZ[c] += nz;
+				++magnitude[c];
+			}
+		}
+
+		return new ModelView(def,
+			normalX, normalY, normalZ, magnitude,
+			faceNormalX, faceNormalY, faceNormalZ,
+			minX, minY, minZ, maxX, maxY, maxZ, radius);
+	}
+
+	private static int capacity(int current, int length)
+	{
+		return Math.max(length, current + (current >> 1));
+	}
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2025, Microbot
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.util.Arrays;
+import lombok.Getter;
+import net.runelite.cache.definitions.ModelDefinition;
+
+/**
+ * Read-only view of a model decoded into a {@link ModelArena}, with its normals and bounds.
+ * <p>
+ * The view reads straight from the arena's buffers, so it is only valid until the next model is decoded into
+ * the same arena. Indices are not checked against the vertex and face counts. Use {@link #toDefinition()} to
+ * keep a model around.
+ */
+public final class ModelView
+{
+	private final ModelDefinition def;
+	private final int[] vertexNormalX;
+	private final int[] vertexNormalY;
+	private final int[] vertexNormalZ;
+	private final int[] vertexNormalMagnitude;
+	private final int[] faceNormalX;
+	private final int[] faceNormalY;
+	private final int[] faceNormalZ;
+
+	@Getter
+	private final int minX;
+	@Getter
+	private final int minY;
+	@Getter
+	private final int minZ;
+	@Getter
+	private final int maxX;
+	@Getter
+	private final int maxY;
+	@Getter
+	private final int maxZ;
+	/**
+	 * Distance of the furthest vertex from the model's origin on the x/z plane, rounded up.
+	 */
+	@Getter
+	private final int radius;
+
+	ModelView(ModelDefinition def,
+		int[] vertexNormalX, int[] vertexNormalY, int[] vertexNormalZ, int[] vertexNormalMagnitude,
+		int[] faceNormalX, int[] faceNormalY, int[] faceNormalZ,
+		int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int radius)
+	{
+		this.def = def;
+		this.vertexNormalX = vertexNormalX;
+		this.vertexNormalY = vertexNormalY;
+		this.vertexNormalZ = vertexNormalZ;
+		this.vertexNormalMagnitude = vertexNormalMagnitude;
+		this.faceNormalX = faceNormalX;
+		this.faceNormalY = faceNormalY;
+		this.faceNormalZ = faceNormalZ;
+		this.minX = minX;
+		this.minY = minY;
+		this.minZ = minZ;
+		this.maxX = maxX;
+		this.maxY = maxY;
+		this.maxZ = maxZ;
+		this.radius = radius;
+	}
+
+	public int getId()
+	{
+		return def.id;
+	}
+
+	public int getVertexCount()
+	{
+		return def.vertexCount;
+	}
+
+	public int getFaceCount()
+	{
+		return def.faceCount;
+	}
+
+	public int getTextureFaceCount()
+	{
+		return def.numTextureFaces;
+	}
+
+	public int getVertexX(int vertex)
+	{
+		return def.vertexX[vertex];
+	}
+
+	public int getVertexY(int vertex)
+	{
+		return def.vertexY[vertex];
+	}
+
+	public int getVertexZ(int vertex)
+	{
+		return def.vertexZ[vertex];
+	}
+
+	/**
+	 * Sum of the normals of the faces with render type 0 around the vertex, see {@link VertexNormal}.
+	 */
+	public int getVertexNormalX(int vertex)
+	{
+		return vertexNormalX[vertex];
+	}
+
+	public int getVertexNormalY(int vertex)
+	{
+		return vertexNormalY[vertex];
+	}
+
+	public int getVertexNormalZ(int vertex)
+	{
+		return vertexNormalZ[vertex];
+	}
+
+	public int getVertexNormalMagnitude(int vertex)
+	{
+		return vertexNormalMagnitude[vertex];
+	}
+
+	public int getFaceIndex1(int face)
+	{
+		return def.faceIndices1[face];
+	}
+
+	public int getFaceIndex2(int face)
+	{
+		return def.faceIndices2[face];
+	}
+
+	public int getFaceIndex3(int face)
+	{
+		return def.faceIndices3[face];
+	}
+
+	/**
+	 * Normal of the face scaled to a length of 256, see {@link FaceNormal}.
+	 */
+	public int getFaceNormalX(int face)
+	{
+		return faceNormalX[face];
+	}
+
+	public int getFaceNormalY(int face)
+	{
+		return faceNormalY[face];
+	}
+
+	public int getFaceNormalZ(int face)
+	{
+		return faceNormalZ[face];
+	}
+
+	public short getFaceColor(int face)
+	{
+		return def.faceColors[face];
+	}
+
+	public int getFaceRenderType(int face)
+	{
+		return def.faceRenderTypes == null ? 0 : def.faceRenderTypes[face];
+	}
+
+	public int getFaceRenderPriority(int face)
+	{
+		return def.faceRenderPriorities == null ? def.priority : def.faceRenderPriorities[face];
+	}
+
+	public int getFaceTransparency(int face)
+	{
+		return def.faceTransparencies == null ? 0 : def.faceTransparencies[face] & 0xFF;
+	}
+
+	/**
+	 * @return the texture of the face, or -1 if it is not textured
+	 */
+	public int getFaceTexture(int face)
+	{
+		return def.faceTextures == null ? -1 : def.faceTextures[face];
+	}
+
+	/**
+	 * @return the texture face mapping the face's texture, or -1 if it is mapped onto the face itself
+	 */
+	public int getTextureCoord(int face)
+	{
+		return def.textureCoords == null ? -1 : def.textureCoords[face];
+	}
+
+	public int getTexIndex1(int textureFace)
+	{
+		return def.texIndices1[textureFace] & 0xFFFF;
+	}
+
+	public int getTexIndex2(int textureFace)
+	{
+		return def.texIndices2[textureFace] & 0xFFFF;
+	}
+
+	public int getTexIndex3(int textureFace)
+	{
+		return def.texIndices3[textureFace] & 0xFFFF;
+	}
+
+	/**
+	 * Copies the model out of the arena into a standalone definition, equal to the one
+	 * {@link net.runelite.cache.definitions.loaders.ModelLoader#load(int, byte[])} returns.
+	 */
+	public ModelDefinition toDefinition()
+	{
+		final int vertexCount = def.vertexCount;
+		final int faceCount = def.faceCount;
+		final int textureCount = def.numTextureFaces;
+
+		ModelDefinition copy = new ModelDefinition();
+		copy.id = def.id;
+		copy.vertexCount = vertexCount;
+		copy.faceCount = faceCount;
+		copy.numTextureFaces = textureCount;
+		copy.priority = def.priority;
+		copy.vertexX = trim(def.vertexX, vertexCount);
+		copy.vertexY = trim(def.vertexY, vertexCount);
+		copy.vertexZ = trim(def.vertexZ, vertexCount);
+		copy.packedVertexGroups = trim(def.packedVertexGroups, vertexCount);
+		copy.faceIndices1 = trim(def.faceIndices1, faceCount);
+		copy.faceIndices2 = trim(def.faceIndices2, faceCount);
+		copy.faceIndices3 = trim(def.faceIndices3, faceCount);
+		copy.faceColors = trim(def.faceColors, faceCount);
+		copy.faceTextures = trim(def.faceTextures, faceCount);
+		copy.faceRenderTypes = trim(def.faceRenderTypes, faceCount);
+		copy.faceRenderPriorities = trim(def.faceRenderPriorities, faceCount);
+		copy.faceTransparencies = trim(def.faceTransparencies, faceCount);
+		copy.faceZOffsets = trim(def.faceZOffsets, faceCount);
+		copy.textureCoords = trim(def.textureCoords, faceCount);
+		copy.packedTransparencyVertexGroups = trim(def.packedTransparencyVertexGroups, faceCount);
+		copy.textureRenderTypes = trim(def.textureRenderTypes, textureCount);
+		copy.texIndices1 = trim(def.texIndices1, textureCount);
+		copy.texIndices2 = trim(def.texIndices2, textureCount);
+		copy.texIndices3 = trim(def.texIndices3, textureCount);
+		// not pooled, the definition behind this view is the only one referencing them
+		copy.animayaGroups = def.animayaGroups;
+		copy.animayaScales = def.animayaScales;
+
+		copy.vertexNormals = new VertexNormal[vertexCount];
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			VertexNormal normal = copy.vertexNormals[i] = new VertexNormal();
+			normal.x = vertexNormalX[i];
+			normal.y = vertexNormalY[i];
+			normal.z = vertexNormalZ[i];
+			normal.magnitude = vertexNormalMagnitude[i];
+		}
+
+		for (int i = 0; i < faceCount; ++i)
+		{
+			if (getFaceRenderType(i) == 1)
+			{
+				if (copy.faceNormals == null)
+				{
+					copy.faceNormals = new FaceNormal[faceCount];
+				}
+
+				FaceNormal normal = copy.faceNormals[i] = new FaceNormal();
+				normal.x = faceNormalX[i];
+				normal.y = faceNormalY[i];
+				normal.z = faceNormalZ[i];
+			}
+		}
+
+		copy.computeTextureUVCoordinates();
+		copy.computeAnimationTables();
+		return copy;
+	}
+
+	private static int[] trim(int[] a, int length)
+	{
+		return a == null ? null : Arrays.copyOf(a, length);
+	}
+
+	private static byte[] trim(byte[] a, int length)
+	{
+		return a == null ? null : Arrays.copyOf(a, length);
+	}
+
+	private static short[] trim(short[] a, int length)
+	{
+		return a == null ? null : Arrays.copyOf(a, length);
+	}
+}
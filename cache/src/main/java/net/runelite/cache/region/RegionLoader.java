@@ -26,8 +26,9 @@ package net.runelite.cache.region;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.LocationsDefinition;
@@ -49,7 +50,7 @@ public class RegionLoader
 	private final Index index;
 	private final KeyProvider keyProvider;
 
-	private final Map<Integer, Region> regions = new HashMap<>();
+	private final Map<Integer, Region> regions = new ConcurrentHashMap<>();
 	private Region lowestX = null, lowestY = null;
 	private Region highestX = null, highestY = null;
 
@@ -61,22 +62,39 @@ public class RegionLoader
 	}
 
 	public void loadRegions() throws IOException
+	{
+		loadRegions(false);
+	}
+
+	/**
+	 * Loads all regions. With {@code parallel} the regions are read and decoded on the common fork join
+	 * pool, which requires storage that can be read from many threads, such as {@link net.runelite.cache.fs.jagex.DiskStorage}.
+	 */
+	public void loadRegions(boolean parallel) throws IOException
 	{
 		if (!this.regions.isEmpty())
 		{
 			return;
 		}
 
-		for (int i = 0; i < MAX_REGION; ++i)
+		IntStream ids = IntStream.range(0, MAX_REGION);
+		if (parallel)
 		{
-			try
-			{
-				this.loadRegionFromArchive(i);
-			}
-			catch (IOException ex)
-			{
-				log.debug("Can't decrypt region " + i, ex);
-			}
+			ids = ids.parallel();
+		}
+		ids.forEach(this::tryLoadRegionFromArchive);
+	}
+
+	private Region tryLoadRegionFromArchive(int i)
+	{
+		try
+		{
+			return this.loadRegionFromArchive(i);
+		}
+		catch (IOException ex)
+		{
+			log.debug("Can't decrypt region " + i, ex);
+			return null;
 		}
 	}
 
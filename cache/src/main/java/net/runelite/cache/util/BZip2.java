@@ -27,9 +27,11 @@ package net.runelite.cache.util;
 import com.sun.jna.Memory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.util.Arrays;
 import static net.runelite.cache.util.LibBZip2.BZ_FINISH_OK;
 import static net.runelite.cache.util.LibBZip2.BZ_OK;
@@ -142,4 +144,23 @@ public class BZip2
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompresses headerless bzip2 data into a caller supplied buffer. The header is streamed in front of the
+	 * data instead of being copied into a new array.
+	 *
+	 * @param outLen the exact decompressed length
+	 */
+	public static void decompress(byte[] in, int off, int len, byte[] out, int outOff, int outLen) throws IOException
+	{
+		InputStream data = new SequenceInputStream(new ByteArrayInputStream(BZIP_HEADER), new ByteArrayInputStream(in, off, len));
+		try (InputStream is = new BZip2CompressorInputStream(data))
+		{
+			int read = is.readNBytes(out, outOff, outLen);
+			if (read != outLen)
+			{
+				throw new EOFException("Unexpected end of bzip2 stream, expected " + outLen + " bytes was " + read);
+			}
+		}
+	}
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025, Microbot
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import net.runelite.cache.fs.IndexedArchiveFiles;
+
+/**
+ * Definitions of a config archive, indexed by id and decoded on first access.
+ * <p>
+ * Decoding is safe to run from several threads. If two threads decode the same id at once, both get the
+ * definition that was stored first.
+ */
+public class DefinitionStore<T>
+{
+	@FunctionalInterface
+	public interface Decoder<T>
+	{
+		T decode(int id, byte[] data);
+	}
+
+	private final IndexedArchiveFiles files;
+	private final Decoder<T> decoder;
+	private final AtomicReferenceArray<T> definitions;
+
+	public DefinitionStore(IndexedArchiveFiles files, Decoder<T> decoder)
+	{
+		this.files = files;
+		this.decoder = decoder;
+		this.definitions = new AtomicReferenceArray<>(files.getMaxFileId() + 1);
+	}
+
+	/**
+	 * @return the definition, decoding it if needed, or null if there is no file with this id
+	 */
+	public T get(int id)
+	{
+		if (id < 0 || id >= definitions.length())
+		{
+			return null;
+		}
+
+		T def = definitions.get(id);
+		if (def != null)
+		{
+			return def;
+		}
+
+		byte[] data = files.getContents(id);
+		if (data == null)
+		{
+			return null;
+		}
+
+		def = decoder.decode(id, data);
+		if (!definitions.compareAndSet(id, null, def))
+		{
+			def = definitions.get(id);
+		}
+		return def;
+	}
+
+	/**
+	 * Decodes every definition which has not been decoded yet.
+	 */
+	public void decodeAll()
+	{
+		for (int id : files.getFileIds())
+		{
+			get(id);
+		}
+	}
+
+	/**
+	 * @return every definition in id order, decoding the ones which have not been decoded yet
+	 */
+	public Collection<T> getAll()
+	{
+		List<T> all = new ArrayList<>(files.getFileCount());
+		for (int id = 0; id < definitions.length(); ++id)
+		{
+			T def = get(id);
+			if (def != null)
+			{
+				all.add(def);
+			}
+		}
+		return Collections.unmodifiableList(all);
+	}
+
+	/**
+	 * @return the definitions decoded so far, in id order
+	 */
+	public List<T> getDecoded()
+	{
+		List<T> decoded = new ArrayList<>();
+		for (int id = 0; id < definitions.length(); ++id)
+		{
+			T def = definitions.get(id);
+			if (def != null)
+			{
+				decoded.add(def);
+			}
+		}
+		return decoded;
+	}
+
+	/**
+	 * @return the number of definitions in the archive, decoded or not
+	 */
+	public int size()
+	{
+		return files.getFileCount();
+	}
+}
@@ -27,14 +27,26 @@ package net.runelite.cache.util;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
 
 public class GZip
 {
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
+	private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
 		ByteArrayOutputStream bout = new ByteArrayOutputStream();
@@ -61,4 +73,77 @@ public class GZip
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompresses a gzip member into a caller supplied buffer, with an inflater reused per thread.
+	 *
+	 * @param outLen the exact decompressed length
+	 */
+	public static void decompress(byte[] in, int off, int len, byte[] out, int outOff, int outLen) throws IOException
+	{
+		int end = off + len;
+		if (len < 18 || (in[off] & 0xFF) != 0x1F || (in[off + 1] & 0xFF) != 0x8B || in[off + 2] != 8)
+		{
+			throw new ZipException("Not in GZIP format");
+		}
+
+		int flags = in[off + 3] & 0xFF;
+		int pos = off + 10;
+		if ((flags & FEXTRA) != 0)
+		{
+			pos += 2 + ((in[pos] & 0xFF) | (in[pos + 1] & 0xFF) << 8);
+		}
+		if ((flags & FNAME) != 0)
+		{
+			while (in[pos++] != 0)
+			{
+			}
+		}
+		if ((flags & FCOMMENT) != 0)
+		{
+			while (in[pos++] != 0)
+			{
+			}
+		}
+		if ((flags & FHCRC) != 0)
+		{
+			pos += 2;
+		}
+
+		// the trailer is the crc and size of the uncompressed data
+		int size = (in[end - 4] & 0xFF) | (in[end - 3] & 0xFF) << 8 | (in[end - 2] & 0xFF) << 16 | (in[end - 1] & 0xFF) << 24;
+		if (size != outLen)
+		{
+			throw new ZipException("Decompressed length mismatch, expected " + outLen + " was " + size);
+		}
+
+		Inflater inflater = INFLATER.get();
+		inflater.reset();
+		inflater.setInput(in, pos, end - 8 - pos);
+		try
+		{
+			int written = 0;
+			while (written < outLen)
+			{
+				int n = inflater.inflate(out, outOff + written, outLen - written);
+				if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary()))
+				{
+					throw new EOFException("Unexpected end of GZIP stream");
+				}
+				written += n;
+			}
+		}
+		catch (DataFormatException ex)
+		{
+			throw new ZipException(ex.getMessage());
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(out, outOff, outLen);
+		int checksum = (in[end - 8] & 0xFF) | (in[end - 7] & 0xFF) << 8 | (in[end - 6] & 0xFF) << 16 | (in[end - 5] & 0xFF) << 24;
+		if (checksum != (int) crc.getValue())
+		{
+			throw new ZipException("Corrupt GZIP trailer");
+		}
+	}
 }
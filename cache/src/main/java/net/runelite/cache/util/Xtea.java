@@ -24,8 +24,7 @@
  */
 package net.runelite.cache.util;
 
-import net.runelite.cache.io.InputStream;
-import net.runelite.cache.io.OutputStream;
+import java.util.Arrays;
 
 public class Xtea
 {
@@ -42,13 +41,27 @@ public class Xtea
 
 	public byte[] encrypt(byte[] data, int len)
 	{
-		InputStream in = new InputStream(data);
-		OutputStream out = new OutputStream(len);
-		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		byte[] out = Arrays.copyOf(data, data.length);
+		encrypt(out, 0, len);
+		return out;
+	}
+
+	public byte[] decrypt(byte[] data, int len)
+	{
+		byte[] out = Arrays.copyOf(data, data.length);
+		decrypt(out, 0, len);
+		return out;
+	}
+
+	/**
+	 * Encrypts the whole blocks of {@code data[offset, offset + len)} in place, a trailing partial block is left as is.
+	 */
+	public void encrypt(byte[] data, int offset, int len)
+	{
+		for (int end = offset + (len & ~7); offset < end; offset += 8)
 		{
-			int v0 = in.readInt();
-			int v1 = in.readInt();
+			int v0 = getInt(data, offset);
+			int v1 = getInt(data, offset + 4);
 			int sum = 0;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -56,22 +69,20 @@ public class Xtea
 				sum += GOLDEN_RATIO;
 				v1 += (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			putInt(data, offset, v0);
+			putInt(data, offset + 4, v1);
 		}
-		out.writeBytes(in.getRemaining());
-		return out.flip();
 	}
 
-	public byte[] decrypt(byte[] data, int len)
+	/**
+	 * Decrypts the whole blocks of {@code data[offset, offset + len)} in place, a trailing partial block is left as is.
+	 */
+	public void decrypt(byte[] data, int offset, int len)
 	{
-		InputStream in = new InputStream(data);
-		OutputStream out = new OutputStream(len);
-		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		for (int end = offset + (len & ~7); offset < end; offset += 8)
 		{
-			int v0 = in.readInt();
-			int v1 = in.readInt();
+			int v0 = getInt(data, offset);
+			int v1 = getInt(data, offset + 4);
 			int sum = GOLDEN_RATIO * ROUNDS;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -79,10 +90,21 @@ public class Xtea
 				sum -= GOLDEN_RATIO;
 				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			putInt(data, offset, v0);
+			putInt(data, offset + 4, v1);
 		}
-		out.writeBytes(in.getRemaining());
-		return out.flip();
+	}
+
+	private static int getInt(byte[] b, int i)
+	{
+		return ((b[i] & 0xFF) << 24) | ((b[i + 1] & 0xFF) << 16) | ((b[i + 2] & 0xFF) << 8) | (b[i + 3] & 0xFF);
+	}
+
+	private static void putInt(byte[] b, int i, int v)
+	{
+		b[i] = (byte) (v >>> 24);
+		b[i + 1] = (byte) (v >>> 16);
+		b[i + 2] = (byte) (v >>> 8);
+		b[i + 3] = (byte) v;
 	}
 }
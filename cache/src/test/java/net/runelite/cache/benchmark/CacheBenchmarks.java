@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025, Microbot
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import com.google.common.base.Strings;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the cache benchmarks against a local cache, with the gc profiler so allocation per operation is reported
+ * next to throughput.
+ * <p>
+ * Run "java net.runelite.cache.benchmark.CacheBenchmarks --cachedir ../cache [--xteapath ../keys.json] [regex]"
+ * from the test classpath, or set the cache.benchmark.dir and cache.benchmark.xteas system properties. Without a
+ * cache directory nothing is run.
+ */
+public class CacheBenchmarks
+{
+	public static void main(String[] args) throws RunnerException
+	{
+		String cacheDir = System.getProperty(CacheState.CACHE_DIR);
+		String xteaPath = System.getProperty(CacheState.XTEA_PATH);
+		String include = CacheBenchmarks.class.getPackage().getName() + ".*Benchmark";
+
+		for (int i = 0; i < args.length; ++i)
+		{
+			switch (args[i])
+			{
+				case "--cachedir":
+					cacheDir = args[++i];
+					break;
+				case "--xteapath":
+					xteaPath = args[++i];
+					break;
+				default:
+					include = args[i];
+					break;
+			}
+		}
+
+		if (Strings.isNullOrEmpty(cacheDir) || !new File(cacheDir).isDirectory())
+		{
+			System.out.println("No cache directory configured, skipping cache benchmarks");
+			return;
+		}
+
+		// jvmArgsAppend replaces the arguments of a previous call, so they are passed at once
+		List<String> jvmArgs = new ArrayList<>();
+		jvmArgs.add("-D" + CacheState.CACHE_DIR + "=" + new File(cacheDir).getAbsolutePath());
+		if (!Strings.isNullOrEmpty(xteaPath))
+		{
+			jvmArgs.add("-D" + CacheState.XTEA_PATH + "=" + new File(xteaPath).getAbsolutePath());
+		}
+
+		ChainedOptionsBuilder options = new OptionsBuilder()
+			.include(include)
+			.addProfiler(GCProfiler.class)
+			.resultFormat(ResultFormatType.TEXT)
+			.jvmArgsAppend(jvmArgs.toArray(new String[0]));
+
+		new Runner(options.build()).run();
+	}
+}
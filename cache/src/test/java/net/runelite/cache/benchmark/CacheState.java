@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, Microbot
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import com.google.common.base.Strings;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.util.KeyProvider;
+import net.runelite.cache.util.XteaKeyManager;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The cache the benchmarks run against, opened read-only once per fork.
+ */
+@State(Scope.Benchmark)
+public class CacheState
+{
+	static final String CACHE_DIR = "cache.benchmark.dir";
+	static final String XTEA_PATH = "cache.benchmark.xteas";
+
+	Store store;
+	KeyProvider keyProvider = region -> null;
+
+	@Setup(Level.Trial)
+	public void open() throws IOException
+	{
+		String cacheDir = System.getProperty(CACHE_DIR);
+		if (Strings.isNullOrEmpty(cacheDir))
+		{
+			throw new IllegalStateException("Set " + CACHE_DIR + " to a cache directory, or run through CacheBenchmarks");
+		}
+
+		store = new Store(new DiskStorage(new File(cacheDir), true));
+		store.load();
+
+		String xteaPath = System.getProperty(XTEA_PATH);
+		if (!Strings.isNullOrEmpty(xteaPath))
+		{
+			XteaKeyManager keyManager = new XteaKeyManager();
+			try (FileInputStream in = new FileInputStream(xteaPath))
+			{
+				keyManager.loadKeys(in);
+			}
+			keyProvider = keyManager;
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void close() throws IOException
+	{
+		store.close();
+	}
+}
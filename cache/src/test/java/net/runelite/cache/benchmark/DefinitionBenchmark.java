@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025, Microbot
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.ObjectManager;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.loaders.ObjectLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.models.ModelArena;
+import net.runelite.cache.models.ModelView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding object and model definitions from already decompressed data, one definition per operation, and
+ * loading the whole object archive through {@link ObjectManager}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DefinitionBenchmark
+{
+	/**
+	 * The first models of the model index to cycle through, to keep the decompressed data in a sane heap.
+	 */
+	@Param("4096")
+	public int models;
+
+	private Store store;
+	private ObjectLoader objectLoader;
+	private int[] objectIds;
+	private byte[][] objectData;
+	private int nextObject;
+
+	private final ModelLoader modelLoader = new ModelLoader();
+	private final ModelArena modelArena = new ModelArena();
+	private int[] modelIds;
+	private byte[][] modelData;
+	private int nextModel;
+
+	@Setup
+	public void setup(CacheState cache) throws IOException
+	{
+		store = cache.store;
+		Storage storage = store.getStorage();
+
+		Archive objects = store.getIndex(IndexType.CONFIGS).getArchive(ConfigType.OBJECT.getId());
+		objectLoader = new ObjectLoader().configureForRevision(objects.getRevision());
+		List<FSFile> files = List.copyOf(objects.getFiles(storage.loadArchive(objects)).getFiles());
+		objectIds = new int[files.size()];
+		objectData = new byte[files.size()][];
+		for (int i = 0; i < files.size(); ++i)
+		{
+			objectIds[i] = files.get(i).getFileId();
+			objectData[i] = files.get(i).getContents();
+		}
+
+		List<Archive> archives = store.getIndex(IndexType.MODELS).getArchives();
+		int count = 0;
+		modelIds = new int[Math.min(models, archives.size())];
+		modelData = new byte[modelIds.length][];
+		for (Archive archive : archives)
+		{
+			if (count == modelIds.length)
+			{
+				break;
+			}
+			byte[] data = storage.loadArchive(archive);
+			if (data != null)
+			{
+				modelIds[count] = archive.getArchiveId();
+				modelData[count++] = archive.decompress(data);
+			}
+		}
+		modelIds = Arrays.copyOf(modelIds, count);
+	}
+
+	@Benchmark
+	public ObjectDefinition objectLoader()
+	{
+		int i = nextObject;
+		nextObject = i + 1 == objectIds.length ? 0 : i + 1;
+		return objectLoader.load(objectIds[i], objectData[i]);
+	}
+
+	@Benchmark
+	public ModelDefinition modelLoader()
+	{
+		int i = nextModel;
+		nextModel = i + 1 == modelIds.length ? 0 : i + 1;
+		return modelLoader.load(modelIds[i], modelData[i]);
+	}
+
+	@Benchmark
+	public ModelView modelLoaderArena()
+	{
+		int i = nextModel;
+		nextModel = i + 1 == modelIds.length ? 0 : i + 1;
+		return modelLoader.load(modelIds[i], modelData[i], modelArena);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public ObjectManager objectManagerLoad() throws IOException
+	{
+		ObjectManager objectManager = new ObjectManager(store);
+		objectManager.load();
+		return objectManager;
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public ObjectManager objectManagerLoadLazy() throws IOException
+	{
+		ObjectManager objectManager = new ObjectManager(store);
+		objectManager.loadLazy();
+		return objectManager;
+	}
+}
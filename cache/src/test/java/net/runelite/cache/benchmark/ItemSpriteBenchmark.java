@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025, Microbot
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.ItemManager;
+import net.runelite.cache.SpriteManager;
+import net.runelite.cache.TextureManager;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.item.ItemSpriteFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rendering item sprites, one item per operation, cycling through every named item. The one-off factory method
+ * sets up textures and reads the model for every sprite, a reused factory shares them between sprites.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ItemSpriteBenchmark
+{
+	private ItemManager itemManager;
+	private ModelProvider modelProvider;
+	private SpriteManager spriteManager;
+	private TextureManager textureManager;
+	private ItemSpriteFactory factory;
+	private int[] itemIds;
+	private int next;
+
+	@Setup
+	public void setup(CacheState cache) throws IOException
+	{
+		Store store = cache.store;
+
+		itemManager = new ItemManager(store);
+		itemManager.load();
+		itemManager.link();
+
+		Index models = store.getIndex(IndexType.MODELS);
+		modelProvider = modelId ->
+		{
+			Archive archive = models.getArchive(modelId);
+			byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+			return new ModelLoader().load(modelId, data);
+		};
+
+		spriteManager = new SpriteManager(store);
+		spriteManager.load();
+
+		textureManager = new TextureManager(store);
+		textureManager.load();
+
+		factory = new ItemSpriteFactory(itemManager, modelProvider, spriteManager, textureManager);
+
+		itemIds = itemManager.getItems().stream()
+			.filter(item -> item.name != null && !item.name.equalsIgnoreCase("null"))
+			.mapToInt(item -> item.id)
+			.toArray();
+	}
+
+	@Benchmark
+	public BufferedImage createSprite() throws IOException
+	{
+		int i = next;
+		next = i + 1 == itemIds.length ? 0 : i + 1;
+		return ItemSpriteFactory.createSprite(itemManager, modelProvider, spriteManager, textureManager,
+			itemIds[i], 1, 1, 3153952, false);
+	}
+
+	@Benchmark
+	public BufferedImage createSpriteReusingFactory() throws IOException
+	{
+		int i = next;
+		next = i + 1 == itemIds.length ? 0 : i + 1;
+		return factory.createSprite(itemIds[i], 1, 1, 3153952, false);
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, Microbot
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Storage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading and decompressing archives, one archive per operation, cycling through every archive of the index.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class StorageBenchmark
+{
+	@Param({"CONFIGS", "MODELS", "SPRITES"})
+	public IndexType indexType;
+
+	private Storage storage;
+	private Archive[] archives;
+	private byte[][] compressed;
+	private byte[] buffer;
+	private int next;
+
+	@Setup
+	public void setup(CacheState cache) throws IOException
+	{
+		storage = cache.store.getStorage();
+
+		List<Archive> present = new ArrayList<>();
+		List<byte[]> data = new ArrayList<>();
+		int maxLength = 0;
+		for (Archive archive : cache.store.getIndex(indexType).getArchives())
+		{
+			byte[] b = storage.loadArchive(archive);
+			if (b != null)
+			{
+				present.add(archive);
+				data.add(b);
+				maxLength = Math.max(maxLength, Container.getDecompressedLength(b, null));
+			}
+		}
+
+		archives = present.toArray(new Archive[0]);
+		compressed = data.toArray(new byte[0][]);
+		buffer = new byte[maxLength];
+	}
+
+	private int nextArchive()
+	{
+		int i = next;
+		next = i + 1 == archives.length ? 0 : i + 1;
+		return i;
+	}
+
+	@Benchmark
+	public byte[] loadArchive() throws IOException
+	{
+		return storage.loadArchive(archives[nextArchive()]);
+	}
+
+	@Benchmark
+	public Container decompress() throws IOException
+	{
+		return Container.decompress(compressed[nextArchive()], null);
+	}
+
+	@Benchmark
+	public Container decompressIntoBuffer() throws IOException
+	{
+		// without keys the input is not modified, so it can be decompressed again
+		return Container.decompress(compressed[nextArchive()], null, buffer);
+	}
+
+	@Benchmark
+	public ArchiveFiles getFiles() throws IOException
+	{
+		int i = nextArchive();
+		return archives[i].getFiles(compressed[i]);
+	}
+}
@@ -25,9 +25,14 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Random;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
+import static net.runelite.cache.fs.jagex.CompressionType.NONE;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import org.junit.Test;
 
 public class ContainerTest
@@ -52,4 +57,48 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testDecompressIntoBuffer() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[1021];
+		random.nextBytes(data);
+
+		byte[] buffer = new byte[2048];
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			for (int[] k : new int[][]{null, keys})
+			{
+				Container container = new Container(compression, 7);
+				container.compress(data, k);
+				byte[] compressedData = container.data;
+				int crc = container.crc;
+
+				Container copy = Container.decompress(compressedData.clone(), k);
+				assertArrayEquals(data, copy.data);
+				assertEquals(data.length, copy.length);
+
+				assertEquals(data.length, Container.getDecompressedLength(compressedData, k));
+				container = Container.decompress(compressedData, k, buffer);
+				assertSame(buffer, container.data);
+				assertEquals(data.length, container.length);
+				assertArrayEquals(data, Arrays.copyOf(buffer, container.length));
+				assertEquals(crc, container.crc);
+				assertEquals(7, container.revision);
+				assertEquals(compression, container.compression);
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDecompressIntoSmallBuffer() throws IOException
+	{
+		Container container = new Container(GZ, -1);
+		container.compress(new byte[100], null);
+		Container.decompress(container.data, null, new byte[99]);
+	}
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025, Microbot
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.OutputStream;
+import net.runelite.cache.util.DefinitionStore;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class IndexedArchiveFilesTest
+{
+	private static final int[] IDS = {0, 2, 5};
+
+	@Test
+	public void testMatchesArchiveFiles() throws IOException
+	{
+		// two chunks, so every file is split in two
+		OutputStream out = new OutputStream();
+		byte[][] chunk1 = {{1, 2}, {3}, {4, 5, 6}};
+		byte[][] chunk2 = {{7}, {8, 9}, {}};
+		for (byte[][] chunk : new byte[][][]{chunk1, chunk2})
+		{
+			for (byte[] b : chunk)
+			{
+				out.writeBytes(b);
+			}
+		}
+		for (byte[][] chunk : new byte[][][]{chunk1, chunk2})
+		{
+			int prev = 0;
+			for (byte[] b : chunk)
+			{
+				out.writeInt(b.length - prev);
+				prev = b.length;
+			}
+		}
+		out.writeByte(2);
+		byte[] data = out.flip();
+
+		ArchiveFiles archiveFiles = new ArchiveFiles();
+		FileData[] fileData = new FileData[IDS.length];
+		for (int i = 0; i < IDS.length; ++i)
+		{
+			fileData[i] = new FileData();
+			fileData[i].setId(IDS[i]);
+			archiveFiles.addFile(new FSFile(IDS[i]));
+		}
+		archiveFiles.loadContents(data);
+
+		IndexedArchiveFiles indexed = new IndexedArchiveFiles(fileData, data);
+		assertEquals(3, indexed.getFileCount());
+		assertEquals(5, indexed.getMaxFileId());
+		for (int id : IDS)
+		{
+			assertArrayEquals(archiveFiles.findFile(id).getContents(), indexed.getContents(id));
+		}
+		assertNull(indexed.getContents(1));
+		assertNull(indexed.getContents(6));
+
+		AtomicInteger decodes = new AtomicInteger();
+		DefinitionStore<String> store = new DefinitionStore<>(indexed, (id, b) ->
+		{
+			decodes.incrementAndGet();
+			return id + ":" + b.length;
+		});
+		assertEquals("2:3", store.get(2));
+		assertSame(store.get(2), store.get(2));
+		assertNull(store.get(1));
+		assertEquals(1, decodes.get());
+		assertEquals(3, store.getAll().size());
+		assertEquals(3, decodes.get());
+	}
+}
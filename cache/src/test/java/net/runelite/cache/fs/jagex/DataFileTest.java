@@ -167,4 +167,34 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testReadOnly() throws IOException
+	{
+		byte[] small = new byte[4096];
+		byte[] large = new byte[4096];
+		for (int i = 0; i < small.length; ++i)
+		{
+			small[i] = (byte) i;
+			large[i] = (byte) (i * 7);
+		}
+
+		File file = folder.newFile();
+		DataFileWriteResult smallRes;
+		DataFileWriteResult largeRes;
+		try (DataFile df = new DataFile(file))
+		{
+			smallRes = df.write(42, 3, small);
+			largeRes = df.write(42, 0x1FFFF, large);
+		}
+
+		try (DataFile df = new DataFile(file, true))
+		{
+			Assert.assertTrue(df.isReadOnly());
+			Assert.assertArrayEquals(small, df.read(42, 3, smallRes.sector, smallRes.compressedLength));
+			Assert.assertArrayEquals(large, df.read(42, 0x1FFFF, largeRes.sector, largeRes.compressedLength));
+			// wrong archive
+			Assert.assertNull(df.read(42, 4, smallRes.sector, smallRes.compressedLength));
+		}
+	}
 }
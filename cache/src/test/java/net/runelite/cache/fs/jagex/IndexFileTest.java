@@ -47,4 +47,21 @@ public class IndexFileTest
 		IndexEntry entry2 = index.read(7);
 		Assert.assertEquals(entry, entry2);
 	}
+
+	@Test
+	public void testReadOnly() throws IOException
+	{
+		File file = folder.newFile();
+		try (IndexFile index = new IndexFile(5, file))
+		{
+			index.write(new IndexEntry(index, 7, 8, 9));
+		}
+
+		try (IndexFile index = new IndexFile(5, file, true))
+		{
+			Assert.assertEquals(new IndexEntry(index, 7, 8, 9), index.read(7));
+			Assert.assertNull(index.read(8));
+			Assert.assertEquals(8, index.getIndexCount());
+		}
+	}
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025, Microbot
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.io.OutputStream;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class ModelArenaTest
+{
+	@Test
+	public void testMatchesLoad()
+	{
+		ModelLoader loader = new ModelLoader();
+		ModelArena arena = new ModelArena();
+
+		// decode the larger model first, so the second one is decoded into dirty, oversized buffers
+		byte[] large = model(40);
+		byte[] small = model(4);
+		for (byte[] data : new byte[][]{large, small, large})
+		{
+			ModelDefinition expected = loader.load(1, data);
+			ModelView view = loader.load(1, data, arena);
+
+			assertEquals(expected.vertexCount, view.getVertexCount());
+			assertEquals(expected.faceCount, view.getFaceCount());
+			for (int i = 0; i < expected.faceCount; ++i)
+			{
+				assertEquals(expected.faceIndices1[i], view.getFaceIndex1(i));
+				assertEquals(expected.faceColors[i], view.getFaceColor(i));
+				assertEquals(expected.faceRenderPriorities[i], view.getFaceRenderPriority(i));
+			}
+			for (int i = 0; i < expected.vertexCount; ++i)
+			{
+				VertexNormal normal = expected.vertexNormals[i];
+				assertEquals(normal.x, view.getVertexNormalX(i));
+				assertEquals(normal.y, view.getVertexNormalY(i));
+				assertEquals(normal.z, view.getVertexNormalZ(i));
+				assertEquals(normal.magnitude, view.getVertexNormalMagnitude(i));
+			}
+			FaceNormal faceNormal = expected.faceNormals[0];
+			assertEquals(faceNormal.x, view.getFaceNormalX(0));
+			assertEquals(faceNormal.y, view.getFaceNormalY(0));
+			assertEquals(faceNormal.z, view.getFaceNormalZ(0));
+
+			int maxX = Integer.MIN_VALUE;
+			int minZ = Integer.MAX_VALUE;
+			for (int i = 0; i < expected.vertexCount; ++i)
+			{
+				maxX = Math.max(maxX, expected.vertexX[i]);
+				minZ = Math.min(minZ, expected.vertexZ[i]);
+			}
+			assertEquals(maxX, view.getMaxX());
+			assertEquals(minZ, view.getMinZ());
+
+			ModelDefinition copy = view.toDefinition();
+			assertEquals(expected, copy);
+			assertEquals(expected.vertexNormals.length, copy.vertexNormals.length);
+			assertNotNull(copy.faceNormals[0]);
+			assertNull(copy.faceNormals[1]);
+			assertArrayEquals(expected.faceTextureUCoordinates, copy.faceTextureUCoordinates);
+		}
+	}
+
+	/**
+	 * Builds a model in the old format: a fan of triangles around vertex 0, where the first face has render type 1.
+	 */
+	private static byte[] model(int vertexCount)
+	{
+		int faceCount = vertexCount - 2;
+		int[] x = new int[vertexCount];
+		int[] y = new int[vertexCount];
+		int[] z = new int[vertexCount];
+		for (int i = 1; i < vertexCount; ++i)
+		{
+			x[i] = i * 37 % 200 - 100;
+			y[i] = -(i * 13 % 90);
+			z[i] = i * 71 % 300 - 150;
+		}
+
+		OutputStream flags = new OutputStream();
+		OutputStream dx = new OutputStream();
+		OutputStream dy = new OutputStream();
+		OutputStream dz = new OutputStream();
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			flags.writeByte(7);
+			writeSmart(dx, x[i] - (i == 0 ? 0 : x[i - 1]));
+			writeSmart(dy, y[i] - (i == 0 ? 0 : y[i - 1]));
+			writeSmart(dz, z[i] - (i == 0 ? 0 : z[i - 1]));
+		}
+
+		OutputStream indices = new OutputStream();
+		int previous = 0;
+		for (int i = 0; i < faceCount; ++i)
+		{
+			writeSmart(indices, 0 - previous);
+			writeSmart(indices, i + 1);
+			writeSmart(indices, 1);
+			previous = i + 2;
+		}
+
+		OutputStream out = new OutputStream();
+		out.writeBytes(flags.flip());
+		for (int i = 0; i < faceCount; ++i)
+		{
+			out.writeByte(1); // compression type
+		}
+		for (int i = 0; i < faceCount; ++i)
+		{
+			out.writeByte(i % 3); // priority
+		}
+		for (int i = 0; i < faceCount; ++i)
+		{
+			out.writeByte(i == 0 ? 1 : 0); // texture flags
+		}
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			out.writeByte(i % 4); // vertex group
+		}
+		byte[] faceIndexData = indices.flip();
+		out.writeBytes(faceIndexData);
+		for (int i = 0; i < faceCount; ++i)
+		{
+			out.writeShort(i * 1000);
+		}
+		byte[] xData = dx.flip();
+		byte[] yData = dy.flip();
+		byte[] zData = dz.flip();
+		out.writeBytes(xData);
+		out.writeBytes(yData);
+		out.writeBytes(zData);
+
+		out.writeShort(vertexCount);
+		out.writeShort(faceCount);
+		out.writeByte(0); // texture faces
+		out.writeByte(1); // textured
+		out.writeByte(255); // per face priorities
+		out.writeByte(0); // transparencies
+		out.writeByte(0); // transparency groups
+		out.writeByte(1); // vertex groups
+		out.writeShort(xData.length);
+		out.writeShort(yData.length);
+		out.writeShort(zData.length);
+		out.writeShort(faceIndexData.length);
+		return out.flip();
+	}
+
+	private static void writeSmart(OutputStream out, int value)
+	{
+		if (value >= -64 && value < 64)
+		{
+			out.writeByte(value + 64);
+		}
+		else
+		{
+			out.writeShort(value + 0xC000);
+		}
+	}
+}
@@ -24,10 +24,13 @@
  */
 package net.runelite.cache.util;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
 import static org.junit.Assert.assertArrayEquals;
 import org.junit.Test;
 
@@ -53,4 +56,53 @@ public class GZipTest
 		};
 		assertArrayEquals(header, Arrays.copyOfRange(data, 0, header.length));
 	}
+
+	@Test
+	public void testDecompressInto() throws IOException
+	{
+		byte[] data = "some data some data some data".getBytes(StandardCharsets.UTF_8);
+		byte[] compressed = GZip.compress(data);
+		byte[] in = new byte[compressed.length + 5];
+		System.arraycopy(compressed, 0, in, 3, compressed.length);
+
+		byte[] out = new byte[data.length + 4];
+		GZip.decompress(in, 3, compressed.length, out, 2, data.length);
+		assertArrayEquals(data, Arrays.copyOfRange(out, 2, 2 + data.length));
+	}
+
+	@Test(expected = ZipException.class)
+	public void testDecompressCorruptPayload() throws IOException
+	{
+		byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+		byte[] compressed = storedGZip(data);
+		// the stored block holds the data as is, just before the 8 byte trailer, so it still inflates
+		compressed[compressed.length - 8 - 1] ^= 1;
+
+		GZip.decompress(compressed, 0, compressed.length, new byte[data.length], 0, data.length);
+	}
+
+	@Test(expected = ZipException.class)
+	public void testDecompressCorruptChecksum() throws IOException
+	{
+		byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+		byte[] compressed = GZip.compress(data);
+		compressed[compressed.length - 8] ^= 1;
+
+		GZip.decompress(compressed, 0, compressed.length, new byte[data.length], 0, data.length);
+	}
+
+	private static byte[] storedGZip(byte[] data) throws IOException
+	{
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(bout)
+		{
+			{
+				def.setLevel(Deflater.NO_COMPRESSION);
+			}
+		})
+		{
+			out.write(data);
+		}
+		return bout.toByteArray();
+	}
 }
\ No newline at end of file
@@ -24,6 +24,12 @@
  */
 package net.runelite.client.config;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -31,48 +37,83 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * A properties file plus a write-ahead log of the patches applied to it since it was last written. Patches are
+ * appended to the log, which is folded back into the properties file in the background once it grows past
+ * {@link #COMPACT_THRESHOLD}, so frequent saves do not rewrite the whole file.
+ * <p>
+ * Each log record is a length, a CRC32 of the payload, and the payload: an entry count followed by the entries as
+ * length-prefixed UTF-8 keys and values, with a value length of -1 for unset keys. A record torn by a crash fails
+ * its checksum and is dropped along with anything after it.
+ */
 @Slf4j
 class ConfigData
 {
+	private static final int COMPACT_THRESHOLD = 256 * 1024;
+	private static final Set<File> pendingCompactions = ConcurrentHashMap.newKeySet();
+	/** File locks are held per process, so threads of this client additionally synchronize on these */
+	private static final Map<File, Object> threadLocks = new ConcurrentHashMap<>();
+	private static final ExecutorService compactor = Executors.newSingleThreadExecutor(r ->
+	{
+		Thread thread = new Thread(r, "Config compactor");
+		thread.setDaemon(true);
+		return thread;
+	});
+
 	private final File configPath;
+	private final File walPath;
 
 	private final ConcurrentHashMap<String, String> properties;
 	private Map<String, String> patchChanges = new HashMap<>();
+	/** Length of the log after our last read or append, to detect appends from other clients and torn records */
+	private long walLength = -1;
 
 	ConfigData(File configPath)
 	{
 		this.configPath = configPath;
+		this.walPath = walFile(configPath);
 
 		Properties props = new Properties();
-		try (FileInputStream in = new FileInputStream(configPath);
-			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
-		{
-			props.load(reader);
-		}
-		catch (FileNotFoundException ignored)
+		try
 		{
+			locked(configPath, () ->
+			{
+				loadProperties(configPath, props);
+				walLength = replay(walPath, props);
+			});
 		}
-		catch (Exception ex)
+		catch (IOException ex)
 		{
 			throw new RuntimeException(ex);
 		}
 
 		properties = new ConcurrentHashMap<>(props.size());
 		props.forEach((k, v) -> properties.put((String) k, (String) v));
+
+		if (walLength > 0)
+		{
+			scheduleCompaction(configPath);
+		}
 	}
 
 	String getProperty(String key)
@@ -130,75 +171,319 @@ class ConfigData
 
 	void patch(Map<String, String> patch)
 	{
-		// load + patch + store instead of just flushing the in-memory properties to disk so that
+		// append the patch instead of just flushing the in-memory properties to disk so that
 		// multiple clients editing one config data (such as rs profile config) get their data merged
 		// correctly
 
-		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
-		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
-			FileChannel lckChannel = lockOut.getChannel())
+		try
+		{
+			locked(configPath, () ->
+			{
+				if (!configPath.exists() && !walPath.exists())
+				{
+					// this probably doesn't happen outside of the very first save (when no file exists)
+					// but to be safe in the event the prop is deleted off disk, flush the entire properties
+					// from memory
+					Properties tempProps = new Properties();
+					tempProps.putAll(properties);
+					store(configPath, tempProps);
+					return;
+				}
+
+				append(patch);
+			});
+		}
+		catch (IOException ex)
 		{
-			lckChannel.lock();
+			log.error("unable to save configuration file", ex);
+			return;
+		}
+
+		if (walLength > COMPACT_THRESHOLD)
+		{
+			scheduleCompaction(configPath);
+		}
+	}
 
-			Properties tempProps = new Properties();
-			try (FileInputStream in = new FileInputStream(configPath);
-				InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+	/**
+	 * Folds the write-ahead log of a config file into the properties file, so the properties file holds the
+	 * complete config and can be copied or moved on its own.
+	 */
+	static void compact(File configPath)
+	{
+		File walPath = walFile(configPath);
+		try
+		{
+			locked(configPath, () ->
 			{
-				tempProps.load(reader);
-			}
-			catch (FileNotFoundException e)
+				if (!walPath.exists())
+				{
+					return;
+				}
+
+				Properties tempProps = new Properties();
+				loadProperties(configPath, tempProps);
+				replay(walPath, tempProps);
+				store(configPath, tempProps);
+				// replaying the log again over the stored file is harmless, so a crash before this is fine
+				Files.delete(walPath.toPath());
+			});
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to compact configuration file", ex);
+		}
+	}
+
+	/**
+	 * Deletes a config file along with its write-ahead log.
+	 */
+	static void delete(File configPath)
+	{
+		try
+		{
+			locked(configPath, () ->
 			{
-				log.debug("config file {} does not exist", configPath);
-			}
+				Files.deleteIfExists(walFile(configPath).toPath());
+				Files.deleteIfExists(configPath.toPath());
+			});
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to delete configuration file", ex);
+		}
+	}
+
+	private static File walFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".wal");
+	}
+
+	private static void scheduleCompaction(File configPath)
+	{
+		if (pendingCompactions.add(configPath))
+		{
+			compactor.execute(() ->
+			{
+				pendingCompactions.remove(configPath);
+				compact(configPath);
+			});
+		}
+	}
+
+	private void append(Map<String, String> patch) throws IOException
+	{
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(payload);
+		out.writeInt(patch.size());
+		for (Map.Entry<String, String> entry : patch.entrySet())
+		{
+			writeString(out, entry.getKey());
+			writeString(out, entry.getValue());
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(payload.toByteArray());
+		ByteBuffer header = ByteBuffer.allocate(8);
+		header.putInt(payload.size()).putInt((int) crc.getValue()).flip();
 
-			if (tempProps.isEmpty())
+		try (FileChannel channel = FileChannel.open(walPath.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE))
+		{
+			long length = channel.size();
+			if (length != walLength)
 			{
-				// this probably doesn't happen outside of the very first save (when no file exists)
-				// but to be safe in the event the prop is deleted off disk, flush the entire properties
-				// from memory
-				tempProps.putAll(properties);
+				// another client appended or a write was torn, drop everything past the last intact record
+				length = validLength(walPath);
+				channel.truncate(length);
 			}
-			else
+
+			channel.position(length);
+			channel.write(new ByteBuffer[]{header, ByteBuffer.wrap(payload.toByteArray())});
+			channel.force(false);
+			walLength = channel.position();
+		}
+	}
+
+	private static long validLength(File walPath) throws IOException
+	{
+		return replay(walPath, null);
+	}
+
+	/**
+	 * Applies the intact records of the log to the properties
+	 *
+	 * @param props properties to patch, or null to only validate the log
+	 * @return the length of the intact records
+	 */
+	private static long replay(File walPath, Properties props) throws IOException
+	{
+		if (!walPath.exists())
+		{
+			return 0;
+		}
+
+		long length = 0;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(walPath))))
+		{
+			while (true)
 			{
-				// apply patches
-				for (Map.Entry<String, String> entry : patch.entrySet())
+				final int size;
+				final int checksum;
+				final byte[] payload;
+				try
 				{
-					if (entry.getValue() == null)
+					size = in.readInt();
+					checksum = in.readInt();
+					if (size < 0 || size > walPath.length())
 					{
-						tempProps.remove(entry.getKey());
+						break;
 					}
-					else
+					payload = new byte[size];
+					in.readFully(payload);
+				}
+				catch (EOFException e)
+				{
+					break;
+				}
+
+				CRC32 crc = new CRC32();
+				crc.update(payload);
+				if ((int) crc.getValue() != checksum)
+				{
+					break;
+				}
+
+				if (props != null)
+				{
+					Map<String, String> patch = readPatch(payload);
+					for (Map.Entry<String, String> entry : patch.entrySet())
 					{
-						tempProps.put(entry.getKey(), entry.getValue());
+						if (entry.getValue() == null)
+						{
+							props.remove(entry.getKey());
+						}
+						else
+						{
+							props.put(entry.getKey(), entry.getValue());
+						}
 					}
 				}
+				length += 8 + size;
 			}
+		}
 
-			File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
-			try (FileOutputStream out = new FileOutputStream(tempFile);
-				FileChannel channel = out.getChannel();
-				OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
-			{
-				channel.lock();
-				tempProps.store(writer, "RuneLite configuration");
-				writer.flush();
-				channel.force(true);
-			}
+		if (length != walPath.length())
+		{
+			log.warn("discarding torn records at the end of {}", walPath);
+		}
+		return length;
+	}
+
+	private static Map<String, String> readPatch(byte[] payload) throws IOException
+	{
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+		int count = in.readInt();
+		Map<String, String> patch = new LinkedHashMap<>(count * 2);
+		for (int i = 0; i < count; i++)
+		{
+			patch.put(readString(in), readString(in));
+		}
+		return patch;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException
+	{
+		if (value == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException
+	{
+		int length = in.readInt();
+		if (length < 0)
+		{
+			return null;
+		}
 
-			try
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void loadProperties(File configPath, Properties props) throws IOException
+	{
+		try (FileInputStream in = new FileInputStream(configPath);
+			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+		{
+			props.load(reader);
+		}
+		catch (FileNotFoundException e)
+		{
+			log.debug("config file {} does not exist", configPath);
+		}
+	}
+
+	private static void store(File configPath, Properties props) throws IOException
+	{
+		File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
+		try (FileOutputStream out = new FileOutputStream(tempFile);
+			FileChannel channel = out.getChannel();
+			OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+		{
+			channel.lock();
+			props.store(writer, "RuneLite configuration");
+			writer.flush();
+			channel.force(true);
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private interface LockedAction
+	{
+		void run() throws IOException;
+	}
+
+	/**
+	 * Runs the action holding the lock file of the config, which is shared by all clients using it
+	 */
+	private static void locked(File configPath, LockedAction action) throws IOException
+	{
+		if (!configPath.getAbsoluteFile().getParentFile().isDirectory())
+		{
+			// nothing to read, and nowhere to write
+			action.run();
+			return;
+		}
+
+		synchronized (threadLocks.computeIfAbsent(configPath.getAbsoluteFile(), k -> new Object()))
+		{
+			File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
+			try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+				FileChannel lckChannel = lockOut.getChannel())
 			{
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				lckChannel.lock();
+				action.run();
 			}
-			catch (AtomicMoveNotSupportedException ex)
+			finally
 			{
-				log.debug("atomic move not supported", ex);
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				lckFile.delete();
 			}
 		}
-		catch (IOException ex)
-		{
-			log.error("unable to save configuration file", ex);
-		}
-		lckFile.delete();
 	}
 }
@@ -188,6 +188,8 @@ public class ProfileManager {
             modified = true;
             File newFile = profileConfigFile(profile);
 
+			// the config is moved as a single file
+			ConfigData.compact(oldFile);
 			if (!oldFile.exists())
 			{
 				// no config file is valid if the profile hasn't been used yet.
@@ -222,4 +224,11 @@ public class ProfileManager {
     public static File profileConfigFile(ConfigProfile profile) {
         return new File(PROFILES_DIR, profile.getName() + "-" + profile.getId() + ".properties");
     }
+
+    /**
+     * Writes pending config changes of the profile into its properties file, so that the file can be copied.
+     */
+    public static void compactProfileConfig(ConfigProfile profile) {
+        ConfigData.compact(profileConfigFile(profile));
+    }
 }
@@ -26,8 +26,6 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -35,12 +33,24 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
@@ -53,6 +63,8 @@ import org.slf4j.MarkerFactory;
 public class EventBus
 {
 	private static final Marker DEDUPLICATE = MarkerFactory.getMarker("DEDUPLICATE");
+	private static final Comparator<Subscriber> SUBSCRIBER_ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
 
 	@Value
 	public static class Subscriber
@@ -62,6 +74,9 @@ public class EventBus
 		private final float priority;
 		@EqualsAndHashCode.Exclude
 		private final Consumer<Object> lambda;
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		private final DispatchStats stats = new DispatchStats();
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -76,10 +91,56 @@ public class EventBus
 		}
 	}
 
+	/**
+	 * Time spent in a subscriber while {@link #setDispatchTiming(boolean) dispatch timing} is enabled
+	 */
+	public static class DispatchStats
+	{
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		void record(long nanos)
+		{
+			count.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+		}
+
+		public long getCount()
+		{
+			return count.sum();
+		}
+
+		public long getTotalNanos()
+		{
+			return totalNanos.sum();
+		}
+
+		public long getMaxNanos()
+		{
+			return maxNanos.get();
+		}
+
+		public void reset()
+		{
+			count.reset();
+			totalNanos.reset();
+			maxNanos.reset();
+		}
+	}
+
 	private final Consumer<Throwable> exceptionHandler;
 
+	/**
+	 * Subscribers of each event class in dispatch order. Both the map and the arrays are replaced rather than
+	 * modified, so posting reads them without locking.
+	 */
 	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	private volatile Map<Class<?>, Subscriber[]> subscribers = new IdentityHashMap<>();
+
+	@Setter
+	private volatile boolean dispatchTiming;
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -98,10 +159,7 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		final Map<Class<?>, List<Subscriber>> added = new LinkedHashMap<>();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -159,25 +217,26 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				added.computeIfAbsent(parameterClazz, k -> new ArrayList<>()).add(subscriber);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		if (!added.isEmpty())
+		{
+			final Map<Class<?>, Subscriber[]> copy = new IdentityHashMap<>(subscribers);
+			added.forEach((clazz, subs) -> copy.put(clazz, concat(copy.get(clazz), subs)));
+			subscribers = copy;
+		}
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
-
 		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
 
-		subscribers = builder.build();
+		final Map<Class<?>, Subscriber[]> copy = new IdentityHashMap<>(subscribers);
+		copy.put(clazz, concat(copy.get(clazz), List.of(sub)));
+		subscribers = copy;
 
 		return sub;
 	}
@@ -189,10 +248,7 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		remove(s -> s.getObject() == object);
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,10 +258,84 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		remove(s -> s == sub);
+	}
+
+	/**
+	 * @return every registered subscriber, with its {@link Subscriber#getStats() dispatch statistics}
+	 */
+	public List<Subscriber> getSubscribers()
+	{
+		final List<Subscriber> result = new ArrayList<>();
+		for (Subscriber[] subs : subscribers.values())
+		{
+			Collections.addAll(result, subs);
+		}
+		return result;
+	}
+
+	private static Subscriber[] concat(Subscriber[] existing, List<Subscriber> added)
+	{
+		final int length = existing == null ? 0 : existing.length;
+		final Subscriber[] result = new Subscriber[length + added.size()];
+		if (existing != null)
+		{
+			System.arraycopy(existing, 0, result, 0, length);
+		}
+		for (int i = 0; i < added.size(); i++)
+		{
+			result[length + i] = added.get(i);
+		}
+		// stable, so subscribers with the same order keep their registration order
+		Arrays.sort(result, SUBSCRIBER_ORDER);
+		return result;
+	}
+
+	private void remove(Predicate<Subscriber> filter)
+	{
+		Map<Class<?>, Subscriber[]> copy = null;
+		for (Map.Entry<Class<?>, Subscriber[]> entry : subscribers.entrySet())
+		{
+			final Subscriber[] subs = entry.getValue();
+			int kept = 0;
+			for (Subscriber s : subs)
+			{
+				if (!filter.test(s))
+				{
+					kept++;
+				}
+			}
+			if (kept == subs.length)
+			{
+				continue;
+			}
+
+			if (copy == null)
+			{
+				copy = new IdentityHashMap<>(subscribers);
+			}
+			if (kept == 0)
+			{
+				copy.remove(entry.getKey());
+				continue;
+			}
+
+			final Subscriber[] remaining = new Subscriber[kept];
+			int i = 0;
+			for (Subscriber s : subs)
+			{
+				if (!filter.test(s))
+				{
+					remaining[i++] = s;
+				}
+			}
+			copy.put(entry.getKey(), remaining);
+		}
+
+		if (copy != null)
+		{
+			subscribers = copy;
+		}
 	}
 
 	/**
@@ -216,8 +346,16 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] subs = subscribers.get(event.getClass());
+		if (subs == null)
+		{
+			return;
+		}
+
+		final boolean timed = dispatchTiming;
+		for (final Subscriber subscriber : subs)
 		{
+			final long start = timed ? System.nanoTime() : 0L;
 			try
 			{
 				subscriber.invoke(event);
@@ -226,6 +364,10 @@ public class EventBus
 			{
 				exceptionHandler.accept(e);
 			}
+			if (timed)
+			{
+				subscriber.stats.record(System.nanoTime() - start);
+			}
 		}
 	}
 }
\ No newline at end of file
@@ -33,10 +33,14 @@ import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -79,6 +83,107 @@ public class ItemManager
 		private final Color outlineColor;
 	}
 
+	/**
+	 * Index over the lowercase names of tradeable items. Each substring of up to {@link #GRAM_LENGTH} characters
+	 * maps to the items whose name contains it, in price order, so a search only has to check the items containing
+	 * the rarest gram of the query.
+	 */
+	private static final class ItemSearchIndex
+	{
+		private static final int GRAM_LENGTH = 3;
+		private static final ItemSearchIndex EMPTY = new ItemSearchIndex(Collections.emptyList());
+
+		private final ItemPrice[] items;
+		private final String[] names;
+		private final Map<String, int[]> grams;
+		private final Map<String, ItemPrice> exactNames;
+
+		ItemSearchIndex(Collection<ItemPrice> prices)
+		{
+			items = prices.toArray(new ItemPrice[0]);
+			names = new String[items.length];
+
+			final Map<String, List<Integer>> postings = new HashMap<>();
+			final Map<String, ItemPrice> exact = new HashMap<>(items.length * 2);
+			final Set<String> seen = new HashSet<>();
+			for (int i = 0; i < items.length; i++)
+			{
+				final String name = items[i].getName().toLowerCase();
+				names[i] = name;
+				exact.putIfAbsent(name, items[i]);
+
+				seen.clear();
+				for (int length = 1; length <= GRAM_LENGTH; length++)
+				{
+					for (int start = 0; start + length <= name.length(); start++)
+					{
+						final String gram = name.substring(start, start + length);
+						if (seen.add(gram))
+						{
+							postings.computeIfAbsent(gram, k -> new ArrayList<>()).add(i);
+						}
+					}
+				}
+			}
+
+			grams = new HashMap<>(postings.size() * 2);
+			postings.forEach((gram, list) -> grams.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+			exactNames = exact;
+		}
+
+		List<ItemPrice> search(String query)
+		{
+			if (query.isEmpty())
+			{
+				return new ArrayList<>(Arrays.asList(items));
+			}
+
+			if (query.length() <= GRAM_LENGTH)
+			{
+				final int[] matches = grams.get(query);
+				final List<ItemPrice> result = new ArrayList<>(matches == null ? 0 : matches.length);
+				if (matches != null)
+				{
+					for (int i : matches)
+					{
+						result.add(items[i]);
+					}
+				}
+				return result;
+			}
+
+			int[] candidates = null;
+			for (int start = 0; start + GRAM_LENGTH <= query.length(); start++)
+			{
+				final int[] matches = grams.get(query.substring(start, start + GRAM_LENGTH));
+				if (matches == null)
+				{
+					return new ArrayList<>();
+				}
+				if (candidates == null || matches.length < candidates.length)
+				{
+					candidates = matches;
+				}
+			}
+
+			final List<ItemPrice> result = new ArrayList<>();
+			for (int i : candidates)
+			{
+				if (names[i].contains(query))
+				{
+					result.add(items[i]);
+				}
+			}
+			return result;
+		}
+
+		@Nullable
+		ItemPrice find(String name)
+		{
+			return exactNames.get(name);
+		}
+	}
+
 	private final Client client;
 	private final ClientThread clientThread;
 	private final ItemClient itemClient;
@@ -96,6 +201,7 @@ public class ItemManager
 
 	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
 	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
+	private volatile ItemSearchIndex searchIndex = ItemSearchIndex.EMPTY;
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
 
@@ -245,6 +351,7 @@ public class ItemManager
 					map.put(price.getId(), price);
 				}
 				itemPrices = map.build();
+				searchIndex = new ItemSearchIndex(itemPrices.values());
 			}
 
 			log.debug("Loaded {} prices", itemPrices.size());
@@ -401,18 +508,19 @@ public class ItemManager
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
+		return searchIndex.search(itemName.toLowerCase());
+	}
 
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
-		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
-			{
-				result.add(itemPrice);
-			}
-		}
-		return result;
+	/**
+	 * Look up a tradeable item by its full name, ignoring case
+	 *
+	 * @param itemName item name
+	 * @return the item, or null if no tradeable item has this name
+	 */
+	@Nullable
+	public ItemPrice findItem(String itemName)
+	{
+		return searchIndex.find(itemName.toLowerCase());
 	}
 
 	/**
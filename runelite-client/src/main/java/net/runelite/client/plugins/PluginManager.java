@@ -57,11 +57,16 @@ import javax.inject.Named;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 import javax.swing.*;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.invoke.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
@@ -74,6 +79,10 @@ public class PluginManager {
      * Base package where the core plugins are
      */
     private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+    /**
+     * Index of the core plugin classes, written by the plugin-index goal of runelite-maven-plugin
+     */
+    private static final String PLUGIN_INDEX = "plugins.idx";
     private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
 
     private final boolean safeMode;
@@ -217,11 +226,7 @@ public class PluginManager {
 
     public void loadCorePlugins() throws IOException, PluginInstantiationException {
         SplashScreen.stage(.59, null, "Loading plugins");
-        ClassPath classPath = ClassPath.from(getClass().getClassLoader());
-
-        List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-                .map(ClassInfo::load)
-                .collect(Collectors.toList());
+        List<Class<?>> plugins = loadPluginClasses();
 
         loadPlugins(plugins, (loaded, total) ->
                 SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
@@ -235,14 +240,10 @@ public class PluginManager {
      */
     public void loadRuneliteCorePlugins() throws IOException, PluginInstantiationException {
         SplashScreen.stage(.59, null, "Loading plugins");
-        ClassPath classPath = ClassPath.from(getClass().getClassLoader());
-
         List<Class<?>> microbotPlugins = new ArrayList<>();
         List<Class<?>> otherPlugins = new ArrayList<>();
 
-        for (ClassInfo classInfo : classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE)) {
-
-            Class<?> clazz = classInfo.load();
+        for (Class<?> clazz : loadPluginClasses()) {
             String pkg = clazz.getPackageName().toLowerCase();
 
 
@@ -270,6 +271,48 @@ public class PluginManager {
                 SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
     }
 
+    /**
+     * Loads the candidate plugin classes of the core plugin package. Packaged builds only load the classes
+     * listed in the plugin index. Class directories, such as IDE runs, are scanned instead since their
+     * index is not regenerated on every compile and may be stale.
+     */
+    private List<Class<?>> loadPluginClasses() throws IOException {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final URL index = PluginManager.class.getResource(PLUGIN_INDEX);
+        if (index != null && "jar".equals(index.getProtocol())) {
+            try (InputStream in = index.openStream()) {
+                List<Class<?>> classes = new ArrayList<>();
+                for (String className : readPluginIndex(in)) {
+                    classes.add(classLoader.loadClass(className));
+                }
+                return classes;
+            } catch (ClassNotFoundException ex) {
+                log.warn("Plugin index is out of date, scanning for plugins instead", ex);
+            }
+        }
+
+        return ClassPath.from(classLoader).getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+                .map(ClassInfo::load)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the plugin class names from a plugin index, which holds one class name per line.
+     */
+    @VisibleForTesting
+    static List<String> readPluginIndex(InputStream in) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        for (String line; (line = reader.readLine()) != null; ) {
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            classNames.add(line);
+        }
+        return classNames;
+    }
+
     public void loadSideLoadPlugins() {
         File[] files = SIDELOADED_PLUGINS.listFiles();
         if (files == null) {
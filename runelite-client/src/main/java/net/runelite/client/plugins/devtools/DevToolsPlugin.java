@@ -41,6 +41,7 @@ import java.awt.image.BufferedImage;
 import static java.lang.Math.min;
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
@@ -554,6 +555,49 @@ public class DevToolsPlugin extends Plugin
 					.build());
 				break;
 			}
+			case "eventtimings":
+			{
+				// ::eventtimings on|off|reset, without an argument the slowest subscribers are printed
+				final String mode = args.length > 0 ? args[0].toLowerCase() : "";
+				String message;
+				switch (mode)
+				{
+					case "on":
+					case "off":
+						eventBus.setDispatchTiming(mode.equals("on"));
+						message = "Event dispatch timing is now " + mode;
+						break;
+					case "reset":
+						eventBus.getSubscribers().forEach(s -> s.getStats().reset());
+						message = "Event dispatch timings have been reset";
+						break;
+					default:
+					{
+						final StringBuilder sb = new StringBuilder("Slowest event subscribers:");
+						eventBus.getSubscribers().stream()
+							.filter(s -> s.getStats().getCount() > 0)
+							.sorted(Comparator.comparingLong((EventBus.Subscriber s) -> s.getStats().getTotalNanos()).reversed())
+							.limit(10)
+							.forEach(s ->
+							{
+								final String name = s.getMethod() != null
+									? s.getMethod().getDeclaringClass().getSimpleName() + "." + s.getMethod().getName()
+									: s.getObject().getClass().getName();
+								final String line = String.format("%s %.1fms total, %d calls, %.2fms max", name,
+									s.getStats().getTotalNanos() / 1e6, s.getStats().getCount(), s.getStats().getMaxNanos() / 1e6);
+								log.info("{}", line);
+								sb.append(' ').append(line).append(';');
+							});
+						message = sb.toString();
+					}
+				}
+
+				chatMessageManager.queue(QueuedMessage.builder()
+					.type(ChatMessageType.GAMEMESSAGE)
+					.runeLiteFormattedMessage(new ChatMessageBuilder().append(message).build())
+					.build());
+				break;
+			}
 			case "modicons":
 			{
 				final ChatMessageBuilder builder = new ChatMessageBuilder();
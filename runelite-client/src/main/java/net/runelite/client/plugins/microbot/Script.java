@@ -1,14 +1,14 @@
 package net.runelite.client.plugins.microbot;
 
 import java.time.Instant;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicInteger;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.plugins.microbot.globval.enums.InterfaceTab;
 import net.runelite.client.plugins.microbot.shortestpath.ShortestPathPlugin;
 import net.runelite.client.plugins.microbot.util.Global;
+import net.runelite.client.plugins.microbot.util.concurrent.ScriptExecutor;
+import net.runelite.client.plugins.microbot.util.concurrent.ScriptRuntime;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.keyboard.Rs2Keyboard;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
@@ -17,23 +17,15 @@ import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 import java.time.Duration;
 import java.time.LocalTime;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
-import org.jetbrains.annotations.NotNull;
 
 @Slf4j
 public abstract class Script extends Global implements IScript {
-	protected ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(10,
-		new ThreadFactory() {
-			private final AtomicInteger threadNumber = new AtomicInteger(1);
-			@Override
-			public Thread newThread(@NotNull Runnable r) {
-				Thread t = new Thread(r);
-				t.setName(Script.this.getClass().getSimpleName() + "-" + threadNumber.getAndIncrement());
-				return t;
-			}
-		});
+	/**
+	 * Per-script view over the shared {@link ScriptRuntime}, it does not own any threads itself.
+	 */
+	protected ScheduledExecutorService scheduledExecutorService = ScriptRuntime.newExecutor(getClass().getSimpleName());
     protected ScheduledFuture<?> scheduledFuture;
     protected ScheduledFuture<?> mainScheduledFuture;
 	@Deprecated(since = "1.9.7 - Blocking events are now handling turning off the level up dialog", forRemoval = true)
@@ -57,6 +49,18 @@ public abstract class Script extends Global implements IScript {
         return Duration.between(startTime, Instant.now());
     }
 
+    /**
+     * Get the CPU time consumed by this script's tasks
+     *
+     * @return the CPU time, or zero if it can not be measured on this runtime
+     */
+    public Duration getCpuTime() {
+        if (scheduledExecutorService instanceof ScriptExecutor) {
+            return ((ScriptExecutor) scheduledExecutorService).getCpuTime();
+        }
+        return Duration.ZERO;
+    }
+
     public void shutdown() {
         if (mainScheduledFuture != null && !mainScheduledFuture.isDone()) {
             mainScheduledFuture.cancel(true);
@@ -72,6 +76,10 @@ public abstract class Script extends Global implements IScript {
         if (scheduledFuture != null && !scheduledFuture.isDone()) {
             scheduledFuture.cancel(true);
         }
+        if (scheduledExecutorService instanceof ScriptExecutor) {
+            // also stop any ad-hoc tasks the script scheduled besides its main loop
+            ((ScriptExecutor) scheduledExecutorService).cancelAll();
+        }
         startTime = null;
     }
 
@@ -55,7 +55,6 @@ public class AttackNpcScript extends Script {
     @SneakyThrows
     public void run(AIOFighterConfig config) {
         try {
-            Rs2NpcManager.loadJson();
             Rs2Antiban.resetAntibanSettings();
             Rs2Antiban.antibanSetupTemplates.applyCombatSetup();
             Rs2Antiban.setActivityIntensity(ActivityIntensity.EXTREME);
@@ -39,12 +39,6 @@ public class FlickerScript extends Script {
     private int tickToFlick = 0;
 
     public boolean run(AIOFighterConfig config) {
-        try {
-            Rs2NpcManager.loadJson();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-
         mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
             try {
                 if (!Microbot.isLoggedIn() || !config.togglePrayer()) {
@@ -19,11 +19,6 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class PrayerScript extends Script {
     public boolean run(AIOFighterConfig config) {
-        try {
-            Rs2NpcManager.loadJson();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
         mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
             try {
                 handlePrayer(config);
@@ -1,6 +1,5 @@
 package net.runelite.client.plugins.microbot.aiofighter.combat;
 
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.plugins.microbot.Microbot;
@@ -11,7 +10,6 @@ import net.runelite.client.plugins.microbot.aiofighter.enums.State;
 import net.runelite.client.plugins.microbot.aiofighter.model.InventorySetupUtil;
 import net.runelite.client.plugins.microbot.util.npc.MonsterLocation;
 import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
-import net.runelite.client.plugins.microbot.util.npc.Rs2NpcManager;
 import net.runelite.client.plugins.microbot.util.npc.Rs2NpcModel;
 import net.runelite.client.plugins.microbot.util.slayer.Rs2Slayer;
 
@@ -24,11 +22,9 @@ public class SlayerScript extends Script {
     static WorldPoint cachedMonsterLocation = null;
     static String cachedMonsterLocationName = null;
     AIOFighterConfig config;
-    @SneakyThrows
     public boolean run(AIOFighterConfig config) {
         this.config = config;
         Microbot.enableAutoRunOn = false;
-        Rs2NpcManager.loadJson();
         mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
             try {
                 if (!Microbot.isLoggedIn()) return;
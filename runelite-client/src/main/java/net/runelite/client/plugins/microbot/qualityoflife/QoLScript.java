@@ -9,7 +9,6 @@ import net.runelite.client.plugins.microbot.util.dialogues.Rs2Dialogue;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.math.Rs2Random;
 import net.runelite.client.plugins.microbot.util.menu.NewMenuEntry;
-import net.runelite.client.plugins.microbot.util.npc.Rs2NpcManager;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 
@@ -24,7 +23,6 @@ public class QoLScript extends Script {
 
     public boolean run(QoLConfig config) {
         Microbot.enableAutoRunOn = false;
-        loadNpcData();
         mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
             try {
                 if (!Microbot.isLoggedIn()) {
@@ -76,14 +74,6 @@ public class QoLScript extends Script {
         return true;
     }
 
-    private void loadNpcData() {
-        try {
-            Rs2NpcManager.loadJson();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to load NPC data", e);
-        }
-    }
-
     // handle inventory setup
     private void handleInventorySetup() {
         if (!openBank()) {
@@ -25,18 +25,18 @@ public class Restriction {
      * The skill levels required for restriction to be lifted.
      */
     @Getter
-    private final int[] skillLevels = new int[Skill.values().length];
+    private final int[] skillLevels;
     /**
      * Any varbits to check for the restriction to be lifted.
      */
     @Getter
-    private final Set<TransportVarbit> varbits = new HashSet<>();
+    private final Set<TransportVarbit> varbits;
 
     /**
      * Any varplayers to check for the restriction to be lifted.
      */
     @Getter
-    private final Set<TransportVarPlayer> varplayers = new HashSet<>();
+    private final Set<TransportVarPlayer> varplayers;
 
     /**
      * Transport requires player to be in a members world
@@ -56,6 +56,22 @@ public class Restriction {
 
     public Restriction(int x, int y, int z) {
         packedWorldPoint = WorldPointUtil.packWorldPoint(x, y, z);
+        skillLevels = new int[Skill.values().length];
+        varbits = new HashSet<>();
+        varplayers = new HashSet<>();
+    }
+
+    /**
+     * Creates a restriction read from the {@link TransportDataset}, the requirements must not be modified.
+     */
+    Restriction(int packedWorldPoint, boolean isMembers, TransportDataset.Requirements requirements) {
+        this.packedWorldPoint = packedWorldPoint;
+        this.isMembers = isMembers;
+        this.skillLevels = requirements.getSkillLevels();
+        this.quests = requirements.getQuests();
+        this.itemIdRequirements = requirements.getItemIdRequirements();
+        this.varbits = requirements.getVarbits();
+        this.varplayers = requirements.getVarplayers();
     }
 
     public Restriction(Map<String, String> fieldMap) {
@@ -63,6 +79,10 @@ public class Restriction {
         final String DELIM_MULTI = ";";
         final String DELIM_STATE = "=";
 
+        skillLevels = new int[Skill.values().length];
+        varbits = new HashSet<>();
+        varplayers = new HashSet<>();
+
         String value;
         if ((value = fieldMap.get("Origin")) != null) {
             String[] originArray = value.split(DELIM);
@@ -28,9 +28,13 @@ import lombok.Setter;
 import net.runelite.api.Point;
 import net.runelite.api.*;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.MenuEntryAdded;
 import net.runelite.api.events.MenuOpened;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
 import net.runelite.api.widgets.ComponentID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.worldmap.WorldMap;
@@ -199,9 +203,8 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
     protected void startUp() {
 		cacheConfigValues();
         SplitFlagMap map = SplitFlagMap.fromResources();
-        Map<WorldPoint, Set<Transport>> transports = Transport.loadAllFromResources();
-        List<Restriction> restrictions = Restriction.loadAllFromResources();
-        pathfinderConfig = new PathfinderConfig(map, transports, restrictions, client, config);
+        TransportDataset dataset = TransportDataset.load();
+        pathfinderConfig = new PathfinderConfig(map, dataset.getTransports(), dataset.getRestrictions(), client, config);
 
         panel = injector.getInstance(ShortestPathPanel.class);
         final BufferedImage icon = ImageUtil.loadImageResource(ShortestPathPlugin.class, "panel_icon.png");
@@ -444,6 +447,34 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
 		pathStyle = override("pathStyle", config.pathStyle());
 	}
 
+    @Subscribe(priority = -1) // run after the Rs2 caches, which transports are evaluated against
+    public void onVarbitChanged(VarbitChanged event) {
+        if (pathfinderConfig != null) {
+            pathfinderConfig.onVarbitChanged(event);
+        }
+    }
+
+    @Subscribe(priority = -1) // run after the Rs2 caches, which transports are evaluated against
+    public void onItemContainerChanged(ItemContainerChanged event) {
+        if (pathfinderConfig != null) {
+            pathfinderConfig.onItemContainerChanged(event);
+        }
+    }
+
+    @Subscribe(priority = -1) // run after the Rs2 caches, which transports are evaluated against
+    public void onStatChanged(StatChanged event) {
+        if (pathfinderConfig != null) {
+            pathfinderConfig.onStatChanged(event);
+        }
+    }
+
+    @Subscribe(priority = -1) // run after the Rs2 caches, which transports are evaluated against
+    public void onGameStateChanged(GameStateChanged event) {
+        if (pathfinderConfig != null) {
+            pathfinderConfig.onGameStateChanged(event);
+        }
+    }
+
     @Subscribe
     public void onMenuOpened(MenuOpened event) {
         lastMenuOpenedPoint = client.getMouseCanvasPosition();
@@ -48,7 +48,7 @@ public class Transport {
      * The skill levels required to use this transport
      */
     @Getter
-    private final int[] skillLevels = new int[Skill.values().length];
+    private final int[] skillLevels;
 
     /**
      * The quests required to use this transport
@@ -100,13 +100,13 @@ public class Transport {
      * Any varbits to check for the transport to be valid. All must pass for a transport to be valid
      */
     @Getter
-    private final Set<TransportVarbit> varbits = new HashSet<>();
+    private final Set<TransportVarbit> varbits;
 
     /**
      * Any varplayers to check for the transport to be valid. All must pass for a transport to be valid
      */
     @Getter
-    private final Set<TransportVarPlayer> varplayers = new HashSet<>();
+    private final Set<TransportVarPlayer> varplayers;
     
     @Getter
     private String currencyName = "";
@@ -119,6 +119,8 @@ public class Transport {
     @Getter
     private boolean isMembers = false;
 
+    private transient volatile TransportDependencies dependencies;
+
     /**
      * Creates a new transport from an origin-only transport
      * and a destination-only transport, and merges requirements
@@ -126,6 +128,9 @@ public class Transport {
     Transport(Transport origin, Transport destination) {
         this.origin = origin.origin;
         this.destination = destination.destination;
+        this.skillLevels = new int[Skill.values().length];
+        this.varbits = new HashSet<>();
+        this.varplayers = new HashSet<>();
 
         for (int i = 0; i < skillLevels.length; i++) {
             this.skillLevels[i] = Math.max(
@@ -175,6 +180,10 @@ public class Transport {
         final String DELIM_MULTI = ";";
         final String DELIM_STATE = "=";
 
+        this.skillLevels = new int[Skill.values().length];
+        this.varbits = new HashSet<>();
+        this.varplayers = new HashSet<>();
+
         String value;
 
         // If the origin field is null the transport is a teleportation item or spell
@@ -360,6 +369,33 @@ public class Transport {
         }
     }
 
+    /**
+     * Creates a transport read from the {@link TransportDataset}. The requirements are shared between all
+     * transports with the same requirements and must not be modified.
+     */
+    Transport(WorldPoint origin, WorldPoint destination, TransportType type, int duration, String displayInfo,
+              boolean isConsumable, int maxWildernessLevel, boolean isMembers, String action, String name, int objectId,
+              String currencyName, int currencyAmount, TransportDataset.Requirements requirements) {
+        this.origin = origin;
+        this.destination = destination;
+        this.type = type;
+        this.duration = duration;
+        this.displayInfo = displayInfo;
+        this.isConsumable = isConsumable;
+        this.maxWildernessLevel = maxWildernessLevel;
+        this.isMembers = isMembers;
+        this.action = action;
+        this.name = name;
+        this.objectId = objectId;
+        this.currencyName = currencyName;
+        this.currencyAmount = currencyAmount;
+        this.skillLevels = requirements.getSkillLevels();
+        this.quests = requirements.getQuests();
+        this.itemIdRequirements = requirements.getItemIdRequirements();
+        this.varbits = requirements.getVarbits();
+        this.varplayers = requirements.getVarplayers();
+    }
+
     /**
      * The skill level required to use this transport
      */
@@ -374,6 +410,15 @@ public class Transport {
         return !quests.isEmpty();
     }
 
+    /** The game state the usability of this transport depends on */
+    public TransportDependencies getDependencies() {
+        TransportDependencies d = dependencies;
+        if (d == null) {
+            dependencies = d = TransportDependencies.of(this);
+        }
+        return d;
+    }
+
 	private static Map<Quest, QuestState> parseQuestStates(String questStatesCombined)
 	{
 		Map<Quest, QuestState> questStateMap = new HashMap<>();
@@ -0,0 +1,394 @@
+package net.runelite.client.plugins.microbot.shortestpath;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Quest;
+import net.runelite.api.QuestState;
+import net.runelite.api.Skill;
+import net.runelite.api.coords.WorldPoint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * The transports and restrictions of the TSV resources, compiled at build time into a single binary resource.
+ * <p>
+ * Permutation transports like fairy rings are stored expanded and coordinates are stored packed, so loading is a
+ * single pass without any text parsing. Strings and requirements are stored once and shared by every transport
+ * using them, which keeps the heap of the several thousand permutation transports small.
+ * <p>
+ * The dataset is written by {@link #main(String[])} during the {@code process-classes} phase of the client build.
+ * Its header holds a hash of the TSV resources it was compiled from. When it is missing, or the TSVs on the classpath
+ * were edited without rebuilding it, e.g. when running from an IDE, {@link #load()} falls back to parsing them.
+ */
+@Slf4j
+public final class TransportDataset {
+    static final String RESOURCE = "transports.bin";
+
+    private static final int MAGIC = 0x53505444; // SPTD
+    private static final int VERSION = 2;
+    private static final int NONE = -1;
+
+    private static final int FLAG_CONSUMABLE = 1;
+    private static final int FLAG_MEMBERS = 2;
+
+    /** Every resource read by {@link Transport#loadAllFromResources()} and {@link Restriction#loadAllFromResources()} */
+    private static final String[] SOURCES = {
+            "transports.tsv", "agility_shortcuts.tsv", "boats.tsv", "canoes.tsv", "charter_ships.tsv", "ships.tsv",
+            "fairy_rings.tsv", "gnome_gliders.tsv", "minecarts.tsv", "spirit_trees.tsv", "quetzals.tsv",
+            "teleportation_items.tsv", "teleportation_minigames.tsv", "teleportation_levers.tsv",
+            "teleportation_portals.tsv", "teleportation_spells.tsv", "wilderness_obelisks.tsv", "magic_carpets.tsv",
+            "npcs.tsv", "restrictions.tsv"
+    };
+
+    @Getter
+    private final HashMap<WorldPoint, Set<Transport>> transports;
+    @Getter
+    private final List<Restriction> restrictions;
+
+    private TransportDataset(HashMap<WorldPoint, Set<Transport>> transports, List<Restriction> restrictions) {
+        this.transports = transports;
+        this.restrictions = restrictions;
+    }
+
+    /**
+     * Requirements shared by transports and restrictions read from the dataset. The collections are unmodifiable,
+     * the skill levels are shared as well and must not be modified.
+     */
+    @Getter
+    static final class Requirements {
+        private final int[] skillLevels;
+        private final Map<Quest, QuestState> quests;
+        private final Set<Set<Integer>> itemIdRequirements;
+        private final Set<TransportVarbit> varbits;
+        private final Set<TransportVarPlayer> varplayers;
+
+        private Requirements(int[] skillLevels, Map<Quest, QuestState> quests, Set<Set<Integer>> itemIdRequirements,
+                             Set<TransportVarbit> varbits, Set<TransportVarPlayer> varplayers) {
+            this.skillLevels = skillLevels;
+            this.quests = quests;
+            this.itemIdRequirements = itemIdRequirements;
+            this.varbits = varbits;
+            this.varplayers = varplayers;
+        }
+    }
+
+    /**
+     * Loads the precompiled dataset, or parses the TSV resources if it was not built.
+     */
+    public static TransportDataset load() {
+        TransportDataset dataset = fromResources();
+        if (dataset != null) {
+            return dataset;
+        }
+        log.debug("{} not found, parsing the transport resources", RESOURCE);
+        return new TransportDataset(Transport.loadAllFromResources(), Restriction.loadAllFromResources());
+    }
+
+    /**
+     * @return the precompiled dataset, or null if it is missing or was built from different TSVs or game enums
+     */
+    public static TransportDataset fromResources() {
+        try (InputStream in = TransportDataset.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                return null;
+            }
+            return read(new DataInputStream(new BufferedInputStream(in, 1 << 16)), sourceHash());
+        } catch (IOException e) {
+            log.warn("Unable to read {}", RESOURCE, e);
+            return null;
+        }
+    }
+
+    /**
+     * Hashes the TSV resources on the classpath, so a dataset compiled from other versions of them is not used.
+     */
+    static int sourceHash() throws IOException {
+        CRC32 crc = new CRC32();
+        for (String source : SOURCES) {
+            crc.update(source.getBytes(StandardCharsets.UTF_8));
+            try (InputStream in = ShortestPathPlugin.class.getResourceAsStream(source)) {
+                if (in != null) {
+                    crc.update(in.readAllBytes());
+                }
+            }
+        }
+        return (int) crc.getValue();
+    }
+
+    static TransportDataset read(DataInputStream in, int sourceHash) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != sourceHash
+                || in.readShort() != Skill.values().length || in.readShort() != Quest.values().length) {
+            log.debug("{} is outdated", RESOURCE);
+            return null;
+        }
+
+        String[] strings = new String[in.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readUTF();
+        }
+
+        Requirements[] requirements = new Requirements[in.readInt()];
+        for (int i = 0; i < requirements.length; i++) {
+            requirements[i] = readRequirements(in);
+        }
+
+        TransportType[] types = TransportType.values();
+        Map<Integer, WorldPoint> points = new HashMap<>();
+        int transportCount = in.readInt();
+        HashMap<WorldPoint, Set<Transport>> transports = new HashMap<>(transportCount / 2);
+        for (int i = 0; i < transportCount; i++) {
+            WorldPoint origin = point(points, in.readInt());
+            WorldPoint destination = point(points, in.readInt());
+            TransportType type = types[in.readUnsignedByte()];
+            int duration = in.readInt();
+            String displayInfo = string(strings, in.readInt());
+            int flags = in.readUnsignedByte();
+            int maxWildernessLevel = in.readShort();
+            String action = string(strings, in.readInt());
+            String name = string(strings, in.readInt());
+            int objectId = in.readInt();
+            String currencyName = string(strings, in.readInt());
+            int currencyAmount = in.readInt();
+            Requirements requirement = requirements[in.readInt()];
+
+            Transport transport = new Transport(origin, destination, type, duration, displayInfo,
+                    (flags & FLAG_CONSUMABLE) != 0, maxWildernessLevel, (flags & FLAG_MEMBERS) != 0,
+                    action, name, objectId, currencyName, currencyAmount, requirement);
+            transports.computeIfAbsent(origin, k -> new HashSet<>(4)).add(transport);
+        }
+
+        int restrictionCount = in.readInt();
+        List<Restriction> restrictions = new ArrayList<>(restrictionCount);
+        for (int i = 0; i < restrictionCount; i++) {
+            int packedWorldPoint = in.readInt();
+            boolean isMembers = (in.readUnsignedByte() & FLAG_MEMBERS) != 0;
+            restrictions.add(new Restriction(packedWorldPoint, isMembers, requirements[in.readInt()]));
+        }
+
+        return new TransportDataset(transports, restrictions);
+    }
+
+    private static Requirements readRequirements(DataInputStream in) throws IOException {
+        int[] skillLevels = new int[Skill.values().length];
+        for (int i = in.readUnsignedByte(); i > 0; i--) {
+            skillLevels[in.readUnsignedByte()] = in.readShort();
+        }
+
+        Quest[] questValues = Quest.values();
+        QuestState[] stateValues = QuestState.values();
+        Map<Quest, QuestState> quests = new EnumMap<>(Quest.class);
+        for (int i = in.readUnsignedByte(); i > 0; i--) {
+            quests.put(questValues[in.readUnsignedShort()], stateValues[in.readUnsignedByte()]);
+        }
+
+        Set<Set<Integer>> itemIdRequirements = new HashSet<>();
+        for (int i = in.readUnsignedShort(); i > 0; i--) {
+            Integer[] itemIds = new Integer[in.readUnsignedShort()];
+            for (int j = 0; j < itemIds.length; j++) {
+                itemIds[j] = in.readInt();
+            }
+            itemIdRequirements.add(Set.of(itemIds));
+        }
+
+        TransportVarbit.Operator[] varbitOperators = TransportVarbit.Operator.values();
+        Set<TransportVarbit> varbits = new HashSet<>();
+        for (int i = in.readUnsignedShort(); i > 0; i--) {
+            varbits.add(new TransportVarbit(in.readInt(), in.readInt(), varbitOperators[in.readUnsignedByte()]));
+        }
+
+        TransportVarPlayer.Operator[] varplayerOperators = TransportVarPlayer.Operator.values();
+        Set<TransportVarPlayer> varplayers = new HashSet<>();
+        for (int i = in.readUnsignedShort(); i > 0; i--) {
+            varplayers.add(new TransportVarPlayer(in.readInt(), in.readInt(), varplayerOperators[in.readUnsignedByte()]));
+        }
+
+        return new Requirements(skillLevels,
+                Collections.unmodifiableMap(quests),
+                Collections.unmodifiableSet(itemIdRequirements),
+                Collections.unmodifiableSet(varbits),
+                Collections.unmodifiableSet(varplayers));
+    }
+
+    private static WorldPoint point(Map<Integer, WorldPoint> points, int packedPoint) {
+        if (packedPoint == WorldPointUtil.UNDEFINED) {
+            return null;
+        }
+        return points.computeIfAbsent(packedPoint, WorldPointUtil::unpackWorldPoint);
+    }
+
+    private static String string(String[] strings, int index) {
+        return index == NONE ? null : strings[index];
+    }
+
+    /**
+     * Writes the dataset of the given transports and restrictions.
+     *
+     * @param sourceHash the {@link #sourceHash()} of the TSVs they were parsed from
+     */
+    static void write(Map<WorldPoint, Set<Transport>> transports, List<Restriction> restrictions, int sourceHash,
+                      OutputStream os) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        Map<ByteBuffer, Integer> requirements = new LinkedHashMap<>();
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(body);
+
+        List<Transport> allTransports = new ArrayList<>();
+        transports.values().forEach(allTransports::addAll);
+        out.writeInt(allTransports.size());
+        for (Transport transport : allTransports) {
+            out.writeInt(WorldPointUtil.packWorldPoint(transport.getOrigin()));
+            out.writeInt(WorldPointUtil.packWorldPoint(transport.getDestination()));
+            out.writeByte(transport.getType().ordinal());
+            out.writeInt(transport.getDuration());
+            out.writeInt(stringIndex(strings, transport.getDisplayInfo()));
+            out.writeByte((transport.isConsumable() ? FLAG_CONSUMABLE : 0) | (transport.isMembers() ? FLAG_MEMBERS : 0));
+            out.writeShort(transport.getMaxWildernessLevel());
+            out.writeInt(stringIndex(strings, transport.getAction()));
+            out.writeInt(stringIndex(strings, transport.getName()));
+            out.writeInt(transport.getObjectId());
+            out.writeInt(stringIndex(strings, transport.getCurrencyName()));
+            out.writeInt(transport.getCurrencyAmount());
+            out.writeInt(requirementsIndex(requirements, transport.getSkillLevels(), transport.getQuests(),
+                    transport.getItemIdRequirements(), transport.getVarbits(), transport.getVarplayers()));
+        }
+
+        out.writeInt(restrictions.size());
+        for (Restriction restriction : restrictions) {
+            out.writeInt(restriction.getPackedWorldPoint());
+            out.writeByte(restriction.isMembers() ? FLAG_MEMBERS : 0);
+            out.writeInt(requirementsIndex(requirements, restriction.getSkillLevels(), restriction.getQuests(),
+                    restriction.getItemIdRequirements(), restriction.getVarbits(), restriction.getVarplayers()));
+        }
+        out.flush();
+
+        DataOutputStream header = new DataOutputStream(os);
+        header.writeInt(MAGIC);
+        header.writeInt(VERSION);
+        header.writeInt(sourceHash);
+        header.writeShort(Skill.values().length);
+        header.writeShort(Quest.values().length);
+        header.writeInt(strings.size());
+        for (String string : strings.keySet()) {
+            header.writeUTF(string);
+        }
+        header.writeInt(requirements.size());
+        for (ByteBuffer requirement : requirements.keySet()) {
+            header.write(requirement.array());
+        }
+        body.writeTo(header);
+        header.flush();
+    }
+
+    private static int stringIndex(Map<String, Integer> strings, String string) {
+        return string == null ? NONE : strings.computeIfAbsent(string, k -> strings.size());
+    }
+
+    /**
+     * Writes the requirements in a canonical order, so equal requirements have equal bytes and are stored once.
+     */
+    private static int requirementsIndex(Map<ByteBuffer, Integer> requirements, int[] skillLevels,
+                                         Map<Quest, QuestState> quests, Set<Set<Integer>> itemIdRequirements,
+                                         Set<TransportVarbit> varbits, Set<TransportVarPlayer> varplayers)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        int skillCount = 0;
+        for (int level : skillLevels) {
+            if (level > 0) {
+                skillCount++;
+            }
+        }
+        out.writeByte(skillCount);
+        for (int i = 0; i < skillLevels.length; i++) {
+            if (skillLevels[i] > 0) {
+                out.writeByte(i);
+                out.writeShort(skillLevels[i]);
+            }
+        }
+
+        Map<Quest, QuestState> sortedQuests = quests.isEmpty() ? quests : new EnumMap<>(quests);
+        out.writeByte(sortedQuests.size());
+        for (Map.Entry<Quest, QuestState> entry : sortedQuests.entrySet()) {
+            out.writeShort(entry.getKey().ordinal());
+            out.writeByte(entry.getValue().ordinal());
+        }
+
+        List<int[]> itemIds = new ArrayList<>();
+        for (Set<Integer> ids : itemIdRequirements) {
+            itemIds.add(ids.stream().mapToInt(Integer::intValue).sorted().toArray());
+        }
+        itemIds.sort(Arrays::compare);
+        out.writeShort(itemIds.size());
+        for (int[] ids : itemIds) {
+            out.writeShort(ids.length);
+            for (int id : ids) {
+                out.writeInt(id);
+            }
+        }
+
+        List<TransportVarbit> sortedVarbits = new ArrayList<>(varbits);
+        sortedVarbits.sort(Comparator.comparingInt(TransportVarbit::getVarbitId)
+                .thenComparingInt(TransportVarbit::getValue)
+                .thenComparing(TransportVarbit::getOperator));
+        out.writeShort(sortedVarbits.size());
+        for (TransportVarbit varbit : sortedVarbits) {
+            out.writeInt(varbit.getVarbitId());
+            out.writeInt(varbit.getValue());
+            out.writeByte(varbit.getOperator().ordinal());
+        }
+
+        List<TransportVarPlayer> sortedVarplayers = new ArrayList<>(varplayers);
+        sortedVarplayers.sort(Comparator.comparingInt(TransportVarPlayer::getVarplayerId)
+                .thenComparingInt(TransportVarPlayer::getValue)
+                .thenComparing(TransportVarPlayer::getOperator));
+        out.writeShort(sortedVarplayers.size());
+        for (TransportVarPlayer varplayer : sortedVarplayers) {
+            out.writeInt(varplayer.getVarplayerId());
+            out.writeInt(varplayer.getValue());
+            out.writeByte(varplayer.getOperator().ordinal());
+        }
+
+        out.flush();
+        return requirements.computeIfAbsent(ByteBuffer.wrap(bytes.toByteArray()), k -> requirements.size());
+    }
+
+    /**
+     * Compiles the TSV resources on the classpath into the dataset.
+     *
+     * @param args the file to write the dataset to
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: TransportDataset <output file>");
+        }
+
+        Map<WorldPoint, Set<Transport>> transports = Transport.loadAllFromResources();
+        List<Restriction> restrictions = Restriction.loadAllFromResources();
+
+        Path output = Paths.get(args[0]);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(output))) {
+            write(transports, restrictions, sourceHash(), os);
+        }
+        log.info("Wrote {} transports and {} restrictions to {} ({} bytes)",
+                transports.values().stream().mapToInt(Set::size).sum(), restrictions.size(), output, Files.size(output));
+    }
+}
@@ -0,0 +1,99 @@
+package net.runelite.client.plugins.microbot.shortestpath;
+
+import lombok.Getter;
+import net.runelite.api.Quest;
+import net.runelite.api.gameval.ItemID;
+import net.runelite.api.gameval.VarbitID;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * The game state the usability of a {@link Transport} depends on, besides the pathfinder settings and the world type.
+ * <p>
+ * Used by the pathfinder to only re-evaluate a transport when one of its inputs changed.
+ */
+@Getter
+public final class TransportDependencies {
+    private static final int[] RUNE_POUCH_VARBITS = {
+            VarbitID.RUNE_POUCH_TYPE_1, VarbitID.RUNE_POUCH_TYPE_2, VarbitID.RUNE_POUCH_TYPE_3,
+            VarbitID.RUNE_POUCH_TYPE_4, VarbitID.RUNE_POUCH_TYPE_5, VarbitID.RUNE_POUCH_TYPE_6,
+            VarbitID.RUNE_POUCH_QUANTITY_1, VarbitID.RUNE_POUCH_QUANTITY_2, VarbitID.RUNE_POUCH_QUANTITY_3,
+            VarbitID.RUNE_POUCH_QUANTITY_4, VarbitID.RUNE_POUCH_QUANTITY_5, VarbitID.RUNE_POUCH_QUANTITY_6
+    };
+
+    private final int[] varbits;
+    private final int[] varplayers;
+    /** Ordinals of the skills with a level requirement */
+    private final int[] skills;
+    private final Quest[] quests;
+    private final int[] itemIds;
+    /** Depends on items that can not be listed by id, like currency matched by name or runes for a spell */
+    private final boolean anyItem;
+    /** Depends on state without a change event, like cooldowns, spirit tree farming state or item charges */
+    private final boolean alwaysEvaluated;
+
+    private TransportDependencies(int[] varbits, int[] varplayers, int[] skills, Quest[] quests, int[] itemIds,
+                                  boolean anyItem, boolean alwaysEvaluated) {
+        this.varbits = varbits;
+        this.varplayers = varplayers;
+        this.skills = skills;
+        this.quests = quests;
+        this.itemIds = itemIds;
+        this.anyItem = anyItem;
+        this.alwaysEvaluated = alwaysEvaluated;
+    }
+
+    static TransportDependencies of(Transport transport) {
+        Set<Integer> varbits = new LinkedHashSet<>();
+        boolean alwaysEvaluated = false;
+        for (TransportVarbit varbit : transport.getVarbits()) {
+            varbits.add(varbit.getVarbitId());
+            alwaysEvaluated |= varbit.getOperator() == TransportVarbit.Operator.COOLDOWN_MINUTES;
+        }
+        Set<Integer> varplayers = new LinkedHashSet<>();
+        for (TransportVarPlayer varplayer : transport.getVarplayers()) {
+            varplayers.add(varplayer.getVarplayerId());
+            alwaysEvaluated |= varplayer.getOperator() == TransportVarPlayer.Operator.COOLDOWN_MINUTES;
+        }
+
+        int[] levels = transport.getSkillLevels();
+        int[] skills = IntStream.range(0, levels.length).filter(i -> levels[i] > 0).toArray();
+
+        Set<Quest> quests = new LinkedHashSet<>(transport.getQuests().keySet());
+        if (transport.getType() == TransportType.SHIP
+                && ("Veos".equals(transport.getName()) || "Captain Magoro".equals(transport.getName()))) {
+            // the menu action of these ships depends on the quest
+            quests.add(Quest.CLIENT_OF_KOUREND);
+        }
+
+        int[] itemIds = transport.getItemIdRequirements().stream()
+                .flatMap(Collection::stream)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .distinct()
+                .toArray();
+        boolean anyItem = transport.getCurrencyAmount() > 0;
+        if (transport.getType() == TransportType.TELEPORTATION_SPELL) {
+            // runes can come from the inventory, the rune pouch, staves or the bank
+            anyItem = true;
+            for (int varbit : RUNE_POUCH_VARBITS) {
+                varbits.add(varbit);
+            }
+        }
+        alwaysEvaluated |= transport.getType() == TransportType.SPIRIT_TREE
+                || IntStream.of(itemIds).anyMatch(id -> id == ItemID.CHRONICLE);
+
+        return new TransportDependencies(
+                varbits.stream().mapToInt(Integer::intValue).toArray(),
+                varplayers.stream().mapToInt(Integer::intValue).toArray(),
+                skills,
+                quests.toArray(new Quest[0]),
+                itemIds,
+                anyItem,
+                alwaysEvaluated);
+    }
+}
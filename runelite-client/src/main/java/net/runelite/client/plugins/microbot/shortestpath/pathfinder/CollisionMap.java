@@ -74,7 +74,7 @@ public class CollisionMap {
         return WorldPointUtil.packWorldPoint(x + direction.x, y + direction.y, plane);
     }
 
-    // This is only safe if pathfinding is single-threaded
+    // Reused between calls, so a map must only be used by one search at a time
     private final List<Node> neighbors = new ArrayList<>(16);
     private final boolean[] traversable = new boolean[8];
 
@@ -99,29 +99,21 @@ public class CollisionMap {
             new WorldPoint(3672, 3862, 0)
     );
 
-    public List<Node> getNeighbors(Node node, VisitedTiles visited, PathfinderConfig config, Set<Integer> targets) {
+    /**
+     * @param teleports player-held teleports usable from the node, in addition to the transports starting there
+     */
+    public List<Node> getNeighbors(Node node, VisitedTiles visited, PathfinderSnapshot snapshot, Set<Integer> targets,
+                                   Set<Transport> teleports) {
         final int x = WorldPointUtil.unpackWorldX(node.packedPosition);
         final int y = WorldPointUtil.unpackWorldY(node.packedPosition);
         final int z = WorldPointUtil.unpackWorldPlane(node.packedPosition);
 
         neighbors.clear();
 
-        Set<Transport> transports = config.getTransports().getOrDefault(WorldPointUtil.unpackWorldPoint(node.packedPosition), Collections.emptySet());
-
         // Transports are pre-filtered by PathfinderConfig.refreshTransports
         // Thus any transports in the list are guaranteed to be valid per the user's settings
-        for (Transport transport : transports) {
-            //START microbot variables
-            if (visited.get(transport.getDestination())) continue;
-
-            if (TransportType.isTeleport(transport.getType())) {
-                if (config.isIgnoreTeleportAndItems()) continue;
-                neighbors.add(new TransportNode(transport.getDestination(), node, config.getDistanceBeforeUsingTeleport() + transport.getDuration()));
-            } else {
-                neighbors.add(new TransportNode(transport.getDestination(), node, transport.getDuration()));
-            }
-            //END microbot variables
-        }
+        addTransports(node, visited, snapshot, snapshot.getTransports(node.packedPosition));
+        addTransports(node, visited, snapshot, teleports);
 
         if (isBlocked(x, y, z)) {
             boolean westBlocked = isBlocked(x - 1, y, z);
@@ -155,8 +147,7 @@ public class CollisionMap {
             OrdinalDirection d = ORDINAL_VALUES[i];
             int neighborPacked = packedPointFromOrdinal(node.packedPosition, d);
             if (visited.get(neighborPacked)) continue;
-            if (config.getRestrictedPointsPacked().contains(neighborPacked)) continue;
-            if (config.getCustomRestrictions().contains(neighborPacked)) continue;
+            if (snapshot.isRestricted(neighborPacked)) continue;
 
             if (ignoreCollision.contains(new WorldPoint(x, y, z))) {
                 neighbors.add(new Node(neighborPacked, node));
@@ -184,7 +175,7 @@ public class CollisionMap {
             } else if (Math.abs(d.x + d.y) == 1 && isBlocked(x + d.x, y + d.y, z)) {
                 // The transport starts from a blocked adjacent tile, e.g. fairy ring
                 // Only checks non-teleport transports (includes portals and levers, but not items and spells)
-                Set<Transport> neighborTransports = config.getTransports().getOrDefault(WorldPointUtil.unpackWorldPoint(neighborPacked), Collections.emptySet());
+                Set<Transport> neighborTransports = snapshot.getTransports(neighborPacked);
                 for (Transport transport : neighborTransports) {
                     if (transport.getOrigin() == null || visited.get(transport.getOrigin())) {
                         continue;
@@ -196,4 +187,19 @@ public class CollisionMap {
 
         return neighbors;
     }
+
+    private void addTransports(Node node, VisitedTiles visited, PathfinderSnapshot snapshot, Set<Transport> transports) {
+        for (Transport transport : transports) {
+            //START microbot variables
+            if (visited.get(transport.getDestination())) continue;
+
+            if (TransportType.isTeleport(transport.getType())) {
+                if (snapshot.isIgnoreTeleportAndItems()) continue;
+                neighbors.add(new TransportNode(transport.getDestination(), node, snapshot.getDistanceBeforeUsingTeleport() + transport.getDuration()));
+            } else {
+                neighbors.add(new TransportNode(transport.getDestination(), node, transport.getDuration()));
+            }
+            //END microbot variables
+        }
+    }
 }
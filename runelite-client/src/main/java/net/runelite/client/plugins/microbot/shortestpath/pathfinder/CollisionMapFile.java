@@ -0,0 +1,209 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+import net.runelite.client.plugins.microbot.shortestpath.ShortestPathPlugin;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.jar.JarEntry;
+
+import static net.runelite.api.Constants.REGION_SIZE;
+
+/**
+ * Uncompressed collision map file that is memory mapped read-only, so the collision data is not copied into the heap
+ * and every client on the machine shares the same pages through the OS page cache.
+ * <p>
+ * Layout, all ints big-endian:
+ * <pre>
+ * header     magic, version, minX, minY, maxX, maxY (region coordinates), plane count, reserved
+ * directory  one int per region of the extents, -1 if absent, else first plane index << 3 | plane count
+ * padding    up to the next page
+ * planes     {@link #PLANE_SIZE} bytes each, in the bit layout of {@link FlagMap}
+ * </pre>
+ * Planes are page-aligned and a page holds a whole number of them, so looking up a tile touches a single page.
+ * The file is generated from {@code collision-map.zip} on first use, named after the resource so it is regenerated
+ * when the resource changes.
+ */
+@Slf4j
+final class CollisionMapFile {
+    private static final int MAGIC = 0x53504346; // SPCF
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int PAGE_SIZE = 4096;
+    static final int PLANE_SIZE = REGION_SIZE * REGION_SIZE * FlagMap.FLAG_COUNT / Byte.SIZE;
+    static final int ABSENT = -1;
+
+    private static final Path DIRECTORY = new File(RuneLite.CACHE_DIR, "shortestpath").toPath();
+    private static final String PREFIX = "collision-map-v" + VERSION + "-";
+
+    private CollisionMapFile() {
+    }
+
+    /**
+     * @return the file for the current collision map resource, or null if the resource can not be identified
+     */
+    static Path getCachedFile() {
+        URL url = ShortestPathPlugin.class.getResource("collision-map.zip");
+        if (url == null) {
+            return null;
+        }
+        try {
+            long version;
+            if ("file".equals(url.getProtocol())) {
+                Path path = Paths.get(url.toURI());
+                version = Files.size(path) * 31 + Files.getLastModifiedTime(path).toMillis();
+            } else {
+                URLConnection connection = url.openConnection();
+                if (!(connection instanceof JarURLConnection)) {
+                    return null;
+                }
+                JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+                if (entry == null || entry.getCrc() == -1) {
+                    return null;
+                }
+                version = entry.getCrc();
+            }
+            return DIRECTORY.resolve(PREFIX + Long.toHexString(version) + ".bin");
+        } catch (IOException | URISyntaxException e) {
+            log.debug("Unable to identify the collision map resource {}", url, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the regions to the file. The file is replaced atomically, so clients starting at the same time never
+     * map a partially written file.
+     */
+    static void write(Path file, SplitFlagMap.RegionExtent extents, Map<Integer, byte[]> compressedRegions)
+            throws IOException {
+        final int widthInclusive = extents.getWidth() + 1;
+        final int[] directory = new int[widthInclusive * (extents.getHeight() + 1)];
+        final byte[][] regions = new byte[directory.length][];
+        Arrays.fill(directory, ABSENT);
+
+        for (Map.Entry<Integer, byte[]> entry : compressedRegions.entrySet()) {
+            final int x = SplitFlagMap.unpackX(entry.getKey());
+            final int y = SplitFlagMap.unpackY(entry.getKey());
+            final int index = (x - extents.getMinX()) + (y - extents.getMinY()) * widthInclusive;
+            directory[index] = new FlagMap(x * REGION_SIZE, y * REGION_SIZE, entry.getValue()).getPlaneCount();
+            regions[index] = entry.getValue();
+        }
+        // Planes are written in directory order
+        int planeTotal = 0;
+        for (int i = 0; i < directory.length; i++) {
+            if (directory[i] != ABSENT) {
+                final int planeCount = directory[i];
+                directory[i] = planeTotal << 3 | planeCount;
+                planeTotal += planeCount;
+            }
+        }
+
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), PREFIX, ".tmp");
+        try {
+            try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16)) {
+                DataOutputStream out = new DataOutputStream(os);
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(extents.getMinX());
+                out.writeInt(extents.getMinY());
+                out.writeInt(extents.getMaxX());
+                out.writeInt(extents.getMaxY());
+                out.writeInt(planeTotal);
+                out.writeInt(0);
+                for (int region : directory) {
+                    out.writeInt(region);
+                }
+                out.write(new byte[dataOffset(directory.length) - HEADER_SIZE - directory.length * Integer.BYTES]);
+
+                for (int i = 0; i < directory.length; i++) {
+                    if (directory[i] == ABSENT) {
+                        continue;
+                    }
+                    // BitSet bytes omit trailing zeros, the planes are padded to their full size
+                    final int size = (directory[i] & 0x7) * PLANE_SIZE;
+                    out.write(regions[i], 0, Math.min(size, regions[i].length));
+                    out.write(new byte[Math.max(0, size - regions[i].length)]);
+                }
+                out.flush();
+            }
+
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        deleteOtherVersions(file);
+    }
+
+    /**
+     * Maps the file read-only. The mapping stays valid after the channel is closed.
+     */
+    static SplitFlagMap map(Path file) throws IOException {
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Invalid collision map file " + file);
+        }
+        final SplitFlagMap.RegionExtent extents = new SplitFlagMap.RegionExtent(
+                buffer.getInt(8), buffer.getInt(12), buffer.getInt(16), buffer.getInt(20));
+        final int planeTotal = buffer.getInt(24);
+
+        final int[] directory = new int[(extents.getWidth() + 1) * (extents.getHeight() + 1)];
+        final int dataOffset = dataOffset(directory.length);
+        if ((long) dataOffset + (long) planeTotal * PLANE_SIZE != buffer.limit()) {
+            throw new IOException("Truncated collision map file " + file);
+        }
+        for (int i = 0; i < directory.length; i++) {
+            directory[i] = buffer.getInt(HEADER_SIZE + i * Integer.BYTES);
+        }
+
+        final ByteBuffer planes = buffer.position(dataOffset).slice();
+        return new SplitFlagMap(extents, directory, planes);
+    }
+
+    private static int dataOffset(int regionCount) {
+        final int directoryEnd = HEADER_SIZE + regionCount * Integer.BYTES;
+        return (directoryEnd + PAGE_SIZE - 1) / PAGE_SIZE * PAGE_SIZE;
+    }
+
+    /** Best effort, files still mapped by other clients can not be deleted on some platforms */
+    private static void deleteOtherVersions(Path file) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(file.getParent(), "collision-map-*.bin")) {
+            for (Path other : files) {
+                if (!other.equals(file)) {
+                    Files.deleteIfExists(other);
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Unable to delete outdated collision map files", e);
+        }
+    }
+}
@@ -8,7 +8,7 @@ import java.util.Locale;
 import static net.runelite.api.Constants.REGION_SIZE;
 
 public class FlagMap {
-    private static final byte FLAG_COUNT = 2;
+    static final byte FLAG_COUNT = 2;
     private final BitSet flags;
     @Getter
     private final byte planeCount;
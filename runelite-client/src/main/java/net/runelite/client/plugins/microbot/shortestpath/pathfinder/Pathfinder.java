@@ -3,6 +3,7 @@ package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.Transport;
 import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
 
 import java.util.*;
@@ -18,7 +19,7 @@ public class Pathfinder implements Runnable {
     private final int start;
     private final Set<Integer> targets;
 
-    private final PathfinderConfig config;
+    private final PathfinderSnapshot snapshot;
     private final CollisionMap map;
     private final boolean targetInWilderness;
 
@@ -31,6 +32,8 @@ public class Pathfinder implements Runnable {
     private volatile List<WorldPoint> path = Collections.emptyList();
     private boolean pathNeedsUpdate = false;
     private volatile Node bestLastNode;
+    /** Player-held teleports by the packed location the search crossed into a lower wilderness band at */
+    private final Map<Integer, Set<Transport>> teleportsAt = new HashMap<>();
     /**
      * Teleportation transports are updated when this changes.
      * Can be either:
@@ -40,22 +43,30 @@ public class Pathfinder implements Runnable {
      */
     private int wildernessLevel;
 
-    public Pathfinder(PathfinderConfig config, int start, Set<Integer> targets) {
+    /**
+     * @param snapshot the config state to search with, it is only read so it can be shared between searches
+     */
+    public Pathfinder(PathfinderSnapshot snapshot, int start, Set<Integer> targets) {
         stats = new PathfinderStats();
-        this.config = config;
-        this.map = config.getMap();
+        this.snapshot = snapshot;
+        // Each search owns its map, the neighbour buffers in it are not shared
+        this.map = new CollisionMap(snapshot.getMapData());
         this.start = start;
         this.targets = targets;
         visited = new VisitedTiles(map);
         targetInWilderness = PathfinderConfig.isInWildernessPackedPoint(targets);
         wildernessLevel = 31;
-        log.debug("Created Pathfinder src={} dst={} config={}",
+        log.debug("Created Pathfinder src={} dst={} snapshot={}",
                 WorldPointUtil.toString(this.start),
                 WorldPointUtil.toString(this.targets),
-                config
+                snapshot
         );
     }
 
+    public Pathfinder(PathfinderConfig config, int start, Set<Integer> targets) {
+        this(config.getSnapshot(), start, targets);
+    }
+
     public Pathfinder(PathfinderConfig config, WorldPoint start, Set<WorldPoint> targets) {
         this(config, WorldPointUtil.packWorldPoint(start), targets.stream().map(WorldPointUtil::packWorldPoint).collect(Collectors.toSet()));
     }
@@ -104,9 +115,10 @@ public class Pathfinder implements Runnable {
     }
 
     private void addNeighbors(Node node) {
-        List<Node> nodes = map.getNeighbors(node, visited, config, targets);
+        Set<Transport> teleports = teleportsAt.getOrDefault(node.packedPosition, Collections.emptySet());
+        List<Node> nodes = map.getNeighbors(node, visited, snapshot, targets, teleports);
         for (Node neighbor : nodes) {
-            if (config.avoidWilderness(node.packedPosition, neighbor.packedPosition, targetInWilderness)) {
+            if (snapshot.avoidWilderness(node.packedPosition, neighbor.packedPosition, targetInWilderness)) {
                 continue;
             }
 
@@ -128,10 +140,10 @@ public class Pathfinder implements Runnable {
 
         int bestDistance = Integer.MAX_VALUE;
         long bestHeuristic = Integer.MAX_VALUE;
-        long cutoffDurationMillis = config.getCalculationCutoffMillis();
+        long cutoffDurationMillis = snapshot.getCalculationCutoffMillis();
         long cutoffTimeMillis = System.currentTimeMillis() + cutoffDurationMillis;
 
-        config.refreshTeleports(start, 31);
+        addTeleports(start, 31);
         while (!cancelled && (!boundary.isEmpty() || !pending.isEmpty())) {
             Node node = boundary.peekFirst();
             Node p = pending.peek();
@@ -151,11 +163,11 @@ public class Pathfinder implements Runnable {
 
                 // These are overlapping boundaries, so if the node isn't in level 30, it's in 0-29
                 // likewise, if the node isn't in level 20, it's in 0-19
-                if (wildernessLevel > 29 && !config.isInLevel29Wilderness(node.packedPosition)) {
+                if (wildernessLevel > 29 && !PathfinderConfig.isInLevel29Wilderness(node.packedPosition)) {
                     wildernessLevel = 29;
                     update = true;
                 }
-                if (wildernessLevel > 19 && !config.isInLevel19Wilderness(node.packedPosition)) {
+                if (wildernessLevel > 19 && !PathfinderConfig.isInLevel19Wilderness(node.packedPosition)) {
                     wildernessLevel = 19;
                     update = true;
                 }
@@ -164,7 +176,7 @@ public class Pathfinder implements Runnable {
                     update = true;
                 }
                 if (update) {
-                    config.refreshTeleports(node.packedPosition, wildernessLevel);
+                    addTeleports(node.packedPosition, wildernessLevel);
                 }
             }
 
@@ -200,6 +212,7 @@ public class Pathfinder implements Runnable {
         boundary.clear();
         visited.clear();
         pending.clear();
+        teleportsAt.clear();
 
         stats.end(); // Include cleanup in stats to get the total cost of pathfinding
 
@@ -210,6 +223,13 @@ public class Pathfinder implements Runnable {
                 getStats().toString());
     }
 
+    private void addTeleports(int packedPosition, int wildernessLevel) {
+        Set<Transport> teleports = snapshot.getTeleports(wildernessLevel);
+        if (!teleports.isEmpty()) {
+            teleportsAt.put(packedPosition, teleports);
+        }
+    }
+
     public static class PathfinderStats {
         @Getter
         private int nodesChecked = 0, transportsChecked = 0;
@@ -14,6 +14,10 @@ import net.runelite.api.Skill;
 import net.runelite.api.WorldType;
 import net.runelite.api.coords.WorldArea;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.api.gameval.VarbitID;
 import net.runelite.client.plugins.itemcharges.ItemChargeConfig;
@@ -65,19 +69,25 @@ public class PathfinderConfig {
     /** All transports by origin {@link WorldPoint}. The null key is used for transports centered on the player. */
 	@Getter
     private final Map<WorldPoint, Set<Transport>> allTransports;
-    @Setter
     private volatile Set<Transport> usableTeleports;
     private final List<WorldPoint> filteredTargets = new CopyOnWriteArrayList<>();
 
     @Getter
     private final ConcurrentHashMap<WorldPoint, Set<Transport>> transports;
-    // Copy of transports with packed positions for the hotpath; lists are not copied and are the same reference in both maps
-    @Getter
-    private final PrimitiveIntHashMap<Set<Transport>> transportsPacked;
 
     private final Client client;
     private final ShortestPathConfig config;
 
+    private final TransportDependencyIndex dependencyIndex;
+    /** Usability of each transport of the dependency index as of its last evaluation */
+    private final BitSet usable;
+    /** Usable teleports before consumables are filtered out for a specific target */
+    private final Set<Transport> usableTeleportsBase = new HashSet<>();
+    private boolean teleportsFiltered;
+    private long transportSettings = -1;
+    /** Taken on demand by {@link #getSnapshot()}, cleared whenever the state it copies changes */
+    private PathfinderSnapshot snapshot;
+
 	private final List<QuestState> questStateOrder = Arrays.asList(
 		QuestState.NOT_STARTED,
 		QuestState.IN_PROGRESS,
@@ -137,9 +147,10 @@ public class PathfinderConfig {
         this.allTransports = transports;
         this.usableTeleports = ConcurrentHashMap.newKeySet(allTransports.size() / 20);
         this.transports = new ConcurrentHashMap<>(allTransports.size() / 2);
-        this.transportsPacked = new PrimitiveIntHashMap<>(allTransports.size() / 2);
         this.client = client;
         this.config = config;
+        this.dependencyIndex = new TransportDependencyIndex(allTransports);
+        this.usable = new BitSet(dependencyIndex.size());
         //START microbot variables
         this.resourceRestrictions = restrictions;
         this.customRestrictions = Collections.emptyList();
@@ -190,34 +201,30 @@ public class PathfinderConfig {
             }
             //END microbot variables
         }
+        invalidateSnapshot();
     }
 
-    /** Specialized method for only updating player-held item and spell transports */
-    public void refreshTeleports(int packedLocation, int wildernessLevel) {
-        Set<Transport> usableWildyTeleports = new HashSet<>(usableTeleports.size());
-        if (ignoreTeleportAndItems) return;
-
-        for (Transport teleport : usableTeleports) {
-            if (wildernessLevel <= teleport.getMaxWildernessLevel()) {
-                usableWildyTeleports.add(teleport);
-            }
+    /**
+     * Returns an immutable copy of the state a search reads, so any number of searches can run against it while
+     * this config is refreshed. The copy is shared until the next refresh or change of the teleport settings.
+     */
+    public synchronized PathfinderSnapshot getSnapshot() {
+        PathfinderSnapshot current = snapshot;
+        if (current == null || current.isIgnoreTeleportAndItems() != ignoreTeleportAndItems) {
+            current = new PathfinderSnapshot(mapData, transports, usableTeleports, internalRestrictedPointsPacked,
+                    calculationCutoffMillis, avoidWilderness, ignoreTeleportAndItems, distanceBeforeUsingTeleport);
+            snapshot = current;
         }
+        return current;
+    }
 
-        if (!usableWildyTeleports.isEmpty()) {
-            // Added extra code to check if the key already exists
-            // if the key already exists we append instead of overwriting
-            // The issue was that the transport list would contain a transport object on the same
-            // tile as the player, this would then be overwritten by the usableWildyTeleports
-            // therefor losing the original transport object
-            WorldPoint key = WorldPointUtil.unpackWorldPoint(packedLocation);
-            Set<Transport> existingTeleports = transports.get(key);
-            if (existingTeleports != null) {
-                existingTeleports.addAll(usableWildyTeleports);
-            } else {
-                transports.put(key, usableWildyTeleports);
-            }
-            transportsPacked.put(packedLocation, usableWildyTeleports);
-        }
+    private synchronized void invalidateSnapshot() {
+        snapshot = null;
+    }
+
+    public void setUsableTeleports(Set<Transport> usableTeleports) {
+        this.usableTeleports = usableTeleports;
+        invalidateSnapshot();
     }
 
     public void filterLocations(Set<WorldPoint> locations, boolean canReviveFiltered) {
@@ -256,33 +263,55 @@ public class PathfinderConfig {
         useSpiritTrees &= QuestState.FINISHED.equals(Rs2Player.getQuestState(Quest.TREE_GNOME_VILLAGE));
         useQuetzals &= QuestState.FINISHED.equals(Rs2Player.getQuestState(Quest.TWILIGHTS_PROMISE));
 
-        transports.clear();
-        transportsPacked.clear();
-        usableTeleports.clear();
          // Check spirit tree farming states for farmable spirit trees
-        Rs2SpiritTreeCache.getInstance().update();       
-        //Rs2SpiritTreeCache.logAllTreeStates();                     
-        for (Map.Entry<WorldPoint, Set<Transport>> entry : allTransports.entrySet()) {
-            WorldPoint point = entry.getKey();
-            Set<Transport> usableTransports = new HashSet<>(entry.getValue().size());
-            for (Transport transport : entry.getValue()) {
-				// Mutate action
-				updateActionBasedOnQuestState(transport);
-
-                if (!useTransport(transport)) continue;
+        Rs2SpiritTreeCache.getInstance().update();
+        //Rs2SpiritTreeCache.logAllTreeStates();
+
+        // Settings and derived toggles apply to every transport, any change re-evaluates all of them
+        long settings = transportSettings();
+        if (settings != transportSettings) {
+            transportSettings = settings;
+            dependencyIndex.markAll();
+        }
+        dependencyIndex.checkQuests();
+
+        BitSet dirty = dependencyIndex.drainDirty();
+        boolean teleportsChanged = false;
+        try {
+            for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+                Transport transport = dependencyIndex.getTransport(i);
+                // Mutate action
+                updateActionBasedOnQuestState(transport);
+
+                boolean use = useTransport(transport);
+                if (use == usable.get(i)) continue;
+                usable.set(i, use);
+
+                WorldPoint point = dependencyIndex.getOrigin(i);
                 if (point == null) {
-                    usableTeleports.add(transport);
+                    teleportsChanged = true;
+                    if (use) {
+                        usableTeleportsBase.add(transport);
+                    } else {
+                        usableTeleportsBase.remove(transport);
+                    }
                 } else {
-                    usableTransports.add(transport);
+                    updateTransportsAt(point, transport, use);
                 }
             }
+        } catch (RuntimeException e) {
+            // the drained transports were not all evaluated
+            dependencyIndex.markAll();
+            throw e;
+        }
 
-            if (point != null && !usableTransports.isEmpty()) {
-                transports.put(point, usableTransports);
-                transportsPacked.put(WorldPointUtil.packWorldPoint(point), usableTransports);
-            }
+        boolean filterTeleports = useBankItems && config.maxSimilarTransportDistance() > 0;
+        if (teleportsChanged || teleportsFiltered || filterTeleports) {
+            usableTeleports.clear();
+            usableTeleports.addAll(usableTeleportsBase);
         }
-        
+        teleportsFiltered = filterTeleports;
+
         // Filter similar transports based on distance when walk with banked transports is enabled
         if (useBankItems && config.maxSimilarTransportDistance() > 0) {            
             filterSimilarTransports(target);                                    
@@ -293,6 +322,66 @@ public class PathfinderConfig {
         refresh(null);        
     }
 
+    /**
+     * Replaces the usable transports at {@code point} with a copy including or excluding {@code transport},
+     * so a snapshot sharing the previous set is not affected.
+     */
+    private void updateTransportsAt(WorldPoint point, Transport transport, boolean use) {
+        Set<Transport> current = transports.get(point);
+        Set<Transport> updated = current == null ? new HashSet<>() : new HashSet<>(current);
+        if (use) {
+            updated.add(transport);
+        } else {
+            updated.remove(transport);
+        }
+
+        if (updated.isEmpty()) {
+            transports.remove(point);
+        } else {
+            transports.put(point, updated);
+        }
+    }
+
+    /** Packs every setting that applies to all transports, so a change can be detected with a single comparison */
+    private long transportSettings() {
+        boolean[] flags = {
+                useAgilityShortcuts, useGrappleShortcuts, useBoats, useCanoes, useCharterShips, useShips,
+                useFairyRings, useGnomeGliders, useMinecarts, useQuetzals, useSpiritTrees, useTeleportationLevers,
+                useTeleportationMinigames, useTeleportationPortals, useTeleportationSpells, useMagicCarpets,
+                useWildernessObelisks, useNpcs, useBankItems, Rs2Walker.disableTeleports,
+                client.getWorldType().contains(WorldType.MEMBERS)
+        };
+        long bits = (long) useTeleportationItems.ordinal() << 32;
+        for (int i = 0; i < flags.length; i++) {
+            if (flags[i]) {
+                bits |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    public void onVarbitChanged(VarbitChanged event) {
+        if (event.getVarbitId() != -1) {
+            dependencyIndex.varbitChanged(event.getVarbitId());
+        }
+        dependencyIndex.varplayerChanged(event.getVarpId());
+    }
+
+    public void onItemContainerChanged(ItemContainerChanged event) {
+        dependencyIndex.itemContainerChanged(event.getContainerId(), event.getItemContainer().getItems());
+    }
+
+    public void onStatChanged(StatChanged event) {
+        dependencyIndex.statChanged(event.getSkill());
+    }
+
+    public void onGameStateChanged(GameStateChanged event) {
+        if (event.getGameState() == GameState.LOGIN_SCREEN || event.getGameState() == GameState.HOPPING) {
+            // another account or world, nothing evaluated so far can be trusted
+            dependencyIndex.markAll();
+        }
+    }
+
     private void refreshRestrictionData() {
         internalRestrictedPointsPacked.clear();
         List<Restriction> allRestrictions = Stream.concat(resourceRestrictions.stream(), customRestrictions.stream())
@@ -391,12 +480,12 @@ public class PathfinderConfig {
                 && !isInWilderness(packedPosition) && isInWilderness(packedNeighborPosition);
     }
 
-    public boolean isInLevel19Wilderness(int packedPoint) {
+    public static boolean isInLevel19Wilderness(int packedPoint) {
         return WorldPointUtil.distanceToArea(packedPoint, WILDERNESS_ABOVE_GROUND_LEVEL_19) == 0
                 || WorldPointUtil.distanceToArea(packedPoint, WILDERNESS_UNDERGROUND_LEVEL_19) == 0;
     }
 
-    public boolean isInLevel29Wilderness(int packedPoint){
+    public static boolean isInLevel29Wilderness(int packedPoint){
         return WorldPointUtil.distanceToArea(packedPoint, WILDERNESS_ABOVE_GROUND_LEVEL_29) == 0
                 || WorldPointUtil.distanceToArea(packedPoint, WILDERNESS_UNDERGROUND_LEVEL_29) == 0;
 
@@ -0,0 +1,104 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.PrimitiveIntHashMap;
+import net.runelite.client.plugins.microbot.shortestpath.Transport;
+import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable state of a {@link PathfinderConfig} at the time it was taken, see {@link PathfinderConfig#getSnapshot()}.
+ * <p>
+ * Searches only read from it, so any number of them can run concurrently against the same snapshot while the
+ * config is refreshed. Player-held teleports are precomputed per wilderness band instead of being added to the
+ * transport map during the search.
+ */
+public final class PathfinderSnapshot {
+    /** Wilderness levels a search distinguishes, see {@link #getTeleports(int)} */
+    private static final int[] WILDERNESS_BANDS = {0, 19, 29, 31};
+
+    @Getter
+    private final SplitFlagMap mapData;
+    private final PrimitiveIntHashMap<Set<Transport>> transports;
+    private final Set<Transport>[] teleports;
+    /** Sorted packed restricted points */
+    private final int[] restrictedPoints;
+
+    @Getter
+    private final long calculationCutoffMillis;
+    @Getter
+    private final boolean avoidWilderness;
+    @Getter
+    private final boolean ignoreTeleportAndItems;
+    @Getter
+    private final int distanceBeforeUsingTeleport;
+
+    @SuppressWarnings("unchecked")
+    PathfinderSnapshot(SplitFlagMap mapData, Map<WorldPoint, Set<Transport>> transports,
+                       Collection<Transport> usableTeleports, Collection<Integer> restrictedPoints,
+                       long calculationCutoffMillis, boolean avoidWilderness, boolean ignoreTeleportAndItems,
+                       int distanceBeforeUsingTeleport) {
+        this.mapData = mapData;
+        this.transports = new PrimitiveIntHashMap<>(transports.size() * 2);
+        for (Map.Entry<WorldPoint, Set<Transport>> entry : transports.entrySet()) {
+            // the config replaces these sets instead of modifying them, so they can be shared
+            this.transports.put(WorldPointUtil.packWorldPoint(entry.getKey()), Collections.unmodifiableSet(entry.getValue()));
+        }
+
+        this.teleports = new Set[WILDERNESS_BANDS.length];
+        for (int band = 0; band < WILDERNESS_BANDS.length; band++) {
+            Set<Transport> usable = new HashSet<>();
+            if (!ignoreTeleportAndItems) {
+                for (Transport teleport : usableTeleports) {
+                    if (WILDERNESS_BANDS[band] <= teleport.getMaxWildernessLevel()) {
+                        usable.add(teleport);
+                    }
+                }
+            }
+            this.teleports[band] = Collections.unmodifiableSet(usable);
+        }
+
+        this.restrictedPoints = restrictedPoints.stream().mapToInt(Integer::intValue).sorted().toArray();
+        this.calculationCutoffMillis = calculationCutoffMillis;
+        this.avoidWilderness = avoidWilderness;
+        this.ignoreTeleportAndItems = ignoreTeleportAndItems;
+        this.distanceBeforeUsingTeleport = distanceBeforeUsingTeleport;
+    }
+
+    /**
+     * @return the usable transports starting at the packed point, not including player-held teleports
+     */
+    public Set<Transport> getTransports(int packedPoint) {
+        return transports.getOrDefault(packedPoint, Collections.emptySet());
+    }
+
+    /**
+     * @param wildernessLevel the wilderness level, rounded up to 0, 19, 29 or 31 (outside of the wilderness,
+     *                        up to level 20, up to level 30 and deeper)
+     * @return the player-held teleports usable at that level
+     */
+    public Set<Transport> getTeleports(int wildernessLevel) {
+        for (int band = 0; band < WILDERNESS_BANDS.length; band++) {
+            if (wildernessLevel <= WILDERNESS_BANDS[band]) {
+                return teleports[band];
+            }
+        }
+        return teleports[WILDERNESS_BANDS.length - 1];
+    }
+
+    public boolean isRestricted(int packedPoint) {
+        return Arrays.binarySearch(restrictedPoints, packedPoint) >= 0;
+    }
+
+    public boolean avoidWilderness(int packedPosition, int packedNeighborPosition, boolean targetInWilderness) {
+        return avoidWilderness && !targetInWilderness
+                && !PathfinderConfig.isInWilderness(packedPosition) && PathfinderConfig.isInWilderness(packedNeighborPosition);
+    }
+}
@@ -2,11 +2,15 @@ package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.plugins.microbot.shortestpath.ShortestPathPlugin;
 import net.runelite.client.plugins.microbot.shortestpath.Util;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.zip.ZipEntry;
@@ -14,6 +18,7 @@ import java.util.zip.ZipInputStream;
 
 import static net.runelite.api.Constants.REGION_SIZE;
 
+@Slf4j
 public class SplitFlagMap {
     @Getter
     private static RegionExtent regionExtents;
@@ -23,12 +28,17 @@ public class SplitFlagMap {
     // Size is automatically chosen based on the max extents of the collision data
     private final FlagMap[] regionMaps;
     private final int widthInclusive;
+    // Used instead of regionMaps when the collision map is memory mapped, see CollisionMapFile
+    private final int[] mappedRegions;
+    private final ByteBuffer mappedPlanes;
 
     public SplitFlagMap(Map<Integer, byte[]> compressedRegions) {
         widthInclusive = regionExtents.getWidth() + 1;
         final int heightInclusive = regionExtents.getHeight() + 1;
         regionMaps = new FlagMap[widthInclusive * heightInclusive];
         regionMapPlaneCounts = new byte[regionMaps.length];
+        mappedRegions = null;
+        mappedPlanes = null;
 
         for (Map.Entry<Integer, byte[]> entry : compressedRegions.entrySet()) {
             final int pos = entry.getKey();
@@ -41,8 +51,27 @@ public class SplitFlagMap {
         }
     }
 
+    SplitFlagMap(RegionExtent extents, int[] mappedRegions, ByteBuffer mappedPlanes) {
+        regionExtents = extents;
+        widthInclusive = extents.getWidth() + 1;
+        regionMaps = null;
+        this.mappedRegions = mappedRegions;
+        this.mappedPlanes = mappedPlanes;
+        regionMapPlaneCounts = new byte[mappedRegions.length];
+        for (int i = 0; i < mappedRegions.length; i++) {
+            if (mappedRegions[i] != CollisionMapFile.ABSENT) {
+                regionMapPlaneCounts[i] = (byte) (mappedRegions[i] & 0x7);
+            }
+        }
+    }
+
     public boolean get(int x, int y, int z, int flag) {
-        final int index = getIndex(x / REGION_SIZE, y / REGION_SIZE);
+        final int regionX = x / REGION_SIZE;
+        final int regionY = y / REGION_SIZE;
+        final int index = getIndex(regionX, regionY);
+        if (mappedPlanes != null) {
+            return getMapped(regionX, regionY, index, x - regionX * REGION_SIZE, y - regionY * REGION_SIZE, z, flag);
+        }
         if (index < 0 || index >= regionMaps.length || regionMaps[index] == null) {
             return false;
         }
@@ -69,6 +98,21 @@ public class SplitFlagMap {
         return regionMaps[index].get(x, y, z, flag);
     }
 
+    private boolean getMapped(int regionX, int regionY, int index, int localX, int localY, int z, int flag) {
+        // Outside of the extents the index wraps around to another region, FlagMap rejects those by its bounds
+        if (regionX < regionExtents.minX || regionX > regionExtents.maxX
+                || regionY < regionExtents.minY || regionY > regionExtents.maxY) {
+            return false;
+        }
+        final int region = mappedRegions[index];
+        if (region == CollisionMapFile.ABSENT || localX < 0 || localY < 0 || z < 0 || z >= (region & 0x7)) {
+            return false;
+        }
+        final int bit = (z * REGION_SIZE * REGION_SIZE + localY * REGION_SIZE + localX) * FlagMap.FLAG_COUNT + flag;
+        final byte b = mappedPlanes.get((region >>> 3) * CollisionMapFile.PLANE_SIZE + (bit >>> 3));
+        return (b & (1 << (bit & 7))) != 0;
+    }
+
     private int getIndex(int regionX, int regionY) {
         return (regionX - regionExtents.getMinX()) + (regionY - regionExtents.getMinY()) * widthInclusive;
     }
@@ -85,7 +129,27 @@ public class SplitFlagMap {
         return (x & 0xFFFF) | ((y & 0xFFFF) << 16);
     }
 
+    /**
+     * Memory maps the collision map file, generating it from the resource first if needed. Falls back to loading
+     * the resource into the heap if the file can not be used.
+     */
     public static SplitFlagMap fromResources() {
+        final Path file = CollisionMapFile.getCachedFile();
+        if (file != null) {
+            try {
+                if (!Files.isRegularFile(file)) {
+                    Map<Integer, byte[]> compressedRegions = readCompressedRegions();
+                    CollisionMapFile.write(file, regionExtents, compressedRegions);
+                }
+                return CollisionMapFile.map(file);
+            } catch (IOException | UncheckedIOException e) {
+                log.warn("Unable to memory map the collision map {}, loading it into the heap", file, e);
+            }
+        }
+        return new SplitFlagMap(readCompressedRegions());
+    }
+
+    private static Map<Integer, byte[]> readCompressedRegions() {
         Map<Integer, byte[]> compressedRegions = new HashMap<>();
         try (ZipInputStream in = new ZipInputStream(ShortestPathPlugin.class.getResourceAsStream("collision-map.zip"))) {
             int minX = Integer.MAX_VALUE;
@@ -111,7 +175,7 @@ public class SplitFlagMap {
             throw new UncheckedIOException(e);
         }
 
-        return new SplitFlagMap(compressedRegions);
+        return compressedRegions;
     }
 
     @RequiredArgsConstructor
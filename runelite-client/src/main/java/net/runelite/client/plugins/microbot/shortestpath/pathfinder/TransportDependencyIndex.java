@@ -0,0 +1,221 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import net.runelite.api.Item;
+import net.runelite.api.Quest;
+import net.runelite.api.QuestState;
+import net.runelite.api.Skill;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.gameval.InventoryID;
+import net.runelite.client.plugins.microbot.shortestpath.Transport;
+import net.runelite.client.plugins.microbot.shortestpath.TransportDependencies;
+import net.runelite.client.plugins.microbot.util.cache.Rs2QuestCache;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reverse index from game state to the transports that depend on it, see {@link Transport#getDependencies()}.
+ * <p>
+ * Change events mark the dependent transports dirty, usually from the client thread, and {@link #drainDirty()}
+ * hands them to the thread refreshing the pathfinder config. The events are subscribed to after the Rs2 caches
+ * update from them, so a transport is never marked and drained before the state it is evaluated against has
+ * changed. Quest states are derived from vars asynchronously by {@link Rs2QuestCache}, so instead of following
+ * events they are compared against the states seen on the previous refresh.
+ */
+final class TransportDependencyIndex {
+    private static final int[] NONE = new int[0];
+
+    private final Transport[] transports;
+    /** Origin key of every transport in {@code allTransports}, null for teleports */
+    private final WorldPoint[] origins;
+
+    private final Map<Integer, int[]> byVarbit;
+    private final Map<Integer, int[]> byVarplayer;
+    private final Map<Integer, int[]> byItem;
+    private final Map<Quest, int[]> byQuest;
+    private final int[][] bySkill;
+    private final int[] anyItem;
+    private final int[] alwaysEvaluated;
+
+    private final BitSet dirty;
+    /** Quest states as of the last {@link #checkQuests()}, only used by the refreshing thread */
+    private final Map<Quest, QuestState> questStates = new HashMap<>();
+    /** Item counts per container as of the last change event */
+    private final Map<Integer, Map<Integer, Integer>> containers = new HashMap<>();
+
+    TransportDependencyIndex(Map<WorldPoint, Set<Transport>> allTransports) {
+        List<Transport> transportList = new ArrayList<>();
+        List<WorldPoint> originList = new ArrayList<>();
+        for (Map.Entry<WorldPoint, Set<Transport>> entry : allTransports.entrySet()) {
+            for (Transport transport : entry.getValue()) {
+                transportList.add(transport);
+                originList.add(entry.getKey());
+            }
+        }
+        transports = transportList.toArray(new Transport[0]);
+        origins = originList.toArray(new WorldPoint[0]);
+
+        Map<Integer, List<Integer>> varbits = new HashMap<>();
+        Map<Integer, List<Integer>> varplayers = new HashMap<>();
+        Map<Integer, List<Integer>> items = new HashMap<>();
+        Map<Quest, List<Integer>> quests = new HashMap<>();
+        Map<Integer, List<Integer>> skills = new HashMap<>();
+        List<Integer> any = new ArrayList<>();
+        List<Integer> always = new ArrayList<>();
+        for (int i = 0; i < transports.length; i++) {
+            TransportDependencies dependencies = transports[i].getDependencies();
+            for (int varbit : dependencies.getVarbits()) {
+                varbits.computeIfAbsent(varbit, k -> new ArrayList<>()).add(i);
+            }
+            for (int varplayer : dependencies.getVarplayers()) {
+                varplayers.computeIfAbsent(varplayer, k -> new ArrayList<>()).add(i);
+            }
+            for (int itemId : dependencies.getItemIds()) {
+                items.computeIfAbsent(itemId, k -> new ArrayList<>()).add(i);
+            }
+            for (Quest quest : dependencies.getQuests()) {
+                quests.computeIfAbsent(quest, k -> new ArrayList<>()).add(i);
+            }
+            for (int skill : dependencies.getSkills()) {
+                skills.computeIfAbsent(skill, k -> new ArrayList<>()).add(i);
+            }
+            if (dependencies.isAnyItem()) {
+                any.add(i);
+            }
+            if (dependencies.isAlwaysEvaluated()) {
+                always.add(i);
+            }
+        }
+        byVarbit = toArrays(varbits);
+        byVarplayer = toArrays(varplayers);
+        byItem = toArrays(items);
+        byQuest = toArrays(quests);
+        bySkill = new int[Skill.values().length][];
+        for (int i = 0; i < bySkill.length; i++) {
+            bySkill[i] = toArray(skills.get(i));
+        }
+        anyItem = toArray(any);
+        alwaysEvaluated = toArray(always);
+
+        dirty = new BitSet(transports.length);
+        dirty.set(0, transports.length);
+    }
+
+    int size() {
+        return transports.length;
+    }
+
+    Transport getTransport(int index) {
+        return transports[index];
+    }
+
+    WorldPoint getOrigin(int index) {
+        return origins[index];
+    }
+
+    synchronized void markAll() {
+        dirty.set(0, transports.length);
+    }
+
+    synchronized void varbitChanged(int varbitId) {
+        mark(byVarbit.get(varbitId));
+    }
+
+    synchronized void varplayerChanged(int varplayerId) {
+        mark(byVarplayer.get(varplayerId));
+    }
+
+    synchronized void statChanged(Skill skill) {
+        mark(bySkill[skill.ordinal()]);
+    }
+
+    /**
+     * Marks the transports depending on the items whose count changed since the last event for the container.
+     */
+    synchronized void itemContainerChanged(int containerId, Item[] items) {
+        if (containerId != InventoryID.INV && containerId != InventoryID.WORN && containerId != InventoryID.BANK) {
+            return;
+        }
+
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (Item item : items) {
+            if (item != null && item.getId() > 0) {
+                counts.merge(item.getId(), item.getQuantity(), Integer::sum);
+            }
+        }
+        Map<Integer, Integer> previous = containers.put(containerId, counts);
+        if (previous == null) {
+            previous = Map.of();
+        }
+
+        Set<Integer> changed = new HashSet<>();
+        for (Map.Entry<Integer, Integer> entry : counts.entrySet()) {
+            if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (Integer itemId : previous.keySet()) {
+            if (!counts.containsKey(itemId)) {
+                changed.add(itemId);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        for (Integer itemId : changed) {
+            mark(byItem.get(itemId));
+        }
+        mark(anyItem);
+    }
+
+    /**
+     * Marks the transports depending on quests whose cached state changed since the last call.
+     */
+    void checkQuests() {
+        for (Map.Entry<Quest, int[]> entry : byQuest.entrySet()) {
+            QuestState state = Rs2QuestCache.getQuestState(entry.getKey());
+            if (state != questStates.put(entry.getKey(), state)) {
+                synchronized (this) {
+                    mark(entry.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the transports to re-evaluate, including those that depend on state without change events
+     */
+    synchronized BitSet drainDirty() {
+        BitSet drained = (BitSet) dirty.clone();
+        dirty.clear();
+        for (int i : alwaysEvaluated) {
+            drained.set(i);
+        }
+        return drained;
+    }
+
+    private void mark(int[] indices) {
+        if (indices == null) {
+            return;
+        }
+        for (int i : indices) {
+            dirty.set(i);
+        }
+    }
+
+    private static <K> Map<K, int[]> toArrays(Map<K, List<Integer>> lists) {
+        Map<K, int[]> arrays = new HashMap<>(lists.size() * 2);
+        lists.forEach((key, list) -> arrays.put(key, toArray(list)));
+        return arrays;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        return list == null || list.isEmpty() ? NONE : list.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,218 @@
+package net.runelite.client.plugins.microbot.util.bank;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.BufferUnderflowException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Stores the cached bank of each RS profile in its own binary file, instead of as a JSON string in the config.
+ * <p>
+ * Bank updates arrive in bursts while items are withdrawn and deposited, so saves are debounced and written on a
+ * background thread. Only the latest contents of each profile are written.
+ * <p>
+ * The file holds a header (magic, version, item count) followed by one record per item in slot order: the id as a
+ * zigzag varint delta to the previous id, the quantity as a varint, and the slot as a zigzag varint delta to the
+ * slot after the previous one, which is 0 for consecutive slots. A CRC32 of everything before it closes the file.
+ */
+@Slf4j
+final class BankSnapshotStore {
+    private static final int MAGIC = 0x4D424E4B; // MBNK
+    private static final int VERSION = 1;
+    private static final long SAVE_DELAY_MILLIS = 2000;
+
+    private static final Path DIRECTORY = new File(RuneLite.CACHE_DIR, "microbot/bank").toPath();
+
+    private static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "Bank snapshot writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** Latest unsaved bank of each profile, in the [id, quantity, slot, ...] layout of {@link Rs2BankData} */
+    private static final Map<String, int[]> pending = new ConcurrentHashMap<>();
+
+    private BankSnapshotStore() {
+    }
+
+    /**
+     * Schedules the bank of the profile to be saved, replacing any save of the profile that is still pending.
+     */
+    static void save(String rsProfileKey, int[] idQuantityAndSlot) {
+        if (pending.put(rsProfileKey, idQuantityAndSlot) == null) {
+            executor.schedule(() -> write(rsProfileKey), SAVE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the pending save of the profile now, if there is one.
+     */
+    static void flush(String rsProfileKey) {
+        try {
+            executor.submit(() -> write(rsProfileKey)).get();
+        } catch (Exception e) {
+            log.warn("Failed to flush bank snapshot for {}", rsProfileKey, e);
+        }
+    }
+
+    /**
+     * @return the saved bank of the profile, the pending one if it has not been written yet, or null if there is none
+     */
+    static int[] load(String rsProfileKey) {
+        int[] unsaved = pending.get(rsProfileKey);
+        if (unsaved != null) {
+            return unsaved.clone();
+        }
+
+        Path file = file(rsProfileKey);
+        try {
+            return decode(Files.readAllBytes(file));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            log.warn("Discarding unreadable bank snapshot {}", file, e);
+            return null;
+        }
+    }
+
+    private static void write(String rsProfileKey) {
+        int[] data = pending.remove(rsProfileKey);
+        if (data == null) {
+            return;
+        }
+
+        Path file = file(rsProfileKey);
+        try {
+            Files.createDirectories(DIRECTORY);
+            Path temp = Files.createTempFile(DIRECTORY, "bank", ".tmp");
+            try {
+                Files.write(temp, encode(data));
+                try {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.debug("Saved {} bank items to {}", data.length / 3, file);
+        } catch (IOException e) {
+            log.error("Failed to save bank snapshot {}", file, e);
+        }
+    }
+
+    private static Path file(String rsProfileKey) {
+        return DIRECTORY.resolve(rsProfileKey.replaceAll("[^A-Za-z0-9._-]", "_") + ".bin");
+    }
+
+    static byte[] encode(int[] idQuantityAndSlot) {
+        int count = idQuantityAndSlot.length / 3;
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + count * 5);
+        writeInt(out, MAGIC);
+        writeVarInt(out, VERSION);
+        writeVarInt(out, count);
+
+        int previousId = 0;
+        int nextSlot = 0;
+        for (int i = 0; i < count * 3; i += 3) {
+            int id = idQuantityAndSlot[i];
+            int slot = idQuantityAndSlot[i + 2];
+            writeVarInt(out, zigzag(id - previousId));
+            writeVarInt(out, idQuantityAndSlot[i + 1]);
+            writeVarInt(out, zigzag(slot - nextSlot));
+            previousId = id;
+            nextSlot = slot + 1;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(out.toByteArray());
+        writeInt(out, (int) crc.getValue());
+        return out.toByteArray();
+    }
+
+    static int[] decode(byte[] bytes) {
+        if (bytes.length < 8) {
+            throw new IllegalArgumentException("Truncated bank snapshot");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 4);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.getInt(bytes.length - 4) != (int) crc.getValue()) {
+            throw new IllegalArgumentException("Bank snapshot checksum mismatch");
+        }
+        buffer.limit(bytes.length - 4);
+
+        if (buffer.getInt() != MAGIC || readVarInt(buffer) != VERSION) {
+            throw new IllegalArgumentException("Unknown bank snapshot format");
+        }
+        int count = readVarInt(buffer);
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid bank snapshot item count " + count);
+        }
+
+        int[] idQuantityAndSlot = new int[count * 3];
+        int previousId = 0;
+        int nextSlot = 0;
+        for (int i = 0; i < idQuantityAndSlot.length; i += 3) {
+            int id = previousId + unzigzag(readVarInt(buffer));
+            int quantity = readVarInt(buffer);
+            int slot = nextSlot + unzigzag(readVarInt(buffer));
+            idQuantityAndSlot[i] = id;
+            idQuantityAndSlot[i + 1] = quantity;
+            idQuantityAndSlot[i + 2] = slot;
+            previousId = id;
+            nextSlot = slot + 1;
+        }
+        return idQuantityAndSlot;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    /** Unsigned LEB128, so negative values take five bytes */
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in bank snapshot");
+    }
+}
@@ -1456,7 +1456,7 @@ public class Rs2Bank {
      * @return bankItem
      */
     private static Rs2ItemModel findBankItem(int id) {
-        return get(x -> x.getId() == id);
+        return rs2BankData.getItem(id);
     }
 
     /**
@@ -1851,6 +1851,7 @@ public class Rs2Bank {
         synchronized (lock) {
             if (vaildLoadedCache && Rs2Bank.rsProfileKey != null && Microbot.getConfigManager() != null && rsProfileKey == Microbot.getConfigManager().getRSProfileKey()) {
                 saveCacheToConfig(Rs2Bank.rsProfileKey);
+                BankSnapshotStore.flush(Rs2Bank.rsProfileKey);
             }
             vaildLoadedCache = false;
             rsProfileKey = null;
@@ -1874,7 +1875,7 @@ public class Rs2Bank {
     }
 
     /**
-     * Loads bank data from RuneLite config system.
+     * Loads bank data from the profile's bank snapshot, migrating the legacy JSON config entry if there is no snapshot yet.
      * Similar to QuestBank.loadCacheFromConfig().
      */
     private static void loadCacheFromConfigInternal(String rsProfileKey) {
@@ -1885,12 +1886,23 @@ public class Rs2Bank {
         Rs2Bank.rsProfileKey = rsProfileKey;
         worldType = RuneScapeProfileType.getCurrent(Microbot.getClient());
         log.debug("Loading bank data for profile: {}, world type: {}", rsProfileKey, worldType);
+        int[] snapshot = BankSnapshotStore.load(rsProfileKey);
+        if (snapshot != null) {
+            rs2BankData.setIdQuantityAndSlot(snapshot);
+            log.debug("Loaded {} bank items from snapshot", rs2BankData.size());
+            return;
+        }
+
         String json =Microbot.getConfigManager().getConfiguration(CONFIG_GROUP, rsProfileKey, BANK_KEY);
         //String json = Microbot.getConfigManager().getRSProfileConfiguration(CONFIG_GROUP, BANK_KEY);
         try {
             if (json != null && !json.isEmpty()) {
                 int[] data = gson.fromJson(json, int[].class);
                 log.debug("Loaded {} bank items from config", data.length);
+                // move the bank out of the config, into its snapshot
+                BankSnapshotStore.save(rsProfileKey, data.clone());
+                BankSnapshotStore.flush(rsProfileKey);
+                Microbot.getConfigManager().unsetConfiguration(CONFIG_GROUP, rsProfileKey, BANK_KEY);
                 rs2BankData.setIdQuantityAndSlot(data);
                 log.debug("finished loading bank data, size: {}", rs2BankData.size());
 
@@ -1912,18 +1924,18 @@ public class Rs2Bank {
     }
 
     /**
-     * Saves the current bank state to RuneLite config system.
+     * Saves the current bank state to the profile's bank snapshot. The snapshot is written in the background,
+     * after bank updates have settled.
      * Similar to QuestBank.saveCacheToConfig().
      */
     public static void saveCacheToConfig(String newRsProfileKey) {
-        if (newRsProfileKey == null || Microbot.getConfigManager() == null) {
+        if (newRsProfileKey == null) {
             return;
         }
 
         try {
-            String json = gson.toJson(rs2BankData.getIdQuantityAndSlot());
-            Microbot.getConfigManager().setConfiguration(CONFIG_GROUP, newRsProfileKey, BANK_KEY, json);
-            log.debug("Saved {} bank items to config cache", rs2BankData.size());
+            BankSnapshotStore.save(newRsProfileKey, rs2BankData.getIdQuantityAndSlot());
+            log.debug("Scheduled save of {} bank items", rs2BankData.size());
         } catch (Exception e) {
             log.error("Failed to save bank data to config", e);
         }
@@ -2314,10 +2326,7 @@ public class Rs2Bank {
      * @return the Rs2Item matching the item ID, or null if not found.
      */
     public static Rs2ItemModel getBankItem(int itemId) {
-        return bankItems().stream()
-                .filter(item -> item.getId() == itemId)
-                .findFirst()
-                .orElse(null);
+        return rs2BankData.getItem(itemId);
     }
 
     /**
@@ -5,7 +5,9 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Thread-safe data class for caching bank items with ID, quantity, and slot information.
@@ -41,6 +43,11 @@ public class Rs2BankData {
      * This prevents unnecessary rebuilding on every access.
      */
     private List<Rs2ItemModel> bankItems;
+
+    /**
+     * Index from item id to the first bank item with that id, kept in step with {@code bankItems}.
+     */
+    private final Map<Integer, Rs2ItemModel> itemsById = new HashMap<>();
     
     /**
      * Flag to track if the cached bankItems list needs to be rebuilt.
@@ -79,6 +86,7 @@ public class Rs2BankData {
         idQuantityAndSlot = newIdQuantityAndSlot;
         bankItems.clear();
         bankItems.addAll(items);
+        indexItems();
         needsRebuild = false;
         
         log.trace("Bank data updated with {} items", items.size());
@@ -105,6 +113,7 @@ public class Rs2BankData {
     synchronized void setEmpty() {
         idQuantityAndSlot = new int[0];
         bankItems.clear();
+        itemsById.clear();
         needsRebuild = false;
         log.trace("Bank data cleared");
     }
@@ -147,6 +156,31 @@ public class Rs2BankData {
         return new ArrayList<>(bankItems);
     }
 
+    /**
+     * Gets the bank item with the given id without copying or scanning the item list.
+     * Thread-safe method.
+     *
+     * @param id item id
+     * @return the first bank item with the id, or null if the bank does not contain it
+     */
+    public synchronized Rs2ItemModel getItem(int id) {
+        if (needsRebuild) {
+            rebuildBankItemsList();
+        }
+        return itemsById.get(id);
+    }
+
+    /**
+     * Rebuilds the id index from the bankItems list.
+     * Must be called from synchronized context.
+     */
+    private void indexItems() {
+        itemsById.clear();
+        for (Rs2ItemModel item : bankItems) {
+            itemsById.putIfAbsent(item.getId(), item);
+        }
+    }
+
     /**
      * Rebuilds the bankItems list from the cached array data.
      * Called only when needsRebuild is true to minimize performance impact.
@@ -154,6 +188,7 @@ public class Rs2BankData {
      */
     private void rebuildBankItemsList() {
         bankItems.clear();
+        itemsById.clear();
 
         if (idQuantityAndSlot == null || idQuantityAndSlot.length < 3) {
             needsRebuild = false;
@@ -177,6 +212,7 @@ public class Rs2BankData {
                 continue;
             }
         }
+        indexItems();
         needsRebuild = false;
         log.debug("finished Rebuilt bank items list with {} items", bankItems.size());
     }
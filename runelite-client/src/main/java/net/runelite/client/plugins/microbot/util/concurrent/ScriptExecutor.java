@@ -0,0 +1,231 @@
+package net.runelite.client.plugins.microbot.util.concurrent;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lightweight {@link ScheduledExecutorService} view over the shared {@link ScriptRuntime}.
+ * <p>
+ * It owns no threads. It tracks the tasks submitted through it so they can be cancelled together, and
+ * accounts the wall and CPU time spent running them. Shutting it down only affects its own tasks.
+ */
+public class ScriptExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+    @Getter
+    private final String name;
+    private final AtomicInteger threadNumber = new AtomicInteger(1);
+    private final Set<ScriptTask<?>> tasks = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong busyNanos = new AtomicLong();
+    private final AtomicLong cpuNanos = new AtomicLong();
+
+    private volatile boolean shutdown;
+
+    ScriptExecutor(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return enqueue(new ScriptTask<>(this, Executors.callable(command), triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return enqueue(new ScriptTask<>(this, callable, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+        return enqueue(new ScriptTask<>(this, Executors.callable(command), triggerTime(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be positive");
+        }
+        return enqueue(new ScriptTask<>(this, Executors.callable(command), triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Cancels every pending and running task of this executor while leaving it usable, which is what
+     * a script needs when it is stopped and later started again.
+     *
+     * @return the number of tasks that were cancelled
+     */
+    public int cancelAll() {
+        int cancelled = 0;
+        for (ScriptTask<?> task : new ArrayList<>(tasks)) {
+            if (task.cancel(true)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        for (ScriptTask<?> task : new ArrayList<>(tasks)) {
+            if (task.isPeriodic()) {
+                task.cancel(false);
+            }
+        }
+        signalIfTerminated();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        cancelAll();
+        signalIfTerminated();
+        return new ArrayList<>();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && tasks.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this) {
+            while (!isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Number of tasks that are scheduled or running.
+     */
+    public int getActiveTasks() {
+        return tasks.size();
+    }
+
+    /**
+     * Number of task executions completed so far, each run of a periodic task counts once.
+     */
+    public long getExecutions() {
+        return executions.get();
+    }
+
+    /**
+     * Wall clock time spent running this executor's tasks, including time spent sleeping or blocked.
+     */
+    public Duration getBusyTime() {
+        return Duration.ofNanos(busyNanos.get());
+    }
+
+    /**
+     * CPU time consumed by this executor's tasks. Only measured on runtimes that report per-thread
+     * CPU time, which excludes virtual threads.
+     */
+    public Duration getCpuTime() {
+        return Duration.ofNanos(cpuNanos.get());
+    }
+
+    /**
+     * @return a name for the worker thread of a new task, numbered per task
+     */
+    String nextThreadName() {
+        return name + "-" + threadNumber.getAndIncrement();
+    }
+
+    void account(long wallNanos, long cpu) {
+        executions.incrementAndGet();
+        busyNanos.addAndGet(wallNanos);
+        if (cpu > 0) {
+            cpuNanos.addAndGet(cpu);
+        }
+    }
+
+    void rearm(ScriptTask<?> task) {
+        if (shutdown) {
+            task.cancel(false);
+            return;
+        }
+        arm(task);
+    }
+
+    void finished(ScriptTask<?> task) {
+        if (tasks.remove(task)) {
+            signalIfTerminated();
+        }
+    }
+
+    private <V> ScriptTask<V> enqueue(ScriptTask<V> task) {
+        if (shutdown) {
+            throw new RejectedExecutionException(name + " has been shut down");
+        }
+        tasks.add(task);
+        arm(task);
+        return task;
+    }
+
+    private void arm(ScriptTask<?> task) {
+        long delay = task.getDelay(TimeUnit.NANOSECONDS);
+        if (delay <= 0) {
+            dispatch(task);
+        } else {
+            task.setTrigger(ScriptRuntime.SCHEDULER.schedule(() -> dispatch(task), delay, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private void dispatch(ScriptTask<?> task) {
+        if (task.isDone()) {
+            return;
+        }
+        try {
+            ScriptRuntime.WORKERS.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.fail(e);
+        }
+    }
+
+    private void signalIfTerminated() {
+        if (isTerminated()) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    private static long triggerTime(long delay, TimeUnit unit) {
+        return System.nanoTime() + unit.toNanos(Math.max(delay, 0));
+    }
+}
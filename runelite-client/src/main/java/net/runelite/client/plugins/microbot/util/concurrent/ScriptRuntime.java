@@ -0,0 +1,141 @@
+package net.runelite.client.plugins.microbot.util.concurrent;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Central runtime shared by every {@link ScriptExecutor}.
+ * <p>
+ * Timing is handled by a single small scheduler whose threads never run script code, they only hand
+ * tasks over to the worker executor. On JDK 21+ the workers are virtual threads so a blocking script
+ * loop costs a few hundred bytes instead of a platform thread; on older runtimes (or when disabled with
+ * {@code -Dmicrobot.scripts.virtualThreads=false}) an unbounded platform thread pool whose idle threads time out is used.
+ * The pool hands tasks directly to a thread, starting one when none is idle, so scripts blocked in
+ * {@code sleepUntil} never hold up the ticks of other scripts or tasks they wait on.
+ */
+@Slf4j
+public final class ScriptRuntime {
+    private static final String VIRTUAL_THREADS_PROPERTY = "microbot.scripts.virtualThreads";
+    private static final int SCHEDULER_THREADS = 2;
+
+    static final ScheduledThreadPoolExecutor SCHEDULER;
+    static final ExecutorService WORKERS;
+
+    @Getter
+    private static final boolean virtualThreads;
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED;
+
+    private static final Map<ScriptExecutor, Boolean> EXECUTORS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    static {
+        SCHEDULER = new ScheduledThreadPoolExecutor(SCHEDULER_THREADS, new ThreadFactoryBuilder()
+                .setNameFormat("microbot-script-scheduler-%d")
+                .setDaemon(true)
+                .build());
+        SCHEDULER.setRemoveOnCancelPolicy(true);
+
+        ExecutorService workers = null;
+        if (Boolean.parseBoolean(System.getProperty(VIRTUAL_THREADS_PROPERTY, "true"))) {
+            workers = createVirtualThreadExecutor();
+        }
+        virtualThreads = workers != null;
+        if (workers == null) {
+            workers = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+                    60, TimeUnit.SECONDS, new SynchronousQueue<>(), new ThreadFactoryBuilder()
+                    .setNameFormat("microbot-script-worker-%d")
+                    .setDaemon(true)
+                    .build());
+        }
+        WORKERS = workers;
+
+        boolean cpuTime;
+        try {
+            cpuTime = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+            if (cpuTime && !THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+                THREAD_MX_BEAN.setThreadCpuTimeEnabled(true);
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            cpuTime = false;
+        }
+        CPU_TIME_SUPPORTED = cpuTime;
+
+        log.debug("Script runtime started using {} threads", virtualThreads ? "virtual" : "platform");
+    }
+
+    private ScriptRuntime() {
+    }
+
+    /**
+     * Creates a new executor whose tasks run on the shared runtime.
+     *
+     * @param name name used for worker threads while they execute this executor's tasks
+     * @return a new executor, tracked for diagnostics until it is garbage collected
+     */
+    public static ScriptExecutor newExecutor(String name) {
+        ScriptExecutor executor = new ScriptExecutor(name);
+        EXECUTORS.put(executor, Boolean.TRUE);
+        return executor;
+    }
+
+    /**
+     * Returns a snapshot of all executors that are still reachable.
+     */
+    public static List<ScriptExecutor> getExecutors() {
+        synchronized (EXECUTORS) {
+            return new ArrayList<>(EXECUTORS.keySet());
+        }
+    }
+
+    /**
+     * CPU time of the current thread in nanoseconds, or -1 if it can not be measured (e.g. virtual threads).
+     */
+    static long currentThreadCpuTime() {
+        if (!CPU_TIME_SUPPORTED) {
+            return -1;
+        }
+        try {
+            return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        } catch (UnsupportedOperationException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * The client is compiled for Java 11, so the JDK 21 virtual thread API is looked up reflectively.
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = ofVirtual.invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "microbot-script-", 0L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Unable to create virtual thread executor, falling back to platform threads", e);
+            return null;
+        }
+    }
+}
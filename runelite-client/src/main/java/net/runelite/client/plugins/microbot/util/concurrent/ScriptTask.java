@@ -0,0 +1,151 @@
+package net.runelite.client.plugins.microbot.util.concurrent;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A task owned by a {@link ScriptExecutor}. The shared scheduler only triggers it, the body always runs on
+ * a worker thread. Periodic tasks are re-armed after each run, so two runs of the same task never overlap.
+ */
+final class ScriptTask<V> implements RunnableScheduledFuture<V> {
+    private final ScriptExecutor executor;
+    private final Callable<V> callable;
+    /**
+     * 0 for one-shot tasks, positive for fixed-rate and negative for fixed-delay, like ScheduledThreadPoolExecutor.
+     */
+    private final long period;
+    /** Name of the worker thread while it runs this task, fixed per task so every run shows up the same */
+    private final String threadName;
+    private final CompletableFuture<V> result = new CompletableFuture<>();
+
+    private volatile long time;
+    private volatile Future<?> trigger;
+    private Thread runner;
+
+    ScriptTask(ScriptExecutor executor, Callable<V> callable, long triggerTime, long period) {
+        this.executor = executor;
+        this.callable = callable;
+        this.time = triggerTime;
+        this.period = period;
+        this.threadName = executor.nextThreadName();
+    }
+
+    void setTrigger(Future<?> trigger) {
+        this.trigger = trigger;
+    }
+
+    @Override
+    public boolean isPeriodic() {
+        return period != 0;
+    }
+
+    @Override
+    public void run() {
+        synchronized (this) {
+            if (result.isDone()) {
+                return;
+            }
+            runner = Thread.currentThread();
+        }
+
+        final Thread thread = Thread.currentThread();
+        final String previousName = thread.getName();
+        thread.setName(threadName);
+
+        final long start = System.nanoTime();
+        final long cpuStart = ScriptRuntime.currentThreadCpuTime();
+        try {
+            V value = callable.call();
+            if (!isPeriodic()) {
+                result.complete(value);
+            }
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        } finally {
+            final long cpuEnd = cpuStart < 0 ? -1 : ScriptRuntime.currentThreadCpuTime();
+            executor.account(System.nanoTime() - start, cpuEnd < 0 ? -1 : cpuEnd - cpuStart);
+
+            synchronized (this) {
+                runner = null;
+            }
+            // a cancel(true) that raced with completion must not leak into the next task on a pooled thread
+            Thread.interrupted();
+            thread.setName(previousName);
+        }
+
+        if (isPeriodic() && !result.isDone()) {
+            long now = System.nanoTime();
+            time = period > 0 ? Math.max(now, time + period) : now - period;
+            executor.rearm(this);
+        } else {
+            executor.finished(this);
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = result.cancel(false);
+        if (cancelled) {
+            Future<?> t = trigger;
+            if (t != null) {
+                t.cancel(false);
+            }
+            if (mayInterruptIfRunning) {
+                synchronized (this) {
+                    if (runner != null) {
+                        runner.interrupt();
+                    }
+                }
+            }
+            executor.finished(this);
+        }
+        return cancelled;
+    }
+
+    /**
+     * Fails the task without running it, used when the worker executor rejects it.
+     */
+    void fail(Throwable t) {
+        result.completeExceptionally(t);
+        executor.finished(this);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return result.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+        return result.get();
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        return result.get(timeout, unit);
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        if (other == this) {
+            return 0;
+        }
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
@@ -23,6 +23,7 @@ import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 import javax.annotation.Nullable;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -34,6 +35,11 @@ import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
  * TODO: This class should be cleaned up, less methods by passing filters instead of multiple parameters
  */
 public class Rs2GameObject {
+	/**
+	 * Results of {@link #getObjectIdsByName(String)}, which reflectively scans every object id constant.
+	 */
+	private static final Map<String, List<Integer>> OBJECT_IDS_BY_NAME = new ConcurrentHashMap<>();
+
 	/**
 	 * Extracts all {@link GameObject}s located on a given {@link Tile}.
 	 *
@@ -1517,65 +1523,35 @@ public class Rs2GameObject {
     }
 
     // private methods
-    private static <T extends TileObject> Stream<T> getSceneObjects(Function<Tile, Collection<? extends T>> extractor) {
-        Player player = Microbot.getClient().getLocalPlayer();
-        if (player == null) return Stream.empty();
-
-        Scene scene = player.getWorldView().getScene();
-        Tile[][][] tiles = scene.getTiles();
-        if (tiles == null) return Stream.empty();
+    private static <T extends TileObject> List<T> getSceneObjects(Function<Tile, Collection<? extends T>> extractor, Predicate<T> predicate, LocalPoint anchorLocal, int distance) {
+        Tile[][] plane = getPlaneTiles();
+        if (plane == null || anchorLocal == null) return Collections.emptyList();
 
-        List<T> result = new ArrayList<>();
-        int z = player.getWorldView().getPlane();
+        return SceneObjectFinder.within(plane, extractor, predicate, anchorLocal, clampDistance(distance));
+    }
 
-        for (int x = 0; x < Constants.SCENE_SIZE; x++) {
-            for (int y = 0; y < Constants.SCENE_SIZE; y++) {
-                Tile tile = tiles[z][x][y];
-                if (tile == null) continue;
-
-                Collection<? extends T> objs = extractor.apply(tile);
-                if (objs != null) {
-                    for (T obj : objs) {
-                        if (obj == null) continue;
-
-                        if (obj instanceof GameObject) {
-                            GameObject gameObject = (GameObject) obj;
-                            if (gameObject.getSceneMinLocation().equals(tile.getSceneLocation())) {
-                                result.add(obj);
-                            }
-                        } else {
-                            if (obj.getLocalLocation().equals(tile.getLocalLocation())) {
-                                result.add(obj);
-                            }
-                        }
-                    }
-                }
-            }
-        }
+    private static <T extends TileObject> T getSceneObject(Function<Tile, Collection<? extends T>> extractor, Predicate<T> predicate, LocalPoint anchorLocal, int distance) {
+        Tile[][] plane = getPlaneTiles();
+        if (plane == null || anchorLocal == null) return null;
 
-        return result.stream();
+        return SceneObjectFinder.nearest(plane, extractor, predicate, anchorLocal, clampDistance(distance));
     }
 
-    private static <T extends TileObject> List<T> getSceneObjects(Function<Tile, Collection<? extends T>> extractor, Predicate<T> predicate, LocalPoint anchorLocal, int distance) {
-        if (distance > Rs2LocalPoint.worldToLocalDistance(Constants.SCENE_SIZE)) {
-            distance = Rs2LocalPoint.worldToLocalDistance(Constants.SCENE_SIZE);
-        }
+    private static Tile[][] getPlaneTiles() {
+        Player player = Microbot.getClient().getLocalPlayer();
+        if (player == null) return null;
 
-        return getSceneObjects(extractor)
-                .filter(withinTilesPredicate(distance, anchorLocal))
-                .filter(predicate)
-                .sorted(Comparator.comparingInt(o -> o.getLocalLocation().distanceTo(anchorLocal)))
-                .collect(Collectors.toList());
+        Tile[][][] tiles = player.getWorldView().getScene().getTiles();
+        if (tiles == null) return null;
+
+        return tiles[player.getWorldView().getPlane()];
     }
 
-    private static <T extends TileObject> T getSceneObject(Function<Tile, Collection<? extends T>> extractor, Predicate<T> predicate, LocalPoint anchorLocal, int distance) {
-        return getSceneObjects(extractor, predicate, anchorLocal, distance)
-                .stream()
-                .findFirst()
-                .orElse(null);
+    private static int clampDistance(int distance) {
+        return Math.min(distance, Rs2LocalPoint.worldToLocalDistance(Constants.SCENE_SIZE));
     }
 
-    private static boolean isWithinTiles(LocalPoint anchor, LocalPoint objLoc, int distance) {
+    static boolean isWithinTiles(LocalPoint anchor, LocalPoint objLoc, int distance) {
         int dx = Math.abs(anchor.getX() - objLoc.getX());
         int dy = Math.abs(anchor.getY() - objLoc.getY());
 
@@ -1866,8 +1842,13 @@ public class Rs2GameObject {
 
     @SneakyThrows
     public static List<Integer> getObjectIdsByName(String name) {
-        List<Integer> ids = new ArrayList<>();
         String lowerName = name.toLowerCase();
+        List<Integer> cached = OBJECT_IDS_BY_NAME.get(lowerName);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<Integer> ids = new ArrayList<>();
 
         Class<?>[] classesToScan = {
                 net.runelite.api.ObjectID.class,
@@ -1885,6 +1866,8 @@ public class Rs2GameObject {
                 }
             }
         }
+        ids = Collections.unmodifiableList(ids);
+        OBJECT_IDS_BY_NAME.put(lowerName, ids);
         return ids;
     }
 
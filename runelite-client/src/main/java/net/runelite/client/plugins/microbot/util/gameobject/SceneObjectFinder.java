@@ -0,0 +1,184 @@
+package net.runelite.client.plugins.microbot.util.gameobject;
+
+import net.runelite.api.Constants;
+import net.runelite.api.GameObject;
+import net.runelite.api.Perspective;
+import net.runelite.api.Point;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.api.coords.LocalPoint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Scene object search restricted to the tiles that can hold an object within the requested distance.
+ *
+ * <p>Every object is visited on exactly one tile: the tile of its footprint that is closest to the anchor.
+ * Since an object's location lies inside its footprint, an object first seen on ring {@code r} around the
+ * anchor tile is at least {@code r * 128 - 64} local units away from the centre of the anchor tile, less however far
+ * the anchor is from that centre. {@link #nearest} walks the rings outwards and stops as soon as no later ring can
+ * hold an object as close as the best match, so the predicate, which usually needs a composition lookup, only runs
+ * on objects that pass the distance check close to the anchor.</p>
+ *
+ * <p>Objects at the same distance are ordered as a column-major scan of the scene would find them, by the south-west
+ * tile of their footprint.</p>
+ */
+final class SceneObjectFinder {
+    private static final int HALF_TILE = Perspective.LOCAL_TILE_SIZE / 2;
+
+    private SceneObjectFinder() {
+    }
+
+    /**
+     * Finds the object closest to {@code anchor} within {@code distance} local units matching {@code predicate}.
+     */
+    static <T extends TileObject> T nearest(Tile[][] plane, Function<Tile, Collection<? extends T>> extractor,
+                                            Predicate<T> predicate, LocalPoint anchor, int distance) {
+        final int ax = anchor.getSceneX();
+        final int ay = anchor.getSceneY();
+        final int maxRing = maxRing(distance);
+        final int anchorOffset = Math.max(Math.abs(anchor.getX() - tileCentre(ax)),
+                Math.abs(anchor.getY() - tileCentre(ay)));
+
+        T best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        int bestOrder = Integer.MAX_VALUE;
+        for (int r = 0; r <= maxRing; r++) {
+            // objects on this ring tied with the best match may still come first in scan order
+            if (best != null && bestDistance < r * Perspective.LOCAL_TILE_SIZE - HALF_TILE - anchorOffset) {
+                break;
+            }
+            if (ax - r < 0 && ay - r < 0 && ax + r >= Constants.SCENE_SIZE && ay + r >= Constants.SCENE_SIZE) {
+                break;
+            }
+            for (int i = -r; i <= r; i++) {
+                // top and bottom rows, then the left and right columns without the corners
+                for (int k = 0; k < 4; k++) {
+                    int x, y;
+                    switch (k) {
+                        case 0: x = ax + i; y = ay - r; break;
+                        case 1: if (r == 0) continue; x = ax + i; y = ay + r; break;
+                        case 2: if (i == -r || i == r) continue; x = ax - r; y = ay + i; break;
+                        default: if (i == -r || i == r) continue; x = ax + r; y = ay + i; break;
+                    }
+                    if (x < 0 || y < 0 || x >= Constants.SCENE_SIZE || y >= Constants.SCENE_SIZE) {
+                        continue;
+                    }
+                    Tile tile = plane[x][y];
+                    if (tile == null) {
+                        continue;
+                    }
+                    Collection<? extends T> objects = extractor.apply(tile);
+                    if (objects == null) {
+                        continue;
+                    }
+                    for (T obj : objects) {
+                        if (!accept(obj, tile, x, y, ax, ay, anchor, distance)) {
+                            continue;
+                        }
+                        int d = obj.getLocalLocation().distanceTo(anchor);
+                        if (d > bestDistance) {
+                            continue;
+                        }
+                        int order = scanOrder(obj);
+                        if (d == bestDistance && order >= bestOrder) {
+                            continue;
+                        }
+                        if (predicate.test(obj)) {
+                            best = obj;
+                            bestDistance = d;
+                            bestOrder = order;
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Collects all objects within {@code distance} local units of {@code anchor} matching {@code predicate},
+     * sorted by distance.
+     */
+    static <T extends TileObject> List<T> within(Tile[][] plane, Function<Tile, Collection<? extends T>> extractor,
+                                                 Predicate<T> predicate, LocalPoint anchor, int distance) {
+        final int ax = anchor.getSceneX();
+        final int ay = anchor.getSceneY();
+        final int maxRing = maxRing(distance);
+        final int minX = Math.max(0, ax - maxRing);
+        final int minY = Math.max(0, ay - maxRing);
+        final int maxX = Math.min(Constants.SCENE_SIZE - 1, ax + maxRing);
+        final int maxY = Math.min(Constants.SCENE_SIZE - 1, ay + maxRing);
+
+        List<T> result = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                Tile tile = plane[x][y];
+                if (tile == null) {
+                    continue;
+                }
+                Collection<? extends T> objects = extractor.apply(tile);
+                if (objects == null) {
+                    continue;
+                }
+                for (T obj : objects) {
+                    if (accept(obj, tile, x, y, ax, ay, anchor, distance) && predicate.test(obj)) {
+                        result.add(obj);
+                    }
+                }
+            }
+        }
+        result.sort(Comparator.<T>comparingInt(o -> o.getLocalLocation().distanceTo(anchor))
+                .thenComparingInt(SceneObjectFinder::scanOrder));
+        return result;
+    }
+
+    private static int maxRing(int distance) {
+        // a distance of 0 means "adjacent", which needs the first ring
+        return Math.max(1, (distance + HALF_TILE) / Perspective.LOCAL_TILE_SIZE + 1);
+    }
+
+    private static int tileCentre(int scene) {
+        return scene * Perspective.LOCAL_TILE_SIZE + HALF_TILE;
+    }
+
+    /**
+     * @return the position of the tile a column-major scan of the scene finds {@code obj} on
+     */
+    private static int scanOrder(TileObject obj) {
+        if (obj instanceof GameObject) {
+            Point min = ((GameObject) obj).getSceneMinLocation();
+            return min.getX() * Constants.SCENE_SIZE + min.getY();
+        }
+        LocalPoint location = obj.getLocalLocation();
+        return location.getSceneX() * Constants.SCENE_SIZE + location.getSceneY();
+    }
+
+    private static boolean accept(TileObject obj, Tile tile, int x, int y, int ax, int ay,
+                                  LocalPoint anchor, int distance) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj instanceof GameObject) {
+            // large objects are present on every tile they cover, only visit them on the one closest to the anchor
+            GameObject gameObject = (GameObject) obj;
+            Point min = gameObject.getSceneMinLocation();
+            Point max = gameObject.getSceneMaxLocation();
+            if (x != clamp(ax, min.getX(), max.getX()) || y != clamp(ay, min.getY(), max.getY())) {
+                return false;
+            }
+        } else if (!obj.getLocalLocation().equals(tile.getLocalLocation())) {
+            return false;
+        }
+        return Rs2GameObject.isWithinTiles(anchor, obj.getLocalLocation(), distance);
+    }
+
+    private static int clamp(int v, int min, int max) {
+        return v < min ? min : Math.min(v, max);
+    }
+}
@@ -49,6 +49,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -64,14 +65,12 @@ public class Rs2GrandExchange
 	private static final int GE_FRAME = InterfaceID.GeOffers.FRAME;
 	private static final String GE_TRACKER_API_URL = "https://www.ge-tracker.com/api/items/";
 	
-	// Wiki API for real-time prices (Alternative source)
-	private static final String WIKI_API_URL = "https://prices.runescape.wiki/api/v1/osrs/latest?id=";
+	// Wiki API for time series, latest prices and mapping data come from the WikiPriceService snapshots
 	private static final String WIKI_TIMESERIES_URL = "https://prices.runescape.wiki/api/v1/osrs/timeseries";
-	private static final String WIKI_MAPPING_URL = "https://prices.runescape.wiki/api/v1/osrs/mapping";
-	
-	// Caches for different data types
-	private static final Map<Integer, WikiPrice> priceCache = new HashMap<>();
-	private static final Map<Integer, ItemMappingData> mappingCache = new HashMap<>();
+	private static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
+
+	// GE Tracker prices, only used for items without a wiki price
+	private static final Map<Integer, WikiPrice> priceCache = new ConcurrentHashMap<>();
 	private static final long PRICE_CACHE_DURATION = 60000; // 1 minutes
 	
 	/**
@@ -1157,14 +1156,19 @@ public class Rs2GrandExchange
 
 	public static int getOfferPrice(int itemId)
 	{
-		HttpClient httpClient = HttpClient.newHttpClient();
+		int wikiPrice = WikiPriceService.getInstance().getHighPrice(itemId);
+		if (wikiPrice > 0)
+		{
+			return wikiPrice;
+		}
+
 		HttpRequest request = HttpRequest.newBuilder()
 			.uri(URI.create(GE_TRACKER_API_URL + itemId))
 			.build();
 
 		try
 		{
-			String jsonResponse = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+			String jsonResponse = HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofString())
 				.thenApply(HttpResponse::body)
 				.join();
 
@@ -1189,19 +1193,17 @@ public class Rs2GrandExchange
 	 * @return CachedPrice object with buy/sell prices and volume, or null if unavailable
 	 */
 	public static WikiPrice getRealTimePrices(int itemId) {
-		// Check cache first
+		// Try the Wiki snapshot first (more reliable and current)
+		WikiPrice wikiPrice = WikiPriceService.getInstance().getPrice(itemId);
+		if (wikiPrice != null) {
+			return wikiPrice;
+		}
+
 		WikiPrice cached = priceCache.get(itemId);
 		if (cached != null && !cached.isExpired(PRICE_CACHE_DURATION)) {
 			return cached;
 		}
 		
-		// Try Wiki API first (more reliable and current)
-		WikiPrice wikiPrice = getWikiPrices(itemId);
-		if (wikiPrice != null) {
-			priceCache.put(itemId, wikiPrice);
-			return wikiPrice;
-		}
-		
 		// Fallback to GE Tracker
 		try {
 			int buyPrice = getPrice(itemId);
@@ -1220,50 +1222,6 @@ public class Rs2GrandExchange
 		return null;
 	}
 	
-	/**
-	 * Gets price data from OSRS Wiki API (real-time market data).
-	 * 
-	 * @param itemId The item ID
-	 * @return CachedPrice with current market prices or null if failed
-	 */
-	private static WikiPrice getWikiPrices(int itemId) {
-		try {
-			HttpClient httpClient = HttpClient.newHttpClient();
-			HttpRequest request = HttpRequest.newBuilder()
-				.uri(URI.create(WIKI_API_URL + itemId))
-				.header("User-Agent", "OSRS - Price Fetcher")
-				.build();
-
-			String jsonResponse = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-				.thenApply(HttpResponse::body)
-				.join();
-
-			JsonParser parser = new JsonParser();
-			JsonObject jsonElement = parser.parse(new StringReader(jsonResponse)).getAsJsonObject();
-			JsonObject data = jsonElement.getAsJsonObject("data");
-			
-			if (data != null && data.has(String.valueOf(itemId))) {
-				JsonObject itemData = data.getAsJsonObject(String.valueOf(itemId));
-				
-				int buyPrice = itemData.has("high") ? itemData.get("high").getAsInt() : -1;
-				int sellPrice = itemData.has("low") ? itemData.get("low").getAsInt() : -1;
-				int volume = itemData.has("highVolume") ? itemData.get("highVolume").getAsInt() : 0;
-				
-				if (buyPrice > 0 && sellPrice > 0) {
-					return new WikiPrice(buyPrice, sellPrice, volume);
-				}
-			}else{
-				log.warn("No price data found for item ID: " + itemId);
-			}
-
-		} catch (Exception e) {
-			log.error("Failed to fetch prices from OSRS Wiki API for item ID: " + itemId, e);
-			// Wiki API failed, will fall back to GE Tracker
-		}
-		
-		return null;
-	}
-	
 	/**
 	 * Calculates an intelligent buy price based on market conditions and retry attempts.
 	 * Increases price aggressively on retries to ensure successful purchases.
@@ -1362,14 +1320,13 @@ public class Rs2GrandExchange
 				urlBuilder.append("&timestamp=").append(fromTimestamp);
 			}
 			
-			HttpClient httpClient = HttpClient.newHttpClient();
 			String finalUrl = urlBuilder.toString();
 			HttpRequest request = HttpRequest.newBuilder()
 					.uri(URI.create(finalUrl))
 					.header("User-Agent", "Time Series Price Analysis")
 					.build();
 			
-			HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+			HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
 			
 			if (response.statusCode() == 200) {
 				JsonParser parser = new JsonParser();
@@ -1470,96 +1427,18 @@ public class Rs2GrandExchange
 	 * @return ItemMappingData with trade limits and metadata, or null if unavailable
 	 */
 	public static ItemMappingData getItemMappingData(int itemId) {
-		// Check cache first
-		ItemMappingData cached = mappingCache.get(itemId);
-		if (cached != null && !isMappingExpired(cached)) {
-			return cached;
-		}
-		
-		// Fetch from Wiki API
-		ItemMappingData mappingData = fetchItemMappingData(itemId);
-		if (mappingData != null) {
-			mappingCache.put(itemId, mappingData);
-		}
-		
-		return mappingData;
-	}
-	
-	/**
-	 * Fetches item mapping data from OSRS Wiki API.
-	 * 
-	 * @param itemId The item ID
-	 * @return ItemMappingData or null if failed
-	 */
-	private static ItemMappingData fetchItemMappingData(int itemId) {
-		try {
-			HttpClient httpClient = HttpClient.newHttpClient();
-			HttpRequest request = HttpRequest.newBuilder()
-				.uri(URI.create(WIKI_MAPPING_URL))
-				.header("User-Agent", "OSRS Item Mapping Fetcher")
-				.build();
-
-			HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-			if (response.statusCode() == 200) {
-				JsonParser parser = new JsonParser();
-				JsonArray mappingArray = parser.parse(response.body()).getAsJsonArray();
-				
-				// Find the item in the mapping array
-				for (int i = 0; i < mappingArray.size(); i++) {
-					JsonObject item = mappingArray.get(i).getAsJsonObject();
-					
-					if (item.has("id") && item.get("id").getAsInt() == itemId) {
-						// Extract data with null checks
-						String name = item.has("name") && !item.get("name").isJsonNull() ? 
-							item.get("name").getAsString() : "";
-						String examine = item.has("examine") && !item.get("examine").isJsonNull() ? 
-							item.get("examine").getAsString() : "";
-						boolean members = item.has("members") && item.get("members").getAsBoolean();
-						int limit = item.has("limit") && !item.get("limit").isJsonNull() ? 
-							item.get("limit").getAsInt() : -1;
-						int value = item.has("value") && !item.get("value").isJsonNull() ? 
-							item.get("value").getAsInt() : 0;
-						int lowalch = item.has("lowalch") && !item.get("lowalch").isJsonNull() ? 
-							item.get("lowalch").getAsInt() : 0;
-						int highalch = item.has("highalch") && !item.get("highalch").isJsonNull() ? 
-							item.get("highalch").getAsInt() : 0;
-						String icon = item.has("icon") && !item.get("icon").isJsonNull() ? 
-							item.get("icon").getAsString() : "";
-						
-						return new ItemMappingData(itemId, name, examine, members, limit, value, lowalch, highalch, icon);
-					}
-				}
-			} else {
-				log.warn("Failed to fetch item mapping data: HTTP {} for URL: {}", 
-						response.statusCode(), WIKI_MAPPING_URL);
-			}
-		} catch (Exception e) {
-			log.error("Failed to fetch item mapping data for item {}: {}", itemId, e.getMessage(), e);
-		}
-		
-		return null;
-	}
-	
-	/**
-	 * Checks if mapping data is expired (items mapping rarely changes).
-	 */
-	private static boolean isMappingExpired(ItemMappingData mappingData) {
-		// For simplicity, assume mapping data never expires during a session
-		// In a real implementation, you might want to add a timestamp to ItemMappingData
-		return false;
+		return WikiPriceService.getInstance().getMapping(itemId);
 	}
 	
 	public static int getSellPrice(int itemId)
 	{
-		HttpClient httpClient = HttpClient.newHttpClient();
 		HttpRequest request = HttpRequest.newBuilder()
 			.uri(URI.create(GE_TRACKER_API_URL + itemId))
 			.build();
 
 		try
 		{
-			String jsonResponse = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+			String jsonResponse = HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofString())
 				.thenApply(HttpResponse::body)
 				.join();
 
@@ -1578,14 +1457,13 @@ public class Rs2GrandExchange
 
 	public static int getPrice(int itemId)
 	{
-		HttpClient httpClient = HttpClient.newHttpClient();
 		HttpRequest request = HttpRequest.newBuilder()
 			.uri(URI.create(GE_TRACKER_API_URL + itemId))
 			.build();
 
 		try
 		{
-			String jsonResponse = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+			String jsonResponse = HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofString())
 				.thenApply(HttpResponse::body)
 				.join();
 
@@ -1613,14 +1491,13 @@ public class Rs2GrandExchange
 
 	public static int getBuyingVolume(int itemId)
 	{
-		HttpClient httpClient = HttpClient.newHttpClient();
 		HttpRequest request = HttpRequest.newBuilder()
 			.uri(URI.create(GE_TRACKER_API_URL + itemId))
 			.build();
 
 		try
 		{
-			String jsonResponse = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+			String jsonResponse = HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofString())
 				.thenApply(HttpResponse::body)
 				.join();
 
@@ -1639,14 +1516,13 @@ public class Rs2GrandExchange
 
 	public static int getSellingVolume(int itemId)
 	{
-		HttpClient httpClient = HttpClient.newHttpClient();
 		HttpRequest request = HttpRequest.newBuilder()
 			.uri(URI.create(GE_TRACKER_API_URL + itemId))
 			.build();
 
 		try
 		{
-			String jsonResponse = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+			String jsonResponse = HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofString())
 				.thenApply(HttpResponse::body)
 				.join();
 
@@ -0,0 +1,434 @@
+package net.runelite.client.plugins.microbot.util.grandexchange;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.plugins.microbot.util.grandexchange.models.ItemMappingData;
+import net.runelite.client.plugins.microbot.util.grandexchange.models.WikiPrice;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps bulk snapshots of the OSRS Wiki {@code /latest} prices and {@code /mapping} item data in memory.
+ * <p>
+ * Both endpoints return every item in one response, so a single request every minute replaces the per-item requests
+ * scripts used to make. Snapshots are immutable tables indexed by item id and are swapped in atomically, so lookups
+ * are lock-free and never wait for the network once the first snapshot has arrived. Refreshes are conditional on the
+ * ETag and Last-Modified of the previous response and run on one shared client and daemon thread.
+ * <p>
+ * The default instance uses the {@code microbot.prices.url} system property as base url if set, for example to point
+ * it at a local stub server.
+ */
+@Slf4j
+public final class WikiPriceService {
+    static final String BASE_URL_PROPERTY = "microbot.prices.url";
+    static final String DEFAULT_BASE_URL = "https://prices.runescape.wiki/api/v1/osrs";
+    private static final String USER_AGENT = "Microbot - Price Service";
+    private static final long LATEST_TTL_MILLIS = 60_000;
+    private static final long MAPPING_TTL_MILLIS = TimeUnit.HOURS.toMillis(6);
+    /** How long a lookup waits for the first snapshot before giving up */
+    private static final long COLD_START_TIMEOUT_MILLIS = 10_000;
+    /** How long lookups return nothing instead of waiting again after the first snapshot could not be fetched */
+    private static final long RETRY_DELAY_MILLIS = 30_000;
+
+    private static final WikiPriceService INSTANCE =
+            new WikiPriceService(baseUrl(System.getProperties()));
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final Snapshot<PriceTable> latest = new Snapshot<>("/latest", LATEST_TTL_MILLIS, WikiPriceService::parseLatest);
+    private final Snapshot<ItemMappingData[]> mapping = new Snapshot<>("/mapping", MAPPING_TTL_MILLIS, WikiPriceService::parseMapping);
+
+    /**
+     * @param baseUrl the url the endpoint paths are appended to, without a trailing slash
+     */
+    public WikiPriceService(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "wiki-price-service");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Requests are sent blocking from the executor thread, so the client keeps its own executor
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public static WikiPriceService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return the base url set by the {@value #BASE_URL_PROPERTY} property, or the wiki's
+     */
+    static String baseUrl(Properties properties) {
+        return properties.getProperty(BASE_URL_PROPERTY, DEFAULT_BASE_URL);
+    }
+
+    /**
+     * @return the latest instant buy and sell prices of the item, or null if the item has not been traded recently or
+     * no snapshot could be fetched. The {@code /latest} endpoint has no volumes, so the volume is always 0.
+     */
+    public WikiPrice getPrice(int itemId) {
+        PriceTable table = latest.get();
+        if (table == null || itemId < 0 || itemId >= table.high.length) {
+            return null;
+        }
+        int high = table.high[itemId];
+        int low = table.low[itemId];
+        return high > 0 && low > 0 ? new WikiPrice(high, low, 0) : null;
+    }
+
+    /**
+     * @return the latest instant buy price of the item, or -1 if unavailable
+     */
+    public int getHighPrice(int itemId) {
+        PriceTable table = latest.get();
+        if (table == null || itemId < 0 || itemId >= table.high.length || table.high[itemId] <= 0) {
+            return -1;
+        }
+        return table.high[itemId];
+    }
+
+    /**
+     * @return the item mapping data including the trade limit, or null if unknown or no snapshot could be fetched
+     */
+    public ItemMappingData getMapping(int itemId) {
+        ItemMappingData[] table = mapping.get();
+        if (table == null || itemId < 0 || itemId >= table.length) {
+            return null;
+        }
+        return table[itemId];
+    }
+
+    /**
+     * Stops the periodic refresh. Lookups keep returning the last snapshots.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Refreshes the latest prices now instead of when they go stale.
+     */
+    CompletableFuture<?> refreshLatest() {
+        return latest.refreshAsync();
+    }
+
+    /**
+     * Keeps the latest prices fresh in the background after the first lookup, so lookups do not find them stale.
+     */
+    private void startPeriodicRefresh() {
+        if (started.compareAndSet(false, true)) {
+            executor.scheduleWithFixedDelay(latest::refresh, LATEST_TTL_MILLIS, LATEST_TTL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Item id indexed prices, 0 where there is no price */
+    private static final class PriceTable {
+        private final int[] high;
+        private final int[] low;
+
+        private PriceTable(int[] high, int[] low) {
+            this.high = high;
+            this.low = low;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Parser<T> {
+        T parse(Reader reader) throws IOException;
+    }
+
+    /**
+     * One endpoint and its current value. Refreshes are coalesced, concurrent lookups of a missing or stale value
+     * share one request.
+     */
+    private final class Snapshot<T> {
+        private final String path;
+        private final long ttlMillis;
+        private final Parser<T> parser;
+
+        private volatile T value;
+        private volatile long fetchedAt;
+        private volatile long failedAt;
+        /** Only accessed by the refreshing thread */
+        private String etag;
+        private String lastModified;
+        private final AtomicReference<CompletableFuture<T>> inFlight = new AtomicReference<>();
+
+        private Snapshot(String path, long ttlMillis, Parser<T> parser) {
+            this.path = path;
+            this.ttlMillis = ttlMillis;
+            this.parser = parser;
+        }
+
+        /**
+         * @return the current value, waiting for the first one if there is none yet
+         */
+        T get() {
+            startPeriodicRefresh();
+            T current = value;
+            if (current != null && System.currentTimeMillis() - fetchedAt <= ttlMillis) {
+                return current;
+            }
+
+            if (current == null && System.currentTimeMillis() - failedAt < RETRY_DELAY_MILLIS) {
+                return null;
+            }
+            CompletableFuture<T> refresh = refreshAsync();
+            if (current != null) {
+                return current;
+            }
+            try {
+                return refresh.get(COLD_START_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                log.warn("Timed out waiting for {}{}", baseUrl, path);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.debug("Failed waiting for {}{}", baseUrl, path, e);
+            }
+            return value;
+        }
+
+        CompletableFuture<T> refreshAsync() {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            CompletableFuture<T> existing = inFlight.compareAndExchange(null, future);
+            if (existing != null) {
+                return existing;
+            }
+            try {
+                executor.execute(() -> {
+                    T fetched = null;
+                    Throwable failure = null;
+                    try {
+                        fetched = fetch();
+                    } catch (Throwable t) {
+                        failure = t;
+                    }
+                    if (fetched == null) {
+                        failedAt = System.currentTimeMillis();
+                    }
+                    // cleared first, so a refresh requested once this one completes is not coalesced into it
+                    inFlight.set(null);
+                    if (failure != null) {
+                        future.completeExceptionally(failure);
+                    } else {
+                        future.complete(fetched);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // shut down
+                inFlight.set(null);
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        /** Refreshes on the calling thread, used by the periodic refresh which already runs on the executor */
+        void refresh() {
+            if (inFlight.get() == null) {
+                try {
+                    fetch();
+                } catch (Exception e) {
+                    log.debug("Failed to refresh {}{}", baseUrl, path, e);
+                }
+            }
+        }
+
+        private T fetch() throws IOException, InterruptedException {
+            HttpRequest.Builder builder = HttpRequest.newBuilder()
+                    .uri(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("User-Agent", USER_AGENT);
+            if (value != null) {
+                if (etag != null) {
+                    builder.header("If-None-Match", etag);
+                }
+                if (lastModified != null) {
+                    builder.header("If-Modified-Since", lastModified);
+                }
+            }
+
+            HttpResponse<InputStream> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() == 304) {
+                    fetchedAt = System.currentTimeMillis();
+                    return value;
+                }
+                if (response.statusCode() != 200) {
+                    log.warn("Failed to fetch {}{}: HTTP {}", baseUrl, path, response.statusCode());
+                    return value;
+                }
+
+                T parsed = parser.parse(new InputStreamReader(body, StandardCharsets.UTF_8));
+                etag = response.headers().firstValue("ETag").orElse(null);
+                lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+                value = parsed;
+                fetchedAt = System.currentTimeMillis();
+                return parsed;
+            }
+        }
+    }
+
+    /**
+     * Parses {@code {"data":{"<id>":{"high":..,"highTime":..,"low":..,"lowTime":..},..}}}, prices can be null.
+     */
+    private static PriceTable parseLatest(Reader in) throws IOException {
+        int[] high = new int[32768];
+        int[] low = new int[32768];
+        int maxId = -1;
+
+        try (JsonReader reader = new JsonReader(in)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!"data".equals(reader.nextName())) {
+                    reader.skipValue();
+                    continue;
+                }
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    int id = Integer.parseInt(reader.nextName());
+                    if (id >= high.length) {
+                        int length = Math.max(id + 1, high.length * 2);
+                        high = Arrays.copyOf(high, length);
+                        low = Arrays.copyOf(low, length);
+                    }
+                    maxId = Math.max(maxId, id);
+
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        String name = reader.nextName();
+                        if ("high".equals(name)) {
+                            high[id] = nextInt(reader, 0);
+                        } else if ("low".equals(name)) {
+                            low[id] = nextInt(reader, 0);
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                }
+                reader.endObject();
+            }
+            reader.endObject();
+        }
+
+        return new PriceTable(Arrays.copyOf(high, maxId + 1), Arrays.copyOf(low, maxId + 1));
+    }
+
+    /**
+     * Parses the array of {@code {"id":..,"name":..,"examine":..,"members":..,"limit":..,"value":..,"lowalch":..,
+     * "highalch":..,"icon":..}} objects, any field but the id can be missing or null.
+     */
+    private static ItemMappingData[] parseMapping(Reader in) throws IOException {
+        ItemMappingData[] table = new ItemMappingData[32768];
+        int maxId = -1;
+
+        try (JsonReader reader = new JsonReader(in)) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                int id = -1;
+                String name = "";
+                String examine = "";
+                boolean members = false;
+                int limit = -1;
+                int value = 0;
+                int lowAlch = 0;
+                int highAlch = 0;
+                String icon = "";
+
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case "id":
+                            id = nextInt(reader, -1);
+                            break;
+                        case "name":
+                            name = nextString(reader);
+                            break;
+                        case "examine":
+                            examine = nextString(reader);
+                            break;
+                        case "members":
+                            if (reader.peek() == JsonToken.BOOLEAN) {
+                                members = reader.nextBoolean();
+                            } else {
+                                reader.skipValue();
+                            }
+                            break;
+                        case "limit":
+                            limit = nextInt(reader, -1);
+                            break;
+                        case "value":
+                            value = nextInt(reader, 0);
+                            break;
+                        case "lowalch":
+                            lowAlch = nextInt(reader, 0);
+                            break;
+                        case "highalch":
+                            highAlch = nextInt(reader, 0);
+                            break;
+                        case "icon":
+                            icon = nextString(reader);
+                            break;
+                        default:
+                            reader.skipValue();
+                    }
+                }
+                reader.endObject();
+
+                if (id < 0) {
+                    continue;
+                }
+                if (id >= table.length) {
+                    table = Arrays.copyOf(table, Math.max(id + 1, table.length * 2));
+                }
+                maxId = Math.max(maxId, id);
+                table[id] = new ItemMappingData(id, name, examine, members, limit, value, lowAlch, highAlch, icon);
+            }
+            reader.endArray();
+        }
+
+        return Arrays.copyOf(table, maxId + 1);
+    }
+
+    private static int nextInt(JsonReader reader, int defaultValue) throws IOException {
+        if (reader.peek() == JsonToken.NUMBER) {
+            return (int) Math.min(Integer.MAX_VALUE, reader.nextLong());
+        }
+        reader.skipValue();
+        return defaultValue;
+    }
+
+    private static String nextString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.STRING) {
+            return reader.nextString();
+        }
+        reader.skipValue();
+        return "";
+    }
+}
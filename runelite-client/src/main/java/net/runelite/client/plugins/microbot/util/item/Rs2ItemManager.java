@@ -26,12 +26,16 @@ public class Rs2ItemManager {
         if (query == null || query.trim().isEmpty()) {
             return Collections.emptyList();
         }
-        String lowerQuery = query.toLowerCase();
-        return Microbot.getClientThread().runOnClientThreadOptional(() -> Microbot.getItemManager().search(query)).orElse(Collections.emptyList());
+        // the search index is immutable, no need to hop onto the client thread
+        return Microbot.getItemManager().search(query);
     }
 
-    // get item id by name
+    // get item id by name, preferring an exact name match over the first partial match
     public int getItemId(String itemName) {
+        ItemPrice exact = Microbot.getItemManager().findItem(itemName);
+        if (exact != null) {
+            return exact.getId();
+        }
         var items =searchItem(itemName);
         return items.get(0).getId();
     }
@@ -29,6 +29,48 @@ import static net.runelite.api.Perspective.LOCAL_TILE_SIZE;
 
 @Slf4j
 public class Rs2Npc {
+    /**
+     * Models handed out by {@link #getModel(NPC)}, indexed by NPC index.
+     */
+    private static volatile Rs2NpcModel[] models = new Rs2NpcModel[2048];
+
+    /**
+     * Creates a new lazy NPC query, see {@link Rs2NpcQuery}.
+     *
+     * @return A new {@link Rs2NpcQuery} matching every NPC in the top level world view.
+     */
+    public static Rs2NpcQuery query() {
+        return new Rs2NpcQuery();
+    }
+
+    /**
+     * Returns the {@link Rs2NpcModel} for the given NPC, reusing the previous model for the same NPC index
+     * as long as it still wraps the same NPC instance.
+     *
+     * @param npc The NPC to wrap.
+     * @return The {@link Rs2NpcModel} wrapping {@code npc}.
+     */
+    public static Rs2NpcModel getModel(NPC npc) {
+        if (npc instanceof Rs2NpcModel) {
+            return (Rs2NpcModel) npc;
+        }
+        int index = npc.getIndex();
+        if (index < 0 || index > 0xFFFF) {
+            return new Rs2NpcModel(npc);
+        }
+        Rs2NpcModel[] cache = models;
+        if (index >= cache.length) {
+            cache = Arrays.copyOf(cache, Integer.highestOneBit(index) << 1);
+            models = cache;
+        }
+        Rs2NpcModel model = cache[index];
+        if (model == null || model.getRuneliteNpc() != npc) {
+            model = new Rs2NpcModel(npc);
+            cache[index] = model;
+        }
+        return model;
+    }
+
     /**
      * Retrieves an NPC by its index, returning an {@link Rs2NpcModel}.
      *
@@ -39,9 +81,10 @@ public class Rs2Npc {
      * @return The {@link Rs2NpcModel} with the specified index, or {@code null} if not found.
      */
     public static Rs2NpcModel getNpcByIndex(int index) {
-        return getNpcs(npc -> npc.getIndex() == index).
-                findFirst()
-                .orElse(null);
+        return Microbot.getClientThread().runOnClientThreadOptional(() -> {
+            NPC npc = Microbot.getClient().getTopLevelWorldView().npcs().byIndex(index);
+            return npc != null && npc.getName() != null && npc.getLocalLocation() != null ? getModel(npc) : null;
+        }).orElse(null);
     }
 
     /**
@@ -212,90 +255,20 @@ public class Rs2Npc {
      * selection of NPCs based on various attributes such as name, interaction status, health, etc.</p>
      *
      * @param predicate A {@link Predicate} that defines the filtering condition for NPCs.
+     *                  It is evaluated lazily, nearest NPC first, as the stream is consumed.
      * @return A sorted {@link Stream} of {@link Rs2NpcModel} objects that match the given predicate.
      */
     public static Stream<Rs2NpcModel> getNpcs(Predicate<Rs2NpcModel> predicate) {
-        try {
-            // Defensive null checks for client and world view
-            if (Microbot.getClient() == null) {
-                log.warn("Client is null, returning empty NPC stream");
-                return Stream.empty();
-            }
-            
-            if (Microbot.getClient().getTopLevelWorldView() == null) {
-                log.warn("TopLevelWorldView is null, returning empty NPC stream");
-                return Stream.empty();
-            }
-            
-            if (Microbot.getClient().getTopLevelWorldView().npcs() == null) {
-                log.warn("NPCs collection is null, returning empty NPC stream");
-                return Stream.empty();
-            }
-            
-            if (Microbot.getClient().getLocalPlayer() == null) {
-                log.warn("Local player is null, returning empty NPC stream");
-                return Stream.empty();
-            }
-            
-            if (Microbot.getClient().getLocalPlayer().getLocalLocation() == null) {
-                log.warn("Local player location is null, returning empty NPC stream");
-                return Stream.empty();
-            }
-            
-            // Make local copies to avoid null issues during stream processing
-            final Stream<? extends NPC> npcStream = Microbot.getClient().getTopLevelWorldView().npcs().stream();
-            final LocalPoint playerLocation = Microbot.getClient().getLocalPlayer().getLocalLocation();
-            
-            // Safe predicate wrapper to prevent null issues
-            Predicate<Rs2NpcModel> safePredicate = predicate != null ? predicate : (npc -> true);            
-            List<Rs2NpcModel> npcList = npcStream
-                    .filter(Objects::nonNull) // Filter out null NPCs                  
-                    .map(npc -> {
-                        try {
-                            return new Rs2NpcModel(npc);
-                        } catch (Exception e) {
-                            log.debug("Error creating Rs2NpcModel: {}", e.getMessage());
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull) // Filter out failed model creations
-                    .filter(npcModel -> {
-                        try {
-                            // Additional safety checks for Rs2NpcModel
-                            return npcModel.getName() != null && 
-                                   npcModel.getLocalLocation() != null;
-                        } catch (Exception e) {
-                            log.debug("Error accessing Rs2NpcModel properties: {}", e.getMessage());
-                            return false;
-                        }
-                    })
-                    .filter(npcModel -> {
-                        try {
-                            return safePredicate.test(npcModel);
-                        } catch (Exception e) {
-                            log.debug("Error in predicate test: {}", e.getMessage());
-                            return false;
-                        }
-                    })
-                    .sorted(Comparator.comparingInt(value -> {
-                        try {
-                            if (value != null && value.getLocalLocation() != null && playerLocation != null) {
-                                return value.getLocalLocation().distanceTo(playerLocation);
-                            }
-                            return Integer.MAX_VALUE; // Put problematic NPCs at the end
-                        } catch (Exception e) {
-                            log.debug("Error calculating distance: {}", e.getMessage());
-                            return Integer.MAX_VALUE;
-                        }
-                    }))
-                    .collect(Collectors.toList());
-            
-            return npcList.stream();
-            
-        } catch (Exception e) {
-            log.debug("Unexpected error in getNpcs: {}", e.getMessage(), e);
+        if (Microbot.getClient() == null) {
+            log.warn("Client is null, returning empty NPC stream");
             return Stream.empty();
         }
+
+        Rs2NpcQuery query = query();
+        if (predicate != null) {
+            query.filter(predicate);
+        }
+        return query.stream();
     }
 
     /**
@@ -307,7 +280,7 @@ public class Rs2Npc {
      * @return A sorted {@link Stream} of all {@link Rs2NpcModel} objects in the game world.
      */
     public static Stream<Rs2NpcModel> getNpcs() {
-        return getNpcs(npc -> true);
+        return getNpcs(null);
     }
 
     /**
@@ -328,11 +301,7 @@ public class Rs2Npc {
      */
     public static Stream<Rs2NpcModel> getNpcs(String name, boolean exact) {
         if (name == null || name.isEmpty()) return Stream.empty();
-        return getNpcs(npc -> {
-            String npcName = npc.getName();
-            if (npcName == null || npcName.isEmpty()) return false;
-            return exact ? npcName.equalsIgnoreCase(name) : npcName.toLowerCase().contains(name.toLowerCase());
-        });
+        return query().withName(exact, name).stream();
     }
 
     /**
@@ -354,7 +323,7 @@ public class Rs2Npc {
      * @return A {@link Stream} of {@link Rs2NpcModel} objects that match the given NPC ID.
      */
     public static Stream<Rs2NpcModel> getNpcs(int id) {
-        return getNpcs().filter(x -> x.getId() == id);
+        return query().withId(id).stream();
     }
 
     /**
@@ -372,11 +341,10 @@ public class Rs2Npc {
      * @return A sorted {@link Stream} of {@link Rs2NpcModel} objects that the player can attack.
      */
     public static Stream<Rs2NpcModel> getAttackableNpcs() {
-        return getNpcs(npc -> npc.getCombatLevel() > 0 && !npc.isDead())
-                .filter(npc -> Rs2Player.isInMulti() || !npc.isInteracting())
-                .sorted(Comparator.comparingInt(value ->
-                        value.getLocalLocation().distanceTo(
-                                Microbot.getClient().getLocalPlayer().getLocalLocation())));
+        final boolean inMulti = Rs2Player.isInMulti();
+        return query().attackable()
+                .where(npc -> inMulti || !npc.isInteracting())
+                .stream();
     }
 
     /**
@@ -399,13 +367,12 @@ public class Rs2Npc {
     public static Stream<Rs2NpcModel> getAttackableNpcs(boolean reachable) {
         Rs2WorldPoint playerLocation = new Rs2WorldPoint(Microbot.getClient().getLocalPlayer().getWorldLocation());
 
-        return getNpcs(npc -> npc.getCombatLevel() > 0
-                && !npc.isDead()
-                && (!reachable || playerLocation.distanceToPath(npc.getWorldLocation()) < Integer.MAX_VALUE)
-                && (!npc.isInteracting() || Objects.equals(npc.getInteracting(), Microbot.getClient().getLocalPlayer())))
-                .sorted(Comparator.comparingInt(value ->
-                        value.getLocalLocation().distanceTo(
-                                Microbot.getClient().getLocalPlayer().getLocalLocation())));
+        Rs2NpcQuery query = query().attackable()
+                .where(npc -> !npc.isInteracting() || Objects.equals(npc.getInteracting(), Microbot.getClient().getLocalPlayer()));
+        if (reachable) {
+            query.filter(npc -> playerLocation.distanceToPath(npc.getWorldLocation()) < Integer.MAX_VALUE);
+        }
+        return query.stream();
     }
 
     /**
@@ -424,11 +391,11 @@ public class Rs2Npc {
      */
     public static Stream<Rs2NpcModel> getAttackableNpcs(String name, boolean exact) {
         if (name == null || name.isEmpty()) return Stream.empty();
-        return getAttackableNpcs().filter(x -> {
-            String npcName = x.getName();
-            if (npcName == null || npcName.isEmpty()) return false;
-            return exact ? npcName.equalsIgnoreCase(name) : npcName.toLowerCase().contains(name.toLowerCase());
-        });
+        final boolean inMulti = Rs2Player.isInMulti();
+        return query().attackable()
+                .withName(exact, name)
+                .where(npc -> inMulti || !npc.isInteracting())
+                .stream();
     }
 
     public static Stream<Rs2NpcModel> getAttackableNpcs(String name) {
@@ -482,9 +449,8 @@ public class Rs2Npc {
      * @return The first {@link Rs2NpcModel} that matches the given criteria, or {@code null} if no match is found.
      */
     public static Rs2NpcModel getNpc(String name, boolean exact) {
-        return getNpcs(name, exact)
-                .findFirst()
-                .orElse(null);
+        if (name == null || name.isEmpty()) return null;
+        return query().withName(exact, name).nearest();
     }
 
     /**
@@ -496,9 +462,7 @@ public class Rs2Npc {
      * @return The first {@link Rs2NpcModel} that matches the given ID, or {@code null} if no match is found.
      */
     public static Rs2NpcModel getNpc(int id) {
-        return getNpcs(x -> x.getId() == id)
-                .findFirst()
-                .orElse(null);
+        return query().withId(id).nearest();
     }
 
     /**
@@ -517,8 +481,9 @@ public class Rs2Npc {
      * @return An {@link Optional} containing the closest matching {@link Rs2NpcModel}, or empty if no match is found.
      */
     public static Optional<Rs2NpcModel> getNpc(int id, List<Integer> excludedIndexes) {
-        return getNpcs(x -> x.getId() == id && !excludedIndexes.contains(x.getIndex()))
-                .min(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())));
+        return Optional.ofNullable(query().withId(id)
+                .where(x -> !excludedIndexes.contains(x.getIndex()))
+                .nearest());
     }
 
     /**
@@ -1254,15 +1219,7 @@ public class Rs2Npc {
      * @return The first {@link NPC} that has the specified action, or {@code null} if none are found.
      */
     public static Rs2NpcModel getNpcWithAction(String action) {
-        return getNpcs()
-                .filter(value -> (value.getComposition() != null
-                        && value.getComposition().getActions() != null
-                        && Arrays.asList(value.getComposition().getActions()).contains(action))
-                        || (value.getComposition().transform() != null
-                        && value.getComposition().transform().getActions() != null
-                        && Arrays.asList(value.getComposition().transform().getActions()).contains(action)))
-                .findFirst()
-                .orElse(null);
+        return query().withAction(action).nearest();
     }
 
     /**
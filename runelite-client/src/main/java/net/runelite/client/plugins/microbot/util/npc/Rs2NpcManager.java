@@ -1,8 +1,7 @@
 package net.runelite.client.plugins.microbot.util.npc;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.shortestpath.ShortestPathPlugin;
@@ -13,102 +12,110 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * This class is responsible for managing NPCs in the game.
  * It provides utility methods for loading NPC data from JSON files and retrieving NPC stats.
+ * <p>
+ * Each data file is streamed into its table the first time it is needed, so scripts that never look at NPC stats,
+ * attack styles or locations do not pay for parsing or holding them.
  */
 
 public class Rs2NpcManager {
     private static final Set<Integer> blacklistXpMultiplier = Set.of(8026, 8058, 8059, 8060, 8061, 7850, 7852, 7853, 7884, 7885, 7849, 7851, 7854, 7855, 7882, 7883, 7886, 7887, 7888, 7889, 494, 6640, 6656, 2042, 2043, 2044);
-    public static Map<Integer, String> attackStyleMap;
-    public static Map<Integer, String> attackAnimationMap;
-    private static Map<Integer, Rs2NpcStats> statsMap;
+    public static final Map<Integer, String> attackStyleMap = new IdTableMap(() -> AttackStyles.TABLE);
+    public static final Map<Integer, String> attackAnimationMap = new IdTableMap(() -> AttackAnimations.TABLE);
+
+    // Each holder class is initialized, and its file loaded, on first use. The loaders fall back to an empty table
+    // on errors, as an exception here would leave the holder unusable with a NoClassDefFoundError on every lookup
+    private static final class Stats {
+        static final Map<Integer, Rs2NpcStats> BY_ID = loadNpcStatsFromJsonFile("/npc/monsters_complete.json");
+    }
+
+    private static final class AttackStyles {
+        static final String[] TABLE = loadIdTable("/npc/npcs_attack_style.json");
+    }
+
+    private static final class AttackAnimations {
+        static final String[] TABLE = loadIdTable("/npc/npcs_attack_animation.json");
+    }
 
     // NEW: A map keyed by NPC name, with a list of location objects
-    private static Map<String, List<MonsterLocation>> locationMap;
+    private static final class Locations {
+        static final Map<String, List<MonsterLocation>> BY_NAME = loadNpcLocationsByName();
+    }
 
     /**
      * Loads NPC data from JSON files.
-     * This method should be called before using any other methods in this class.
+     * @deprecated The data is now loaded on first access, so calling this is no longer required.
      */
-    public static void loadJson() throws Exception {
-        if (statsMap != null) {
-            return;
-        }
-        Type statsTypeToken = new TypeToken<Map<Integer, Rs2NpcStats>>() {}.getType();
-
-        statsMap = loadNpcStatsFromJsonFile("/npc/monsters_complete.json");
-
-        Type attackStyleTypeToken = new TypeToken<Map<Integer, String>>() {}.getType();
-        attackStyleMap = loadJsonFile("/npc/npcs_attack_style.json", attackStyleTypeToken);
-
-        Type attackAnimationTypeToken = new TypeToken<Map<Integer, String>>() {}.getType();
-        attackAnimationMap = loadJsonFile("/npc/npcs_attack_animation.json", attackAnimationTypeToken);
-
-        loadNpcLocationsByName();
+    @Deprecated
+    public static void loadJson() {
     }
 
     /**
-     * Loads a JSON file and deserializes it into a map.
+     * Streams a JSON object of NPC id to string value into a table indexed by id.
+     * Values are deduplicated, as most of them are one of a few attack styles.
      * @param filename The name of the JSON file to load.
-     * @param typeToken The type token of the map.
-     * @param <T> The type of the values in the map.
-     * @return The deserialized map.
+     * @return The table, with null for NPCs without a value.
      */
-    private static <T> Map<Integer, T> loadJsonFile(String filename, Type typeToken) {
-        Gson gson = new Gson();
+    private static String[] loadIdTable(String filename) {
         try (InputStream inputStream = Rs2NpcStats.class.getResourceAsStream(filename)) {
             if (inputStream == null) {
                 Microbot.log(Level.ERROR,"Failed to load " + filename);
-                return Collections.emptyMap();
+                return new String[0];
             }
-            return gson.fromJson(new InputStreamReader(inputStream, StandardCharsets.UTF_8), typeToken);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
-    private static <T> T loadLocJsonFile(String filename, Type typeToken)
-    {
-        Gson gson = new Gson();
-        try (InputStream inputStream = Rs2NpcStats.class.getResourceAsStream(filename))
-        {
-            if (inputStream == null)
-            {
-                Microbot.log(Level.ERROR,"Failed to load {}", filename);
-                return null;
+
+            JsonReader reader = new JsonReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            Map<String, String> values = new HashMap<>();
+            String[] table = new String[1024];
+            int length = 0;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                int id = Integer.parseInt(reader.nextName());
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    continue;
+                }
+                String value = reader.nextString();
+                if (id >= table.length) {
+                    table = Arrays.copyOf(table, Math.max(id + 1, table.length * 2));
+                }
+                table[id] = values.computeIfAbsent(value, v -> v);
+                length = Math.max(length, id + 1);
             }
-            return gson.fromJson(new InputStreamReader(inputStream, StandardCharsets.UTF_8), typeToken);
-        }
-        catch (IOException e)
-        {
-            throw new RuntimeException(e);
+            reader.endObject();
+            return Arrays.copyOf(table, length);
+        } catch (IOException | RuntimeException e) {
+            Microbot.log("Error reading JSON file: " + filename, Level.ERROR, e);
+            return new String[0];
         }
     }
 
     private static Map<Integer, Rs2NpcStats> loadNpcStatsFromJsonFile(String filename) {
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(Rs2NpcStats.class, Rs2NpcStats.NPC_STATS_TYPE_ADAPTER)
-                .create();
-
         try (InputStream inputStream = Rs2NpcStats.class.getResourceAsStream(filename)) {
             if (inputStream == null) {
                 Microbot.log(Level.ERROR,"Failed to load " + filename);
                 return Collections.emptyMap();
             }
 
-            // Deserialize the JSON directly into a Map<Integer, Rs2NpcStats>
-            Type typeToken = new TypeToken<Map<Integer, Rs2NpcStats>>() {
-            }.getType();
-
-            return gson.fromJson(new InputStreamReader(inputStream, StandardCharsets.UTF_8), typeToken);
-
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading JSON file: " + filename, e);
+            // Stream the JSON object of id to stats directly into the map
+            JsonReader reader = new JsonReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            Map<Integer, Rs2NpcStats> stats = new HashMap<>();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                int id = Integer.parseInt(reader.nextName());
+                stats.put(id, Rs2NpcStats.NPC_STATS_TYPE_ADAPTER.read(reader));
+            }
+            reader.endObject();
+            return stats;
+        } catch (IOException | RuntimeException e) {
+            Microbot.log("Error reading JSON file: " + filename, Level.ERROR, e);
+            return Collections.emptyMap();
         }
     }
 
@@ -116,7 +123,7 @@ public class Rs2NpcManager {
      * Helper method to load location data from a JSON file
      * where the keys are NPC names, not IDs.
      */
-    private static void loadNpcLocationsByName()
+    private static Map<String, List<MonsterLocation>> loadNpcLocationsByName()
     {
         String filename = "/npc/npcs_locations.json"; // Adjust if needed
 
@@ -133,61 +140,186 @@ public class Rs2NpcManager {
         //   ...
         // }
         //
-        // So we parse into Map<String, List<MonsterLocationDTO>>
-        Type type = new TypeToken<Map<String, List<MonsterLocationDTO>>>() {}.getType();
-        Map<String, List<MonsterLocationDTO>> rawMap = loadLocJsonFile(filename, type);
-
-        if (rawMap == null)
+        // So we stream it into Map<String, List<MonsterLocation>>, without an intermediate DTO
+        try (InputStream inputStream = Rs2NpcStats.class.getResourceAsStream(filename))
         {
-            Microbot.log(Level.INFO,"No location data found in {}", filename);
-            locationMap = Collections.emptyMap();
-            return;
-        }
+            if (inputStream == null)
+            {
+                Microbot.log(Level.INFO,"No location data found in {}", filename);
+                return Collections.emptyMap();
+            }
 
-        // Convert from DTO to final MonsterLocation model
-        locationMap = new HashMap<>();
+            JsonReader reader = new JsonReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            Map<String, List<MonsterLocation>> locations = new HashMap<>();
+            reader.beginObject();
+            while (reader.hasNext())
+            {
+                String npcName = reader.nextName();
+                List<MonsterLocation> converted = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext())
+                {
+                    converted.add(readMonsterLocation(reader));
+                }
+                reader.endArray();
+                locations.put(npcName, converted);
+            }
+            reader.endObject();
 
-        for (Map.Entry<String, List<MonsterLocationDTO>> entry : rawMap.entrySet())
+            Microbot.log("Loaded {} NPC names with location data from {}", locations.size(), filename);
+            return locations;
+        }
+        catch (IOException | RuntimeException e)
         {
-            String npcName = entry.getKey();
-            List<MonsterLocationDTO> dtoList = entry.getValue();
-
-            List<MonsterLocation> converted = dtoList.stream()
-                    .map(Rs2NpcManager::dtoToMonsterLocation)
-                    .collect(Collectors.toList());
-
-            locationMap.put(npcName, converted);
+            Microbot.log("Error reading JSON file: " + filename, Level.ERROR, e);
+            return Collections.emptyMap();
         }
-
-        Microbot.log("Loaded {} NPC names with location data from {}", locationMap.size(), filename);
     }
 
     /**
-     * Converts a MonsterLocationDTO to our MonsterLocation model,
+     * Reads one location entry into our MonsterLocation model,
      * turning coords into WorldPoints.
      */
-    private static MonsterLocation dtoToMonsterLocation(MonsterLocationDTO dto)
+    private static MonsterLocation readMonsterLocation(JsonReader reader) throws IOException
     {
         MonsterLocation loc = new MonsterLocation();
-        loc.setLocationName(dto.getLocation_name());
-        loc.setMapID(dto.getMapID());
-
-        if (dto.getCoords() != null)
+        reader.beginObject();
+        while (reader.hasNext())
         {
-            for (List<Integer> cord : dto.getCoords())
+            String field = reader.nextName();
+            if (reader.peek() == JsonToken.NULL)
             {
-                if (cord.size() == 3)
-                {
-                    int x = cord.get(0);
-                    int y = cord.get(1);
-                    int plane = cord.get(2);
-                    loc.getCoords().add(new WorldPoint(x, y, plane));
-                }
+                reader.nextNull();
+                continue;
+            }
+
+            switch (field)
+            {
+                case "location_name":
+                    loc.setLocationName(reader.nextString());
+                    break;
+                case "mapID":
+                    loc.setMapID(reader.nextInt());
+                    break;
+                case "coords":
+                    reader.beginArray();
+                    while (reader.hasNext())
+                    {
+                        int[] cord = new int[3];
+                        int size = 0;
+                        reader.beginArray();
+                        while (reader.hasNext())
+                        {
+                            int value = reader.nextInt();
+                            if (size < cord.length)
+                            {
+                                cord[size] = value;
+                            }
+                            size++;
+                        }
+                        reader.endArray();
+                        if (size == 3)
+                        {
+                            loc.getCoords().add(new WorldPoint(cord[0], cord[1], cord[2]));
+                        }
+                    }
+                    reader.endArray();
+                    break;
+                default:
+                    reader.skipValue();
             }
         }
+        reader.endObject();
         return loc;
     }
 
+    /**
+     * Read-only map view of a table indexed by NPC id, which only loads the table on first use.
+     */
+    private static final class IdTableMap extends AbstractMap<Integer, String> {
+        private final Supplier<String[]> table;
+        private final Set<Entry<Integer, String>> entrySet = new EntrySet();
+        /** Number of ids with a value, or -1 until the table is counted */
+        private volatile int size = -1;
+
+        IdTableMap(Supplier<String[]> table) {
+            this.table = table;
+        }
+
+        @Override
+        public String get(Object key) {
+            if (!(key instanceof Integer)) {
+                return null;
+            }
+            int id = (Integer) key;
+            String[] values = table.get();
+            return id >= 0 && id < values.length ? values[id] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            int count = size;
+            if (count < 0) {
+                count = 0;
+                for (String value : table.get()) {
+                    if (value != null) {
+                        count++;
+                    }
+                }
+                size = count;
+            }
+            return count;
+        }
+
+        @Override
+        public Set<Entry<Integer, String>> entrySet() {
+            return entrySet;
+        }
+
+        /** Read-only view over the table, skipping NPCs without a value */
+        private final class EntrySet extends AbstractSet<Entry<Integer, String>> {
+            @Override
+            public int size() {
+                return IdTableMap.this.size();
+            }
+
+            @Override
+            public Iterator<Entry<Integer, String>> iterator() {
+                String[] values = table.get();
+                return new Iterator<Entry<Integer, String>>() {
+                    private int next = advance(0);
+
+                    private int advance(int id) {
+                        while (id < values.length && values[id] == null) {
+                            id++;
+                        }
+                        return id;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length;
+                    }
+
+                    @Override
+                    public Entry<Integer, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int id = next;
+                        next = advance(id + 1);
+                        return new SimpleImmutableEntry<>(id, values[id]);
+                    }
+                };
+            }
+        }
+    }
+
 
     /**
      * Retrieves the stats of an NPC.
@@ -196,7 +328,7 @@ public class Rs2NpcManager {
      */
     @Nullable
     public static Rs2NpcStats getStats(int npcId) {
-        return statsMap.get(npcId);
+        return Stats.BY_ID.get(npcId);
     }
 
     /**
@@ -205,7 +337,7 @@ public class Rs2NpcManager {
      * @return The health of the NPC, or -1 if the NPC does not exist or its health is unknown.
      */
     public static int getHealth(int npcId) {
-        Rs2NpcStats s = statsMap.get(npcId);
+        Rs2NpcStats s = Stats.BY_ID.get(npcId);
         return s != null && s.getHitpoints() != -1 ? s.getHitpoints() : -1;
     }
 
@@ -215,7 +347,7 @@ public class Rs2NpcManager {
      * @return The attack speed of the NPC, or -1 if the NPC does not exist or its attack speed is unknown.
      */
     public static int getAttackSpeed(int npcId) {
-        Rs2NpcStats s = statsMap.get(npcId);
+        Rs2NpcStats s = Stats.BY_ID.get(npcId);
         Microbot.log(s.toString());
         return s.getAttackSpeed() != -1 ? s.getAttackSpeed() : -1;
     }
@@ -229,7 +361,7 @@ public class Rs2NpcManager {
         if (blacklistXpMultiplier.contains(npcId)) {
             return 1.0;
         } else {
-            Rs2NpcStats s = statsMap.get(npcId);
+            Rs2NpcStats s = Stats.BY_ID.get(npcId);
             return s == null ? 1.0 : s.calculateXpModifier();
         }
     }
@@ -246,7 +378,7 @@ public class Rs2NpcManager {
     // Get all slayer monsters
     public static List<Integer> getSlayerMonsters()
     {
-        return statsMap.entrySet().stream()
+        return Stats.BY_ID.entrySet().stream()
                 .filter(e -> e.getValue().isSlayerMonster())
                 .map(Map.Entry::getKey)
                 .collect(Collectors.toList());
@@ -258,7 +390,7 @@ public class Rs2NpcManager {
      */
     public static List<String> getSlayerMonstersByCategory(String category)
     {
-        return statsMap.values().stream()
+        return Stats.BY_ID.values().stream()
                 .filter(rs2NpcStats -> rs2NpcStats.getCategory() != null &&
                         rs2NpcStats.getCategory().stream().anyMatch(c -> c.equalsIgnoreCase(category)))
                 .map(Rs2NpcStats::getName).distinct()
@@ -275,11 +407,7 @@ public class Rs2NpcManager {
      */
     public static List<MonsterLocation> getNpcLocations(String npcName)
     {
-        if (locationMap == null)
-        {
-            return Collections.emptyList();
-        }
-        return locationMap.getOrDefault(npcName, Collections.emptyList());
+        return Locations.BY_NAME.getOrDefault(npcName, Collections.emptyList());
     }
 
     /**
@@ -0,0 +1,370 @@
+package net.runelite.client.plugins.microbot.util.npc;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.NPCComposition;
+import net.runelite.api.Perspective;
+import net.runelite.api.Player;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy NPC query.
+ *
+ * <p>Filters on ids, names, actions and combat state are evaluated against the raw {@link NPC}s in a single
+ * client thread call, before any {@link Rs2NpcModel} is created. Matches are ordered by distance with a
+ * binary heap, so asking for the nearest NPC costs one heapify plus a single pop instead of a full sort.
+ * Models handed out are reused per NPC index through {@link Rs2Npc#getModel(NPC)}.</p>
+ *
+ * <pre>
+ * Rs2NpcModel goblin = Rs2Npc.query().withName("Goblin").attackable().nearest();
+ * </pre>
+ */
+@Slf4j
+public final class Rs2NpcQuery {
+    private int[] ids;
+    private String[] names;
+    private boolean exactName;
+    private String[] actions;
+    private boolean attackable;
+    private LocalPoint anchor;
+    private int maxDistance = -1;
+    private Predicate<NPC> npcFilter;
+    private Predicate<Rs2NpcModel> modelFilter;
+
+    Rs2NpcQuery() {
+    }
+
+    /**
+     * Only match NPCs with one of the given ids.
+     */
+    public Rs2NpcQuery withId(int... ids) {
+        this.ids = ids;
+        return this;
+    }
+
+    /**
+     * Only match NPCs whose name contains one of the given names, ignoring case.
+     */
+    public Rs2NpcQuery withName(String... names) {
+        return withName(false, names);
+    }
+
+    /**
+     * Only match NPCs whose name equals (or contains, if {@code exact} is {@code false}) one of the given names, ignoring case.
+     */
+    public Rs2NpcQuery withName(boolean exact, String... names) {
+        String[] lower = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            lower[i] = names[i].toLowerCase();
+        }
+        this.names = lower;
+        this.exactName = exact;
+        return this;
+    }
+
+    /**
+     * Only match NPCs that have one of the given actions on their base or transformed composition, ignoring case.
+     */
+    public Rs2NpcQuery withAction(String... actions) {
+        this.actions = actions;
+        return this;
+    }
+
+    /**
+     * Only match NPCs with a combat level that are not dead.
+     */
+    public Rs2NpcQuery attackable() {
+        this.attackable = true;
+        return this;
+    }
+
+    /**
+     * Only match NPCs within {@code distance} tiles of the player.
+     */
+    public Rs2NpcQuery within(int distance) {
+        this.maxDistance = distance;
+        return this;
+    }
+
+    /**
+     * Order and limit results relative to {@code anchor} instead of the player.
+     */
+    public Rs2NpcQuery from(LocalPoint anchor) {
+        this.anchor = anchor;
+        return this;
+    }
+
+    /**
+     * Adds a filter on the raw NPC. It runs on the client thread during the scan, so it must be cheap and must not block.
+     */
+    public Rs2NpcQuery where(Predicate<NPC> filter) {
+        this.npcFilter = npcFilter == null ? filter : npcFilter.and(filter);
+        return this;
+    }
+
+    /**
+     * Adds a filter on the model. It runs on the calling thread, lazily, in ascending distance order,
+     * so it is only evaluated until enough results were found.
+     */
+    public Rs2NpcQuery filter(Predicate<Rs2NpcModel> filter) {
+        this.modelFilter = modelFilter == null ? filter : modelFilter.and(filter);
+        return this;
+    }
+
+    /**
+     * @return the nearest matching NPC, or {@code null} if there is none
+     */
+    public Rs2NpcModel nearest() {
+        Iterator<Rs2NpcModel> it = iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+
+    /**
+     * @return up to {@code k} matching NPCs, nearest first
+     */
+    public List<Rs2NpcModel> nearest(int k) {
+        if (k <= 0) {
+            return Collections.emptyList();
+        }
+        Iterator<Rs2NpcModel> it = iterator();
+        List<Rs2NpcModel> result = new ArrayList<>(Math.min(k, 16));
+        while (result.size() < k && it.hasNext()) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    /**
+     * @return whether any NPC matches
+     */
+    public boolean exists() {
+        return iterator().hasNext();
+    }
+
+    /**
+     * @return a lazy stream of all matching NPCs, nearest first
+     */
+    public Stream<Rs2NpcModel> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT), false);
+    }
+
+    /**
+     * @return a lazy iterator of all matching NPCs, nearest first
+     */
+    public Iterator<Rs2NpcModel> iterator() {
+        Candidates candidates = Microbot.getClientThread().runOnClientThreadOptional(this::scan).orElse(null);
+        if (candidates == null || candidates.size == 0) {
+            return Collections.emptyIterator();
+        }
+        return new CandidateIterator(candidates, modelFilter);
+    }
+
+    private Candidates scan() {
+        Client client = Microbot.getClient();
+        WorldView worldView = client.getTopLevelWorldView();
+        Player player = client.getLocalPlayer();
+        if (worldView == null || player == null) {
+            return null;
+        }
+        LocalPoint origin = anchor != null ? anchor : player.getLocalLocation();
+        if (origin == null) {
+            return null;
+        }
+
+        Candidates candidates = new Candidates();
+        for (NPC npc : worldView.npcs()) {
+            try {
+                if (npc == null || !matches(npc)) {
+                    continue;
+                }
+                LocalPoint location = npc.getLocalLocation();
+                if (location == null) {
+                    continue;
+                }
+                if (maxDistance >= 0 && Math.max(Math.abs(location.getX() - origin.getX()),
+                        Math.abs(location.getY() - origin.getY())) > maxDistance * Perspective.LOCAL_TILE_SIZE) {
+                    continue;
+                }
+                candidates.add(npc, location.distanceTo(origin));
+            } catch (Exception e) {
+                log.debug("Error scanning npc: {}", e.getMessage());
+            }
+        }
+        candidates.heapify();
+        return candidates;
+    }
+
+    private boolean matches(NPC npc) {
+        if (ids != null && !containsId(npc.getId())) {
+            return false;
+        }
+        String name = npc.getName();
+        if (name == null || (names != null && !matchesName(name))) {
+            return false;
+        }
+        if (attackable && (npc.getCombatLevel() <= 0 || npc.isDead())) {
+            return false;
+        }
+        if (actions != null && !hasAction(npc)) {
+            return false;
+        }
+        return npcFilter == null || npcFilter.test(npc);
+    }
+
+    private boolean containsId(int id) {
+        for (int i : ids) {
+            if (i == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesName(String name) {
+        for (String n : names) {
+            if (exactName ? name.equalsIgnoreCase(n) : containsIgnoreCase(name, n)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsIgnoreCase(String haystack, String needle) {
+        for (int i = 0, max = haystack.length() - needle.length(); i <= max; i++) {
+            if (haystack.regionMatches(true, i, needle, 0, needle.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasAction(NPC npc) {
+        NPCComposition composition = npc.getComposition();
+        if (composition != null && hasAction(composition)) {
+            return true;
+        }
+        NPCComposition transformed = npc.getTransformedComposition();
+        return transformed != null && transformed != composition && hasAction(transformed);
+    }
+
+    private boolean hasAction(NPCComposition composition) {
+        String[] npcActions = composition.getActions();
+        if (npcActions == null) {
+            return false;
+        }
+        for (String npcAction : npcActions) {
+            if (npcAction == null) {
+                continue;
+            }
+            for (String action : actions) {
+                if (npcAction.equalsIgnoreCase(action)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Matching NPCs with a min-heap of (distance, scan order) packed into longs, so ties keep the
+     * iteration order of the world view just like a stable sort would.
+     */
+    private static final class Candidates {
+        private NPC[] npcs = new NPC[64];
+        private long[] heap = new long[64];
+        private int size;
+
+        void add(NPC npc, int distance) {
+            if (size == npcs.length) {
+                npcs = Arrays.copyOf(npcs, size * 2);
+                heap = Arrays.copyOf(heap, size * 2);
+            }
+            npcs[size] = npc;
+            heap[size] = ((long) distance << 32) | size;
+            size++;
+        }
+
+        void heapify() {
+            for (int i = (size >>> 1) - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        NPC poll() {
+            long top = heap[0];
+            heap[0] = heap[--size];
+            siftDown(0);
+            return npcs[(int) top];
+        }
+
+        private void siftDown(int i) {
+            long key = heap[i];
+            int half = size >>> 1;
+            while (i < half) {
+                int child = (i << 1) + 1;
+                int right = child + 1;
+                if (right < size && heap[right] < heap[child]) {
+                    child = right;
+                }
+                if (key <= heap[child]) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = key;
+        }
+    }
+
+    private static final class CandidateIterator implements Iterator<Rs2NpcModel> {
+        private final Candidates candidates;
+        private final Predicate<Rs2NpcModel> filter;
+        private Rs2NpcModel next;
+
+        CandidateIterator(Candidates candidates, Predicate<Rs2NpcModel> filter) {
+            this.candidates = candidates;
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && candidates.size > 0) {
+                Rs2NpcModel model = Rs2Npc.getModel(candidates.poll());
+                try {
+                    if (filter == null || filter.test(model)) {
+                        next = model;
+                    }
+                } catch (Exception e) {
+                    log.debug("Error in predicate test: {}", e.getMessage());
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Rs2NpcModel next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Rs2NpcModel model = next;
+            next = null;
+            return model;
+        }
+    }
+}
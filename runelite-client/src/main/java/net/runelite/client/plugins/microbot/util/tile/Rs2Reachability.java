@@ -0,0 +1,212 @@
+package net.runelite.client.plugins.microbot.util.tile;
+
+import net.runelite.api.Client;
+import net.runelite.api.CollisionData;
+import net.runelite.api.CollisionDataFlag;
+import net.runelite.api.Constants;
+import net.runelite.api.WorldView;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import java.util.Arrays;
+
+/**
+ * Scene-local breadth-first search over the collision flags of the top level world view.
+ *
+ * <p>A search always covers the whole scene, so one search per origin answers every distance and
+ * reachability question for it. Results are cached for the current game tick per origin, the queue
+ * is a flat {@code int} array reused between searches, and distances live in an {@code int[104 * 104]}
+ * indexed by {@code x * 104 + y}. Each cache slot reuses its distance buffer, so searching does not allocate
+ * in steady state. The buffers never leave this class, they are only read with the cache lock held.</p>
+ */
+public final class Rs2Reachability {
+    public static final int UNREACHABLE = -1;
+
+    private static final int SIZE = Constants.SCENE_SIZE;
+    private static final int CACHE_SIZE = 8;
+
+    private static final int[] queue = new int[SIZE * SIZE];
+    private static final Entry[] cache = new Entry[CACHE_SIZE];
+    private static int nextSlot;
+
+    private Rs2Reachability() {
+    }
+
+    /**
+     * Calls the consumer for every scene tile within {@code radius} tiles of the origin on both axes that can
+     * be reached from it, including the origin itself at distance 0. The distances are copied out of the
+     * shared search buffer first, so the consumer runs without holding any lock.
+     *
+     * @param originX         scene x of the origin
+     * @param originY         scene y of the origin
+     * @param radius          half the width of the square of tiles around the origin to report
+     * @param ignoreCollision if true, tiles are entered even if they are fully blocked, directional
+     *                        walls are still respected
+     */
+    public static void forEachWithin(int originX, int originY, int radius, boolean ignoreCollision,
+                                     TileDistanceConsumer consumer) {
+        radius = Math.min(radius, SIZE);
+        final int minX = Math.max(0, originX - radius);
+        final int maxX = Math.min(SIZE - 1, originX + radius);
+        final int minY = Math.max(0, originY - radius);
+        final int maxY = Math.min(SIZE - 1, originY + radius);
+        if (minX > maxX || minY > maxY) {
+            return;
+        }
+
+        final int height = maxY - minY + 1;
+        final int[] window = new int[(maxX - minX + 1) * height];
+        synchronized (cache) {
+            final Entry entry = search(originX, originY, ignoreCollision);
+            if (entry == null) {
+                return;
+            }
+            for (int x = minX; x <= maxX; x++) {
+                System.arraycopy(entry.distances, index(x, minY), window, (x - minX) * height, height);
+            }
+        }
+
+        for (int i = 0; i < window.length; i++) {
+            if (window[i] != UNREACHABLE) {
+                consumer.accept(minX + i / height, minY + i % height, window[i]);
+            }
+        }
+    }
+
+    /**
+     * @return the distance in tiles between the two scene tiles, or {@link #UNREACHABLE}
+     */
+    public static int getDistance(int originX, int originY, int targetX, int targetY) {
+        if (!isInScene(targetX, targetY)) {
+            return UNREACHABLE;
+        }
+        synchronized (cache) {
+            final Entry entry = search(originX, originY, false);
+            return entry == null ? UNREACHABLE : entry.distances[index(targetX, targetY)];
+        }
+    }
+
+    public static boolean isReachable(int originX, int originY, int targetX, int targetY) {
+        return getDistance(originX, originY, targetX, targetY) != UNREACHABLE;
+    }
+
+    public static boolean isInScene(int sceneX, int sceneY) {
+        return sceneX >= 0 && sceneY >= 0 && sceneX < SIZE && sceneY < SIZE;
+    }
+
+    public static int index(int sceneX, int sceneY) {
+        return sceneX * SIZE + sceneY;
+    }
+
+    /**
+     * Returns the cached search from the origin for the current tick, searching if there is none. Must be
+     * called with the cache lock held, as the distances of the returned entry are overwritten by later searches.
+     *
+     * @return the entry holding the distances, or {@code null} if there is no scene
+     */
+    private static Entry search(int originX, int originY, boolean ignoreCollision) {
+        if (!isInScene(originX, originY)) {
+            return null;
+        }
+
+        final Client client = Microbot.getClient();
+        final WorldView wv = client.getTopLevelWorldView();
+        if (wv == null) {
+            return null;
+        }
+        final CollisionData[] collisionData = wv.getCollisionMaps();
+        if (collisionData == null) {
+            return null;
+        }
+        final int plane = wv.getPlane();
+        final int[][] flags = collisionData[plane].getFlags();
+        final int blockMask = ignoreCollision ? 0 : CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+        final int tick = client.getTickCount();
+        final int baseX = wv.getBaseX();
+        final int baseY = wv.getBaseY();
+        final int origin = index(originX, originY);
+
+        for (Entry entry : cache) {
+            if (entry != null && entry.tick == tick && entry.origin == origin && entry.plane == plane
+                    && entry.blockMask == blockMask && entry.baseX == baseX && entry.baseY == baseY) {
+                return entry;
+            }
+        }
+
+        Entry entry = cache[nextSlot];
+        if (entry == null) {
+            entry = new Entry();
+            cache[nextSlot] = entry;
+        }
+        nextSlot = (nextSlot + 1) % CACHE_SIZE;
+
+        // not matched by a lookup should the search fail part way
+        entry.tick = -1;
+        search(flags, originX, originY, blockMask, entry.distances);
+        entry.tick = tick;
+        entry.origin = origin;
+        entry.plane = plane;
+        entry.blockMask = blockMask;
+        entry.baseX = baseX;
+        entry.baseY = baseY;
+        return entry;
+    }
+
+    /**
+     * A neighbour is entered if the current tile has no wall towards it and the neighbour itself is not
+     * blocked by {@code blockMask}. Must be called with the cache lock held, since the queue is shared.
+     */
+    private static void search(int[][] flags, int originX, int originY, int blockMask, int[] distances) {
+        Arrays.fill(distances, UNREACHABLE);
+
+        int head = 0;
+        int tail = 0;
+        distances[index(originX, originY)] = 0;
+        queue[tail++] = index(originX, originY);
+
+        while (head < tail) {
+            final int current = queue[head++];
+            final int x = current / SIZE;
+            final int y = current % SIZE;
+            final int data = flags[x][y];
+            final int next = distances[current] + 1;
+
+            if (x > 0 && (data & CollisionDataFlag.BLOCK_MOVEMENT_WEST) == 0) {
+                tail = visit(flags, distances, x - 1, y, next, blockMask, tail);
+            }
+            if (x < SIZE - 1 && (data & CollisionDataFlag.BLOCK_MOVEMENT_EAST) == 0) {
+                tail = visit(flags, distances, x + 1, y, next, blockMask, tail);
+            }
+            if (y > 0 && (data & CollisionDataFlag.BLOCK_MOVEMENT_SOUTH) == 0) {
+                tail = visit(flags, distances, x, y - 1, next, blockMask, tail);
+            }
+            if (y < SIZE - 1 && (data & CollisionDataFlag.BLOCK_MOVEMENT_NORTH) == 0) {
+                tail = visit(flags, distances, x, y + 1, next, blockMask, tail);
+            }
+        }
+    }
+
+    private static int visit(int[][] flags, int[] distances, int x, int y, int distance, int blockMask, int tail) {
+        final int i = index(x, y);
+        if (distances[i] != UNREACHABLE || (flags[x][y] & blockMask) != 0) {
+            return tail;
+        }
+        distances[i] = distance;
+        queue[tail] = i;
+        return tail + 1;
+    }
+
+    private static final class Entry {
+        int tick;
+        int origin;
+        int plane;
+        int blockMask;
+        int baseX;
+        int baseY;
+        final int[] distances = new int[SIZE * SIZE];
+    }
+
+    @FunctionalInterface
+    public interface TileDistanceConsumer {
+        void accept(int sceneX, int sceneY, int distance);
+    }
+}
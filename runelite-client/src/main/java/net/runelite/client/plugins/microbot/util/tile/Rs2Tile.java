@@ -230,10 +230,9 @@ public abstract class Rs2Tile implements Tile {
      * movement in specific directions (east, west, north, south) and removes
      * unreachable tiles based on collision data.
      *
-     * The method iterates over a range of distances, progressively updating
-     * reachable tiles and adding them to the tileDistances map. It checks if a
-     * tile can be reached by verifying its collision flags and whether it’s blocked
-     * for movement in any direction.
+     * The search itself runs on scene coordinates in {@link Rs2Reachability}, which
+     * reuses its buffers and caches the result per tick, so repeated calls for the
+     * same tile only pay for building the map.
      *
      * @param tile The starting tile for the distance calculation.
      * @param distance The maximum distance to calculate to neighboring tiles.
@@ -244,52 +243,38 @@ public abstract class Rs2Tile implements Tile {
         final HashMap<WorldPoint, Integer> tileDistances = new HashMap<>();
         tileDistances.put(tile, 0);
 
-        for (int i = 0; i < distance + 1; i++) {
-            int dist = i;
-            for (var kvp : tileDistances.entrySet().stream().filter(x -> x.getValue() == dist).collect(Collectors.toList())) {
-                var point = kvp.getKey();
-                LocalPoint localPoint;
-                if (Microbot.getClient().getTopLevelWorldView().isInstance()) {
-                    WorldPoint worldPoint = WorldPoint.toLocalInstance(Microbot.getClient().getTopLevelWorldView(), point).stream().findFirst().orElse(null);
-                    if (worldPoint == null) break;
-                    localPoint = LocalPoint.fromWorld(Microbot.getClient().getTopLevelWorldView(), worldPoint);
-                } else
-                    localPoint = LocalPoint.fromWorld(Microbot.getClient().getTopLevelWorldView(), point);
-
-                CollisionData[] collisionMap = Microbot.getClient().getTopLevelWorldView().getCollisionMaps();
-                if (collisionMap != null && localPoint != null) {
-                    CollisionData collisionData = collisionMap[Microbot.getClient().getTopLevelWorldView().getPlane()];
-                    int[][] flags = collisionData.getFlags();
-                    int data = flags[localPoint.getSceneX()][localPoint.getSceneY()];
-
-                    Set<MovementFlag> movementFlags = MovementFlag.getSetFlags(data);
-
-                    if (!ignoreCollision && !tile.equals(point)) {
-                        if (movementFlags.contains(MovementFlag.BLOCK_MOVEMENT_FULL)
-                                || movementFlags.contains(MovementFlag.BLOCK_MOVEMENT_FLOOR)) {
-                            tileDistances.remove(point);
-                            continue;
-                        }
-                    }
+        final LocalPoint localPoint = toLocalPoint(tile);
+        if (localPoint == null) return tileDistances;
 
-                    if (kvp.getValue() >= distance)
-                        continue;
-
-                    if (!movementFlags.contains(MovementFlag.BLOCK_MOVEMENT_EAST))
-                        tileDistances.putIfAbsent(point.dx(1), dist + 1);
-                    if (!movementFlags.contains(MovementFlag.BLOCK_MOVEMENT_WEST))
-                        tileDistances.putIfAbsent(point.dx(-1), dist + 1);
-                    if (!movementFlags.contains(MovementFlag.BLOCK_MOVEMENT_NORTH))
-                        tileDistances.putIfAbsent(point.dy(1), dist + 1);
-                    if (!movementFlags.contains(MovementFlag.BLOCK_MOVEMENT_SOUTH))
-                        tileDistances.putIfAbsent(point.dy(-1), dist + 1);
-                }
+        final int originX = localPoint.getSceneX();
+        final int originY = localPoint.getSceneY();
+        Rs2Reachability.forEachWithin(originX, originY, distance, ignoreCollision, (x, y, d) -> {
+            if (d > 0 && d <= distance) {
+                tileDistances.put(tile.dx(x - originX).dy(y - originY), d);
             }
-        }
+        });
 
         return tileDistances;
     }
 
+    /**
+     * Converts a world point to a local point of the top level world view, resolving instance template
+     * coordinates when inside an instance.
+     */
+    private static LocalPoint toLocalPoint(WorldPoint point) {
+        final WorldView wv = Microbot.getClient().getTopLevelWorldView();
+        if (wv == null) return null;
+
+        if (wv.isInstance()) {
+            LocalPoint localPoint = LocalPoint.fromWorld(wv, point);
+            if (localPoint != null) return localPoint;
+
+            WorldPoint instancePoint = WorldPoint.toLocalInstance(wv, point).stream().findFirst().orElse(null);
+            return instancePoint == null ? null : LocalPoint.fromWorld(wv, instancePoint);
+        }
+        return LocalPoint.fromWorld(wv, point);
+    }
+
     /**
      * This method calculates the reachable tiles from a given starting tile
      * considering collision data during the distance calculation. It is a wrapper
@@ -318,11 +303,9 @@ public abstract class Rs2Tile implements Tile {
      * directions (north, south, east, west). It ensures the target tile is within
      * the same plane as the player and that movement between tiles is not blocked.
      *
-     * The method initializes a queue to explore the world grid, marking visited
-     * tiles to avoid revisiting. It checks the flags for collision data to determine
-     * whether movement is allowed in each direction, and only adds neighboring tiles
-     * to the queue if they are not blocked. Finally, it verifies if the target point
-     * has been visited during the traversal and returns true if reachable, false otherwise.
+     * The search is shared with {@link #getReachableTilesFromTile(WorldPoint, int, boolean)}
+     * through {@link Rs2Reachability}, so checking many tiles in the same tick only
+     * searches the scene once.
      *
      * @param targetPoint The WorldPoint representing the target tile to check for
      *                    reachability.
@@ -338,10 +321,6 @@ public abstract class Rs2Tile implements Tile {
         if (targetPoint.getPlane() != playerLoc.getPlane()) return false;
         if (CollisionMap.ignoreCollision.contains(targetPoint)) return true;
 
-        final boolean[][] visited = new boolean[FLAG_DATA_SIZE][FLAG_DATA_SIZE];
-        final int[][] flags = getFlags();
-        if (flags == null) return false;
-
         final int startX;
         final int startY;
         if (Microbot.getClient().getTopLevelWorldView().getScene().isInstance()) {
@@ -352,26 +331,11 @@ public abstract class Rs2Tile implements Tile {
             startX = playerLoc.getX() - Microbot.getClient().getBaseX();
             startY = playerLoc.getY() - Microbot.getClient().getBaseY();
         }
-        final int startPoint = (startX << 16) | startY;
-
-        ArrayDeque<Integer> queue = new ArrayDeque<>();
-        queue.add(startPoint);
-        visited[startX][startY] = true;
-
-        while (!queue.isEmpty()) {
-            int point = queue.poll();
-            int x = point >> 16;
-            int y = point & 0xFFFF;
-
-            if (isWithinBounds(x, y)) {
-                checkAndAddNeighbour(queue, visited, flags, x, y, -1, 0, CollisionDataFlag.BLOCK_MOVEMENT_WEST);
-                checkAndAddNeighbour(queue, visited, flags, x, y, 1, 0, CollisionDataFlag.BLOCK_MOVEMENT_EAST);
-                checkAndAddNeighbour(queue, visited, flags, x, y, 0, -1, CollisionDataFlag.BLOCK_MOVEMENT_SOUTH);
-                checkAndAddNeighbour(queue, visited, flags, x, y, 0, 1, CollisionDataFlag.BLOCK_MOVEMENT_NORTH);
-            }
-        }
 
-        return isVisited(targetPoint, visited);
+        final LocalPoint target = toLocalPoint(targetPoint);
+        if (target == null) return false;
+
+        return Rs2Reachability.isReachable(startX, startY, target.getSceneX(), target.getSceneY());
     }
 
     /**
@@ -410,90 +374,6 @@ public abstract class Rs2Tile implements Tile {
         return false;
     }
 
-    /**
-     * This method checks if the given coordinates (x, y) are within the valid bounds
-     * of the game world grid. It ensures that the coordinates are non-negative and
-     * within the range of the grid dimensions (0 to 103 for both x and y).
-     *
-     * The method is used to prevent out-of-bounds errors when accessing world tiles
-     * by ensuring that the coordinates provided for the tile are within the valid
-     * range before performing further operations.
-     *
-     * @param x The x-coordinate of the tile to check.
-     * @param y The y-coordinate of the tile to check.
-     * @return True if the coordinates are within bounds (0 <= x, y < {@code FLAG_DATA_SIZE}), otherwise false.
-     */
-    private static boolean isWithinBounds(int x, int y) {
-        return x >= 0 && y >= 0 && x < FLAG_DATA_SIZE && y < FLAG_DATA_SIZE;
-    }
-
-    /**
-     * This method checks a neighboring tile and adds it to the queue if it is valid
-     * and not blocked for movement. It considers both the current tile's collision
-     * data and the neighboring tile’s collision flags to determine whether movement
-     * in the specified direction (dx, dy) is possible. The method ensures the neighboring
-     * tile is within bounds, hasn't been visited, and doesn't have movement restrictions
-     * (such as full-block movement or movement in the specified direction).
-     *
-     * The method performs a bitwise check on the tile’s flags to determine if movement
-     * in the given direction is allowed and ensures that the neighboring tile is not
-     * already visited before adding it to the queue.
-     *
-     * @param queue The queue that stores the coordinates of tiles to be visited.
-     * @param visited A 2D boolean array tracking which tiles have already been visited.
-     * @param flags A 2D array containing the collision flags for each tile.
-     * @param x The current tile’s x-coordinate.
-     * @param y The current tile’s y-coordinate.
-     * @param dx The change in x-coordinate for the neighboring tile.
-     * @param dy The change in y-coordinate for the neighboring tile.
-     * @param blockMovementFlag The collision flag that blocks movement in a given direction.
-     */
-    private static void checkAndAddNeighbour(ArrayDeque<Integer> queue, boolean[][] visited, int[][] flags, int x, int y, int dx, int dy, int blockMovementFlag) {
-        int nx = x + dx;
-        int ny = y + dy;
-
-        if (isWithinBounds(nx, ny) && !visited[nx][ny] && (flags[x][y] & blockMovementFlag) == 0 && (flags[nx][ny] & CollisionDataFlag.BLOCK_MOVEMENT_FULL) == 0) {
-            queue.add((nx << 16) | ny);
-            visited[nx][ny] = true;
-        }
-    }
-
-    /**
-     * This method checks whether a given WorldPoint has been visited during the
-     * traversal of the game world. It calculates the tile’s local coordinates relative
-     * to the base coordinates, considering whether the client is in an instanced region
-     * or not. The method then checks if the calculated coordinates are within bounds
-     * and if the tile has been marked as visited in the provided visited array.
-     *
-     * The method ensures that the given WorldPoint corresponds to a valid tile on
-     * the game map by verifying if its coordinates fall within the bounds of the
-     * world grid, and if so, it checks whether that tile has already been visited
-     * during the search or traversal process.
-     *
-     * @param worldPoint The WorldPoint representing the tile to check for visit status.
-     * @param visited A 2D boolean array tracking visited tiles during world traversal.
-     * @return True if the tile has been visited and is within bounds, otherwise false.
-     */
-    private static boolean isVisited(WorldPoint worldPoint, boolean[][] visited) {
-        int baseX = 0;
-        int baseY = 0;
-        int x = 0;
-        int y = 0;
-        if (Microbot.getClient().getTopLevelWorldView().getScene().isInstance()) {
-            LocalPoint localPoint = Rs2Player.getLocalLocation();
-            x = localPoint.getSceneX();
-            y = localPoint.getSceneY();
-        } else {
-            baseX = Microbot.getClient().getTopLevelWorldView().getBaseX();
-            baseY = Microbot.getClient().getTopLevelWorldView().getBaseY();
-            x = worldPoint.getX() - baseX;
-            y = worldPoint.getY() - baseY;
-        }
-
-
-        return isWithinBounds(x, y) && visited[x][y];
-    }
-
     /**
      * Gets the neighboring tile in the specified direction from the source tile.
      * <p>
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025, Microbot
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ConfigDataTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File configFile;
+	private File walFile;
+
+	@Before
+	public void before() throws IOException
+	{
+		configFile = folder.newFile("settings.properties");
+		walFile = new File(folder.getRoot(), "settings.properties.wal");
+
+		Properties props = new Properties();
+		props.setProperty("a", "1");
+		props.setProperty("b", "2");
+		try (FileOutputStream out = new FileOutputStream(configFile))
+		{
+			props.store(out, null);
+		}
+	}
+
+	@Test
+	public void testReplay() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile);
+		assertEquals("1", data.getProperty("a"));
+
+		data.setProperty("b", "3");
+		data.setProperty("c", "4");
+		data.patch(data.swapChanges());
+
+		assertTrue(walFile.exists());
+		assertEquals("2", readProperties().getProperty("b"));
+
+		ConfigData reloaded = new ConfigData(configFile);
+		assertEquals("1", reloaded.getProperty("a"));
+		assertEquals("3", reloaded.getProperty("b"));
+		assertEquals("4", reloaded.getProperty("c"));
+	}
+
+	@Test
+	public void testTornRecord() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile);
+		data.setProperty("b", "3");
+		data.patch(data.swapChanges());
+		long length = walFile.length();
+
+		// a record header claiming more payload than was written
+		Files.write(walFile.toPath(), new byte[]{0, 0, 0, 100, 1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+		data.setProperty("b", "4");
+		data.patch(data.swapChanges());
+		// header, entry count, and the key and value with their lengths
+		assertEquals(length + 8 + 4 + 5 + 5, walFile.length());
+
+		assertEquals("4", new ConfigData(configFile).getProperty("b"));
+	}
+
+	@Test
+	public void testTornRecordIgnoredOnLoad() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile);
+		data.setProperty("b", "3");
+		data.patch(data.swapChanges());
+
+		Files.write(walFile.toPath(), new byte[]{0, 0, 0, 100, 1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+		ConfigData reloaded = new ConfigData(configFile);
+		assertEquals("1", reloaded.getProperty("a"));
+		assertEquals("3", reloaded.getProperty("b"));
+	}
+
+	@Test
+	public void testUnset() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile);
+		assertEquals("1", data.unset("a"));
+		assertNull(data.getProperty("a"));
+		data.patch(data.swapChanges());
+
+		assertEquals("1", readProperties().getProperty("a"));
+
+		ConfigData reloaded = new ConfigData(configFile);
+		assertNull(reloaded.getProperty("a"));
+		assertFalse(reloaded.keySet().contains("a"));
+		assertEquals("2", reloaded.getProperty("b"));
+	}
+
+	@Test
+	public void testCompact() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile);
+		data.setProperty("b", "3");
+		data.unset("a");
+		data.patch(data.swapChanges());
+		assertTrue(walFile.exists());
+
+		ConfigData.compact(configFile);
+
+		assertFalse(walFile.exists());
+		Properties props = readProperties();
+		assertNull(props.getProperty("a"));
+		assertEquals("3", props.getProperty("b"));
+	}
+
+	@Test
+	public void testSharedFile() throws IOException
+	{
+		ConfigData first = new ConfigData(configFile);
+		ConfigData second = new ConfigData(configFile);
+
+		first.setProperty("c", "3");
+		first.patch(first.swapChanges());
+
+		// the second instance has not seen the first append, which must survive its own
+		second.setProperty("d", "4");
+		second.patch(second.swapChanges());
+
+		ConfigData reloaded = new ConfigData(configFile);
+		assertEquals("3", reloaded.getProperty("c"));
+		assertEquals("4", reloaded.getProperty("d"));
+		assertEquals("1", reloaded.getProperty("a"));
+	}
+
+	private Properties readProperties() throws IOException
+	{
+		Properties props = new Properties();
+		try (InputStreamReader reader = new InputStreamReader(new FileInputStream(configFile), StandardCharsets.UTF_8))
+		{
+			props.load(reader);
+		}
+		return props;
+	}
+}
@@ -28,7 +28,11 @@ import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Named;
 import net.runelite.api.Client;
 import net.runelite.api.gameval.ItemID;
@@ -36,10 +40,16 @@ import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.http.api.item.ItemPrice;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -95,4 +105,38 @@ public class ItemManagerTest
 		itemPrice.setWikiPrice(300_000); // outside of 5x range
 		assertEquals(itemPrice.getPrice(), itemManager.getWikiPrice(itemPrice));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testSearch() throws Exception
+	{
+		final String[] names = {"Yew seed", "Magic seed", "Yew logs", "Abyssal whip", "Yew longbow", "Seaweed", "Bones"};
+		final ItemPrice[] prices = new ItemPrice[names.length];
+		for (int i = 0; i < names.length; i++)
+		{
+			prices[i] = new ItemPrice();
+			prices[i].setId(i);
+			prices[i].setName(names[i]);
+		}
+		when(itemClient.getPrices()).thenReturn(prices);
+
+		final ArgumentCaptor<Runnable> loadPrices = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduledExecutorService).scheduleWithFixedDelay(loadPrices.capture(), anyLong(), anyLong(), eq(TimeUnit.MINUTES));
+		loadPrices.getValue().run();
+
+		for (String query : new String[]{"", "y", "YEW", "ew ", "seed", "yew lo", "e", "xyz", "whipped", "bones"})
+		{
+			final List<ItemPrice> expected = new ArrayList<>();
+			for (ItemPrice price : prices)
+			{
+				if (price.getName().toLowerCase(Locale.ROOT).contains(query.toLowerCase(Locale.ROOT)))
+				{
+					expected.add(price);
+				}
+			}
+			assertEquals(query, expected, itemManager.search(query));
+		}
+
+		assertEquals(prices[2], itemManager.findItem("yew LOGS"));
+		assertNull(itemManager.findItem("Yew"));
+	}
+}
@@ -36,10 +36,12 @@ import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import com.google.inject.util.Modules;
 import java.awt.Component;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -155,6 +157,16 @@ public class PluginManagerTest
 		assertEquals(expected, plugins.size());
 	}
 
+	@Test
+	public void testReadPluginIndex() throws IOException
+	{
+		String index = "net.runelite.client.plugins.a.APlugin\n"
+			+ "net.runelite.client.plugins.b.BPlugin\n"
+			+ "\n";
+		List<String> classNames = PluginManager.readPluginIndex(new ByteArrayInputStream(index.getBytes(StandardCharsets.UTF_8)));
+		assertEquals(List.of("net.runelite.client.plugins.a.APlugin", "net.runelite.client.plugins.b.BPlugin"), classNames);
+	}
+
 	//Added to ignore because it made PluginDescriptor name tags fail due to attempting to create a file with illegal characters
 	//ex - C:\Users\Brent\AppData\Local\Temp\junit1285191539980835487\junit7101190188546249539\<html>[<font color=#1E90FF>J<\font>] Auto Chinchompa.dot
 	//Will not be looking for a fix cause fuck tests - OG
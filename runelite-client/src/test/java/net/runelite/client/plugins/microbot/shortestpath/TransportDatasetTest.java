@@ -0,0 +1,89 @@
+package net.runelite.client.plugins.microbot.shortestpath;
+
+import net.runelite.api.coords.WorldPoint;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class TransportDatasetTest {
+    @Test
+    public void testRoundTrip() throws IOException {
+        HashMap<WorldPoint, Set<Transport>> transports = Transport.loadAllFromResources();
+        List<Restriction> restrictions = Restriction.loadAllFromResources();
+        assertFalse(transports.isEmpty());
+
+        int sourceHash = TransportDataset.sourceHash();
+        TransportDataset dataset = read(write(transports, restrictions, sourceHash), sourceHash);
+        assertNotNull(dataset);
+
+        assertEquals(transports.keySet(), dataset.getTransports().keySet());
+        for (Map.Entry<WorldPoint, Set<Transport>> entry : transports.entrySet()) {
+            assertEquals(String.valueOf(entry.getKey()),
+                    describeTransports(entry.getValue()), describeTransports(dataset.getTransports().get(entry.getKey())));
+        }
+        assertEquals(describeRestrictions(restrictions), describeRestrictions(dataset.getRestrictions()));
+    }
+
+    @Test
+    public void testSourceHashMismatch() throws IOException {
+        int sourceHash = TransportDataset.sourceHash();
+        byte[] data = write(Transport.loadAllFromResources(), Restriction.loadAllFromResources(), sourceHash);
+        assertNull(read(data, sourceHash + 1));
+    }
+
+    private static byte[] write(Map<WorldPoint, Set<Transport>> transports, List<Restriction> restrictions,
+                                int sourceHash) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        TransportDataset.write(transports, restrictions, sourceHash, os);
+        return os.toByteArray();
+    }
+
+    private static TransportDataset read(byte[] data, int sourceHash) throws IOException {
+        return TransportDataset.read(new DataInputStream(new ByteArrayInputStream(data)), sourceHash);
+    }
+
+    // transports and restrictions compare by identity, so compare sorted descriptions of every field instead
+    private static List<String> describeTransports(Set<Transport> transports) {
+        return transports.stream()
+                .map(t -> String.join("|", String.valueOf(t.getOrigin()), String.valueOf(t.getDestination()),
+                        String.valueOf(t.getType()), String.valueOf(t.getDuration()), t.getDisplayInfo(),
+                        String.valueOf(t.isConsumable()), String.valueOf(t.getMaxWildernessLevel()),
+                        String.valueOf(t.isMembers()), t.getAction(), String.valueOf(t.getObjectId()), t.getName(),
+                        t.getCurrencyName(), String.valueOf(t.getCurrencyAmount()),
+                        describeRequirements(t.getSkillLevels(), t.getQuests(), t.getItemIdRequirements(),
+                                t.getVarbits(), t.getVarplayers())))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> describeRestrictions(List<Restriction> restrictions) {
+        return restrictions.stream()
+                .map(r -> String.join("|", String.valueOf(r.getPackedWorldPoint()), String.valueOf(r.isMembers()),
+                        describeRequirements(r.getSkillLevels(), r.getQuests(), r.getItemIdRequirements(),
+                                r.getVarbits(), r.getVarplayers())))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static String describeRequirements(int[] skillLevels, Map<?, ?> quests, Set<Set<Integer>> items,
+                                               Set<?> varbits, Set<?> varplayers) {
+        return String.join("|", Arrays.toString(skillLevels), new TreeMap<>(quests).toString(),
+                sorted(items.stream().map(ids -> new TreeSet<>(ids).toString())),
+                sorted(varbits.stream().map(Object::toString)), sorted(varplayers.stream().map(Object::toString)));
+    }
+
+    private static String sorted(Stream<String> values) {
+        return values.sorted().collect(Collectors.toList()).toString();
+    }
+}
@@ -0,0 +1,58 @@
+package net.runelite.client.plugins.microbot.util.bank;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class BankSnapshotStoreTest {
+    @Test
+    public void testRoundTrip() {
+        int[] bank = {
+                995, 1_000_000, 0,
+                1511, 27, 1,
+                1513, 1, 2,
+        };
+        assertArrayEquals(bank, BankSnapshotStore.decode(BankSnapshotStore.encode(bank)));
+    }
+
+    @Test
+    public void testEmpty() {
+        int[] bank = {};
+        assertArrayEquals(bank, BankSnapshotStore.decode(BankSnapshotStore.encode(bank)));
+    }
+
+    @Test
+    public void testNonMonotonicIdsAndSlotGaps() {
+        // ids and slots going down encode as negative zigzag deltas
+        int[] bank = {
+                30_000, 5, 10,
+                2, Integer.MAX_VALUE, 3,
+                2, 1, 400,
+                27_000, 0, 0,
+                0, 1, 816,
+        };
+        assertArrayEquals(bank, BankSnapshotStore.decode(BankSnapshotStore.encode(bank)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCorruptChecksum() {
+        byte[] bytes = BankSnapshotStore.encode(new int[]{995, 100, 0, 1511, 27, 1});
+        bytes[bytes.length - 1] ^= 1;
+        BankSnapshotStore.decode(bytes);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCorruptPayload() {
+        byte[] bytes = BankSnapshotStore.encode(new int[]{995, 100, 0, 1511, 27, 1});
+        bytes[6] ^= 0x40;
+        BankSnapshotStore.decode(bytes);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncated() {
+        byte[] bytes = BankSnapshotStore.encode(new int[]{995, 100, 0});
+        BankSnapshotStore.decode(Arrays.copyOf(bytes, bytes.length - 3));
+    }
+}
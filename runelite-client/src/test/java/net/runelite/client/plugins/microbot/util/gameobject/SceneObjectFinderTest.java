@@ -0,0 +1,62 @@
+package net.runelite.client.plugins.microbot.util.gameobject;
+
+import net.runelite.api.Constants;
+import net.runelite.api.Perspective;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.api.coords.LocalPoint;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SceneObjectFinderTest {
+    private static final int TILE = Perspective.LOCAL_TILE_SIZE;
+
+    private final Tile[][] plane = new Tile[Constants.SCENE_SIZE][Constants.SCENE_SIZE];
+    private final Map<Tile, Collection<TileObject>> objects = new HashMap<>();
+
+    @Test
+    public void testOffCentreAnchorFindsNearerObjectOnNextRing() {
+        // on the west edge of tile (50, 50), so ring 1 to the west starts right next to it
+        LocalPoint anchor = new LocalPoint(50 * TILE, 50 * TILE + TILE / 2);
+        place(50, 50, centre(50, 50));
+        TileObject nearest = place(49, 50, new LocalPoint(49 * TILE + TILE - 1, 50 * TILE + TILE / 2));
+
+        assertSame(nearest, nearest(anchor));
+    }
+
+    @Test
+    public void testTiesResolveInScanOrder() {
+        // both tile centres are half a tile away, a scan of the scene finds the one to the west first
+        LocalPoint anchor = new LocalPoint(50 * TILE, 50 * TILE + TILE / 2);
+        place(50, 50, centre(50, 50));
+        TileObject first = place(49, 50, centre(49, 50));
+
+        assertSame(first, nearest(anchor));
+    }
+
+    private TileObject nearest(LocalPoint anchor) {
+        return SceneObjectFinder.nearest(plane, objects::get, o -> true, anchor, 5 * TILE);
+    }
+
+    private TileObject place(int sceneX, int sceneY, LocalPoint location) {
+        Tile tile = mock(Tile.class);
+        when(tile.getLocalLocation()).thenReturn(location);
+        TileObject object = mock(TileObject.class);
+        when(object.getLocalLocation()).thenReturn(location);
+        plane[sceneX][sceneY] = tile;
+        objects.put(tile, Collections.singletonList(object));
+        return object;
+    }
+
+    private static LocalPoint centre(int sceneX, int sceneY) {
+        return new LocalPoint(sceneX * TILE + TILE / 2, sceneY * TILE + TILE / 2);
+    }
+}
@@ -0,0 +1,134 @@
+package net.runelite.client.plugins.microbot.util.grandexchange;
+
+import net.runelite.client.plugins.microbot.util.grandexchange.models.ItemMappingData;
+import net.runelite.client.plugins.microbot.util.grandexchange.models.WikiPrice;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WikiPriceServiceTest {
+    private static final String LATEST = "{\"data\":{"
+            + "\"2\":{\"high\":210,\"highTime\":1700000000,\"low\":195,\"lowTime\":1700000000},"
+            + "\"4151\":{\"high\":1500000,\"highTime\":1700000000,\"low\":null,\"lowTime\":null}}}";
+
+    @Rule
+    public final MockWebServer server = new MockWebServer();
+
+    private WikiPriceService service;
+
+    @Before
+    public void before() {
+        Properties properties = new Properties();
+        properties.setProperty(WikiPriceService.BASE_URL_PROPERTY, server.url("/api").toString());
+        service = new WikiPriceService(WikiPriceService.baseUrl(properties));
+    }
+
+    @After
+    public void after() {
+        service.shutdown();
+    }
+
+    private RecordedRequest takeRequest() throws InterruptedException {
+        RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+        assertNotNull(request);
+        return request;
+    }
+
+    @Test
+    public void testBaseUrl() {
+        assertEquals(WikiPriceService.DEFAULT_BASE_URL, WikiPriceService.baseUrl(new Properties()));
+    }
+
+    @Test
+    public void testLatest() throws InterruptedException {
+        server.enqueue(new MockResponse().setBody(LATEST));
+
+        // the offer price is the instant buy price, the wiki's high
+        assertEquals(210, service.getHighPrice(2));
+        WikiPrice price = service.getPrice(2);
+        assertEquals(210, price.buyPrice);
+        assertEquals(195, price.sellPrice);
+        assertEquals(1500000, service.getHighPrice(4151));
+        assertNull(service.getPrice(4151));
+        assertEquals(-1, service.getHighPrice(3));
+        assertEquals(-1, service.getHighPrice(100000));
+
+        assertEquals("/api/latest", takeRequest().getPath());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void testRevalidation() throws Exception {
+        server.enqueue(new MockResponse().setBody(LATEST)
+                .setHeader("ETag", "\"v1\"")
+                .setHeader("Last-Modified", "Wed, 01 Jan 2025 00:00:00 GMT"));
+        server.enqueue(new MockResponse().setResponseCode(304));
+        server.enqueue(new MockResponse().setBody("{\"data\":{\"2\":{\"high\":220,\"low\":200}}}")
+                .setHeader("ETag", "\"v2\""));
+
+        assertEquals(210, service.getHighPrice(2));
+        RecordedRequest first = takeRequest();
+        assertNull(first.getHeader("If-None-Match"));
+        assertNull(first.getHeader("If-Modified-Since"));
+
+        // not modified, the snapshot is kept
+        service.refreshLatest().get(5, TimeUnit.SECONDS);
+        RecordedRequest second = takeRequest();
+        assertEquals("\"v1\"", second.getHeader("If-None-Match"));
+        assertEquals("Wed, 01 Jan 2025 00:00:00 GMT", second.getHeader("If-Modified-Since"));
+        assertEquals(210, service.getHighPrice(2));
+
+        // a 304 carries no validators, so the next request still uses the first response's
+        service.refreshLatest().get(5, TimeUnit.SECONDS);
+        assertEquals("\"v1\"", takeRequest().getHeader("If-None-Match"));
+        // a modified response replaces the whole snapshot
+        assertEquals(220, service.getHighPrice(2));
+        assertEquals(-1, service.getHighPrice(4151));
+    }
+
+    @Test
+    public void testMapping() throws InterruptedException {
+        server.enqueue(new MockResponse().setBody("["
+                + "{\"examine\":\"Lovely money!\",\"id\":995,\"members\":false,\"lowalch\":null,\"value\":1,"
+                + "\"highalch\":null,\"icon\":\"Coins_10000.png\",\"name\":\"Coins\"},"
+                + "{\"examine\":\"A vicious whip.\",\"id\":4151,\"members\":true,\"lowalch\":48000,\"limit\":70,"
+                + "\"value\":120001,\"highalch\":72000,\"icon\":\"Abyssal whip.png\",\"name\":\"Abyssal whip\","
+                + "\"unknown\":{\"nested\":[1,2]}},"
+                + "{\"name\":\"No id\"}"
+                + "]"));
+
+        ItemMappingData whip = service.getMapping(4151);
+        assertEquals(4151, whip.itemId);
+        assertEquals("Abyssal whip", whip.name);
+        assertEquals("A vicious whip.", whip.examine);
+        assertTrue(whip.members);
+        assertEquals(70, whip.tradeLimitPer4Hours);
+        assertEquals(120001, whip.value);
+        assertEquals(48000, whip.lowAlch);
+        assertEquals(72000, whip.highAlch);
+        assertEquals("Abyssal whip.png", whip.icon);
+
+        ItemMappingData coins = service.getMapping(995);
+        assertFalse(coins.members);
+        assertEquals(-1, coins.tradeLimitPer4Hours);
+        assertEquals(0, coins.lowAlch);
+        assertEquals(0, coins.highAlch);
+
+        assertNull(service.getMapping(996));
+        assertNull(service.getMapping(5000));
+        assertEquals("/api/mapping", takeRequest().getPath());
+    }
+}
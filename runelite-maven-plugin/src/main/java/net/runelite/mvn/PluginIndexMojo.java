@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2025, Microbot
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.mvn;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.TreeSet;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Writes an index of the plugin classes in the compiled output, so the client does not have to load
+ * every class under the plugin package at startup to find them.
+ * <p>
+ * Each line holds the binary name of a top level class that either extends {@code Plugin} or is annotated
+ * with {@code @PluginDescriptor}. The client orders plugins by their {@code @PluginDependency} annotations
+ * once loaded, so dependencies are not indexed. Class files are read directly, so nothing from the project
+ * is loaded into the build.
+ */
+@Mojo(
+	name = "plugin-index",
+	defaultPhase = LifecyclePhase.PROCESS_CLASSES
+)
+public class PluginIndexMojo extends AbstractMojo
+{
+	private static final String PLUGIN = "net/runelite/client/plugins/Plugin";
+	private static final String PLUGIN_DESCRIPTOR = "Lnet/runelite/client/plugins/PluginDescriptor;";
+
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File classesDirectory;
+
+	@Parameter(defaultValue = "net.runelite.client.plugins")
+	private String pluginPackage;
+
+	@Parameter(required = true)
+	private File indexFile;
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException
+	{
+		File root = new File(classesDirectory, pluginPackage.replace('.', File.separatorChar));
+		if (!root.isDirectory())
+		{
+			throw new MojoExecutionException("plugin package " + pluginPackage + " not found in " + classesDirectory);
+		}
+
+		// sorted so the index is reproducible
+		Set<String> plugins = new TreeSet<>();
+		scan(root, plugins);
+
+		indexFile.getParentFile().mkdirs();
+		try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(indexFile.toPath(), StandardCharsets.UTF_8)))
+		{
+			for (String plugin : plugins)
+			{
+				out.print(plugin);
+				out.print('\n');
+			}
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("unable to write plugin index", ex);
+		}
+
+		getLog().info("Indexed " + plugins.size() + " plugins");
+	}
+
+	private void scan(File dir, Set<String> plugins) throws MojoExecutionException
+	{
+		File[] files = dir.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		for (File file : files)
+		{
+			String name = file.getName();
+			if (file.isDirectory())
+			{
+				scan(file, plugins);
+			}
+			// only top level classes can be plugins
+			else if (name.endsWith(".class") && name.indexOf('$') == -1 && !name.equals("package-info.class"))
+			{
+				try (InputStream in = new BufferedInputStream(new FileInputStream(file)))
+				{
+					ClassInfo info = ClassInfo.read(new DataInputStream(in));
+					if (info.descriptor || PLUGIN.equals(info.superName))
+					{
+						plugins.add(info.name.replace('/', '.'));
+					}
+				}
+				catch (IOException ex)
+				{
+					throw new MojoExecutionException("unable to read class file " + file, ex);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The parts of a class file needed for the index.
+	 */
+	private static final class ClassInfo
+	{
+		private String name;
+		private String superName;
+		private boolean descriptor;
+
+		private Object[] pool;
+
+		static ClassInfo read(DataInputStream in) throws IOException
+		{
+			if (in.readInt() != 0xCAFEBABE)
+			{
+				throw new IOException("not a class file");
+			}
+			in.readUnsignedShort(); // minor
+			in.readUnsignedShort(); // major
+
+			ClassInfo info = new ClassInfo();
+			info.readConstantPool(in);
+
+			in.readUnsignedShort(); // access flags
+			info.name = info.className(in.readUnsignedShort());
+			int superIndex = in.readUnsignedShort();
+			info.superName = superIndex == 0 ? null : info.className(superIndex);
+
+			skip(in, in.readUnsignedShort() * 2); // interfaces
+			skipMembers(in); // fields
+			skipMembers(in); // methods
+
+			int attributes = in.readUnsignedShort();
+			for (int i = 0; i < attributes; ++i)
+			{
+				String attribute = (String) info.pool[in.readUnsignedShort()];
+				int length = in.readInt();
+				if ("RuntimeVisibleAnnotations".equals(attribute))
+				{
+					int annotations = in.readUnsignedShort();
+					for (int j = 0; j < annotations; ++j)
+					{
+						info.readAnnotation(in);
+					}
+				}
+				else
+				{
+					skip(in, length);
+				}
+			}
+			return info;
+		}
+
+		private void readConstantPool(DataInputStream in) throws IOException
+		{
+			int count = in.readUnsignedShort();
+			pool = new Object[count];
+			for (int i = 1; i < count; ++i)
+			{
+				int tag = in.readUnsignedByte();
+				switch (tag)
+				{
+					case 1: // Utf8
+						pool[i] = in.readUTF();
+						break;
+					case 7: // Class, stored as the index of its name
+						pool[i] = in.readUnsignedShort();
+						break;
+					case 8: // String
+					case 16: // MethodType
+					case 19: // Module
+					case 20: // Package
+						skip(in, 2);
+						break;
+					case 15: // MethodHandle
+						skip(in, 3);
+						break;
+					case 3: // Integer
+					case 4: // Float
+					case 9: // Fieldref
+					case 10: // Methodref
+					case 11: // InterfaceMethodref
+					case 12: // NameAndType
+					case 17: // Dynamic
+					case 18: // InvokeDynamic
+						skip(in, 4);
+						break;
+					case 5: // Long
+					case 6: // Double
+						skip(in, 8);
+						++i; // takes two slots
+						break;
+					default:
+						throw new IOException("unknown constant pool tag " + tag);
+				}
+			}
+		}
+
+		private String className(int index)
+		{
+			return (String) pool[(Integer) pool[index]];
+		}
+
+		private void readAnnotation(DataInputStream in) throws IOException
+		{
+			String type = (String) pool[in.readUnsignedShort()];
+			if (PLUGIN_DESCRIPTOR.equals(type))
+			{
+				descriptor = true;
+			}
+
+			skipElementValuePairs(in);
+		}
+
+		private static void skipElementValuePairs(DataInputStream in) throws IOException
+		{
+			int pairs = in.readUnsignedShort();
+			for (int i = 0; i < pairs; ++i)
+			{
+				in.readUnsignedShort(); // element name
+				skipElementValue(in);
+			}
+		}
+
+		private static void skipElementValue(DataInputStream in) throws IOException
+		{
+			int tag = in.readUnsignedByte();
+			switch (tag)
+			{
+				case 'e':
+					skip(in, 4);
+					break;
+				case '@':
+					skip(in, 2); // type
+					skipElementValuePairs(in);
+					break;
+				case '[':
+				{
+					int values = in.readUnsignedShort();
+					for (int i = 0; i < values; ++i)
+					{
+						skipElementValue(in);
+					}
+					break;
+				}
+				default:
+					skip(in, 2);
+					break;
+			}
+		}
+
+		private static void skipMembers(DataInputStream in) throws IOException
+		{
+			int members = in.readUnsignedShort();
+			for (int i = 0; i < members; ++i)
+			{
+				skip(in, 6); // access flags, name, descriptor
+				int attributes = in.readUnsignedShort();
+				for (int j = 0; j < attributes; ++j)
+				{
+					skip(in, 2);
+					skip(in, in.readInt());
+				}
+			}
+		}
+
+		private static void skip(DataInputStream in, int n) throws IOException
+		{
+			while (n > 0)
+			{
+				int skipped = in.skipBytes(n);
+				if (skipped <= 0)
+				{
+					throw new IOException("truncated class file");
+				}
+				n -= skipped;
+			}
+		}
+	}
+}